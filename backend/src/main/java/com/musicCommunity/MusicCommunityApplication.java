@@ -1,23 +1,34 @@
 package com.musicCommunity;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.Map;
+
 @EnableCaching
+@EnableScheduling
 @SpringBootApplication
 public class MusicCommunityApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(MusicCommunityApplication.class, args);
+		SpringApplication application = new SpringApplication(MusicCommunityApplication.class);
+		// 로드밸런서 뒤에서도 request.getRemoteAddr()가 실제 클라이언트 IP가 되도록 Tomcat RemoteIpValve를 켭니다.
+		// X-Forwarded-For는 내부망(사설 IP) 프록시가 보낸 경우에만 믿으므로, 외부에서 헤더를 위조해도 IP 기준 속도 제한을 피할 수 없습니다.
+		// (기본값일 뿐이며 application.properties의 server.forward-headers-strategy가 우선합니다)
+		application.setDefaultProperties(Map.of("server.forward-headers-strategy", "native"));
+		application.run(args);
 	}
 
+	// strength(cost)를 올리면 기존 해시는 다음 로그인 때 새 비용으로 다시 저장됩니다.
 	@Bean
-	public PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
+	public PasswordEncoder passwordEncoder(@Value("${auth.bcrypt.strength:10}") int strength) {
+		return new BCryptPasswordEncoder(strength);
 	}
 
 }
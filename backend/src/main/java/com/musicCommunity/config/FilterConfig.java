@@ -1,6 +1,9 @@
 package com.musicCommunity.config;
 
 import com.musicCommunity.filter.ManualJwtFilter;
+import com.musicCommunity.filter.RateLimitFilter;
+import com.musicCommunity.service.TokenRevocationService;
+import org.redisson.api.RedissonClient;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,10 +13,17 @@ import jakarta.servlet.Filter;
 public class FilterConfig {
 
     private final JwtUtil jwtUtil;
+    private final TokenRevocationService tokenRevocationService;
+    private final RedissonClient redissonClient;
+    private final RateLimitProperties rateLimitProperties;
 
     // JwtUtil 주입
-    public FilterConfig(JwtUtil jwtUtil) {
+    public FilterConfig(JwtUtil jwtUtil, TokenRevocationService tokenRevocationService,
+                        RedissonClient redissonClient, RateLimitProperties rateLimitProperties) {
         this.jwtUtil = jwtUtil;
+        this.tokenRevocationService = tokenRevocationService;
+        this.redissonClient = redissonClient;
+        this.rateLimitProperties = rateLimitProperties;
     }
 
     @Bean
@@ -21,7 +31,7 @@ public class FilterConfig {
         FilterRegistrationBean<Filter> registration = new FilterRegistrationBean<>();
 
         // ManualJwtFilter 인스턴스 생성 및 JwtUtil 주입
-        registration.setFilter(new ManualJwtFilter(jwtUtil));
+        registration.setFilter(new ManualJwtFilter(jwtUtil, tokenRevocationService));
 
         // 필터가 적용될 URL 패턴 설정 (모든 /api/ 경로 또는 보호해야 할 경로에 적용)
         // 예시: 예약 관련 경로만 보호한다고 가정
@@ -32,4 +42,17 @@ public class FilterConfig {
 
         return registration;
     }
-}
\ No newline at end of file
+
+    @Bean
+    public FilterRegistrationBean<Filter> rateLimitFilterRegistration() {
+        FilterRegistrationBean<Filter> registration = new FilterRegistrationBean<>();
+
+        registration.setFilter(new RateLimitFilter(redissonClient, rateLimitProperties));
+        registration.addUrlPatterns("/*");
+
+        // JWT 필터 다음에 실행되어야 로그인 사용자 기준으로 버킷을 나눌 수 있습니다.
+        registration.setOrder(2);
+
+        return registration;
+    }
+}
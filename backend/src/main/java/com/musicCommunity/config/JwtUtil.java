@@ -1,26 +1,44 @@
 package com.musicCommunity.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.musicCommunity.dto.UserDto;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.Cookie;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
+import java.time.Duration;
 import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
+@Slf4j
 @Component
 public class JwtUtil {
 
     // 쿠키 이름 (JWT를 담을 HTTP-Only 쿠키의 이름)
     public static final String AUTHORIZATION_HEADER = "AccessToken";
 
+    private static final String CLAIM_NICKNAME = "nickname";
+    private static final String CLAIM_ROLE = "role";
+    private static final String CLAIM_PROFILE_VERSION = "pv";
+
     @Value("${jwt.secret.key}")
     private String secretKeyBase64;
 
@@ -29,13 +47,65 @@ public class JwtUtil {
     @Value("${jwt.expiration.time}")
     private long expirationTime;
 
+    // 최근 검증한 토큰 캐시 크기 (토큰 해시 -> 사용자 ID, 토큰 만료 시각까지 유지)
+    @Value("${jwt.cache.max-size:100000}")
+    private long cacheMaxSize;
+
+    // 검증에 실패한(위조/만료) 토큰을 기억하는 시간. 같은 잘못된 쿠키로 반복 요청해도 서명 검증을 다시 하지 않습니다.
+    @Value("${jwt.cache.invalid-ttl-ms:5000}")
+    private long invalidCacheTtlMs;
+
+    @Value("${jwt.cache.invalid-max-size:10000}")
+    private long invalidCacheMaxSize;
+
     private Key key;
 
+    // 파서는 스레드 안전하므로 한 번만 만들어 재사용합니다.
+    private JwtParser parser;
+
+    private Cache<String, TokenInfo> verifiedTokens;
+
+    // 검증에 실패한 토큰 해시 (짧게만 유지)
+    private Cache<String, Boolean> invalidTokens;
+
+    /**
+     * 검증된 토큰 정보
+     * nickname, role, profileVersion은 발급 시점의 사용자 정보이며, 클레임이 없는 예전 토큰은 null입니다.
+     *
+     * @param tokenId 토큰 ID(jti). jti가 없는 예전 토큰은 토큰 해시
+     */
+    public record TokenInfo(String subject, String tokenId, long issuedAtMs, long expiresAtMs,
+                            String nickname, String role, Integer profileVersion) {}
+
     // Base64 문자열로 받은 비밀키를 실제 Key 객체로 변환
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKeyBase64);
         this.key = Keys.hmacShaKeyFor(bytes);
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new Expiry<String, TokenInfo>() {
+                    @Override
+                    public long expireAfterCreate(String tokenHash, TokenInfo token, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, token.expiresAtMs() - System.currentTimeMillis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String tokenHash, TokenInfo token, long currentTime, long currentDuration) {
+                        return expireAfterCreate(tokenHash, token, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String tokenHash, TokenInfo token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+        this.invalidTokens = Caffeine.newBuilder()
+                .maximumSize(invalidCacheMaxSize)
+                .expireAfterWrite(Duration.ofMillis(invalidCacheTtlMs))
+                .build();
     }
 
     /**
@@ -43,12 +113,29 @@ public class JwtUtil {
      * @param userId 토큰의 주체 (사용자의 DB 기본키 ID - Long 타입이지만 String으로 변환되어 넘어옴)
      */
     public String createToken(String userId) {
+        return createToken(userId, Map.of());
+    }
+
+    /**
+     * 사용자 정보(닉네임, 역할, 프로필 버전)를 클레임으로 담은 JWT 토큰 생성
+     * /api/users/me 는 DB 조회 없이 이 클레임으로 응답합니다. (프로필 버전이 캐시된 프로필과 같을 때만)
+     */
+    public String createToken(UserDto user) {
+        return createToken(String.valueOf(user.getId()), Map.of(
+                CLAIM_NICKNAME, user.getNickname(),
+                CLAIM_ROLE, user.getRole(),
+                CLAIM_PROFILE_VERSION, user.getProfileVersion()));
+    }
+
+    private String createToken(String userId, Map<String, Object> claims) {
         Date now = new Date();
         Date expirationDate = new Date(now.getTime() + expirationTime);
 
 
 
         return Jwts.builder()
+                .addClaims(claims)
+                .setId(UUID.randomUUID().toString()) // 토큰 ID(jti): 로그아웃 시 이 토큰만 폐기하기 위해 사용
                 .setSubject(userId) // 💡 Subject에 사용자 ID(String)를 저장
                 .setIssuedAt(now)
                 .setExpiration(expirationDate)
@@ -78,19 +165,54 @@ public class JwtUtil {
         return cookie;
     }
 
+    /**
+     * 토큰을 한 번만 검증하고 Subject(사용자 ID)를 돌려줍니다. 유효하지 않으면 null
+     * 최근 검증한 토큰은 캐시에서 바로 돌려주므로, 같은 세션의 요청은 서명 검증을 다시 하지 않습니다.
+     */
+    public String verify(String token) {
+        TokenInfo info = inspect(token);
+        return info == null ? null : info.subject();
+    }
+
+    /**
+     * 토큰을 검증하고 토큰 정보를 돌려줍니다. 유효하지 않으면 null
+     * (폐기 여부는 TokenRevocationService에서 따로 확인합니다.)
+     * 검증에 실패한 토큰은 jwt.cache.invalid-ttl-ms 동안 바로 null을 돌려줍니다.
+     */
+    public TokenInfo inspect(String token) {
+        String tokenHash = hash(token);
+        TokenInfo cached = verifiedTokens.getIfPresent(tokenHash);
+        if (cached != null && cached.expiresAtMs() > System.currentTimeMillis()) {
+            return cached;
+        }
+        if (invalidTokens.getIfPresent(tokenHash) != null) {
+            return null;
+        }
+
+        Claims claims = parseClaims(token);
+        if (claims == null) {
+            invalidTokens.put(tokenHash, Boolean.TRUE);
+            return null;
+        }
+        TokenInfo info = new TokenInfo(
+                claims.getSubject(),
+                claims.getId() != null ? claims.getId() : tokenHash,
+                claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : 0L,
+                claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE,
+                claims.get(CLAIM_NICKNAME, String.class),
+                claims.get(CLAIM_ROLE, String.class),
+                claims.get(CLAIM_PROFILE_VERSION, Integer.class));
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(tokenHash, info);
+        }
+        return info;
+    }
+
     /**
      * JWT 토큰 유효성 검증
      */
     public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
-        } catch (ExpiredJwtException e) {
-            System.err.println("Expired JWT token: " + e.getMessage());
-        } catch (Exception e) {
-            System.err.println("Invalid JWT token: " + e.getMessage());
-        }
-        return false;
+        return verify(token) != null;
     }
 
     /**
@@ -98,11 +220,26 @@ public class JwtUtil {
      * 이전의 getUsernameFromToken 대신 사용됩니다.
      */
     public String getSubjectFromToken(String token) { // 💡 메서드 이름 변경
+        return verify(token); // Subject는 이제 Long ID의 String 형태입니다.
+    }
+
+    private Claims parseClaims(String token) {
         try {
-            Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
-            return claims.getSubject(); // Subject는 이제 Long ID의 String 형태입니다.
+            return parser.parseClaimsJws(token).getBody();
+        } catch (ExpiredJwtException e) {
+            log.debug("Expired JWT token: {}", e.getMessage());
         } catch (Exception e) {
-            return null;
+            log.debug("Invalid JWT token: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
     }
 
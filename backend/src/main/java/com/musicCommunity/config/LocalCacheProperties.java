@@ -0,0 +1,49 @@
+package com.musicCommunity.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 2단계 캐시의 L1(JVM 로컬) 설정
+ * 예) application.properties
+ *   cache.local.default-max-size=1000
+ *   cache.local.default-ttl=5s
+ *   cache.local.caches.events.max-size=10
+ *   cache.local.caches.events.ttl=3s
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "cache.local")
+public class LocalCacheProperties {
+
+    // 별도 설정이 없는 캐시에 적용할 최대 항목 수 / TTL
+    private long defaultMaxSize = 1000;
+    private Duration defaultTtl = Duration.ofSeconds(5);
+
+    // 캐시 이름별 설정
+    private Map<String, Spec> caches = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class Spec {
+        private Long maxSize;
+        private Duration ttl;
+    }
+
+    public long maxSizeFor(String cacheName) {
+        Spec spec = caches.get(cacheName);
+        return spec != null && spec.getMaxSize() != null ? spec.getMaxSize() : defaultMaxSize;
+    }
+
+    public Duration ttlFor(String cacheName) {
+        Spec spec = caches.get(cacheName);
+        return spec != null && spec.getTtl() != null ? spec.getTtl() : defaultTtl;
+    }
+}
@@ -0,0 +1,61 @@
+package com.musicCommunity.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청 속도 제한(토큰 버킷) 설정
+ * 규칙마다 경로 패턴(Ant)과 메서드, 버킷 기준(USER: 로그인 사용자, 없으면 IP / IP), 용량과 초당 충전량을 정합니다.
+ * 요청에 맞는 규칙이 여러 개면 모두 통과해야 합니다.
+ * 입장 대기열처럼 기본으로는 꺼져 있으며, rate-limit.enabled=true로 켭니다.
+ * IP는 request.getRemoteAddr() 기준이므로, 프록시 뒤에서는 server.forward-headers-strategy(기본 native)로
+ * 믿을 수 있는 프록시의 X-Forwarded-For에서 클라이언트 IP를 가져오게 합니다.
+ * 예) application.properties
+ *   rate-limit.enabled=true
+ *   rate-limit.rules.reservations.capacity=5
+ *   rate-limit.rules.reservations.refill-per-second=1
+ *   rate-limit.rules.seats.enabled=false
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    public enum KeyType { USER, IP }
+
+    private boolean enabled = false;
+
+    // 로컬 사전 확인용 버킷을 최대 몇 개까지 메모리에 둘지
+    private long localMaxKeys = 100_000;
+
+    // 규칙 이름별 설정 (기본 규칙은 아래 값이며, 같은 이름으로 덮어쓸 수 있습니다)
+    private Map<String, Rule> rules = new LinkedHashMap<>(Map.of(
+            "reservations", new Rule(true, "/api/reservations/**", new ArrayList<>(List.of("POST")), KeyType.USER, 10, 2),
+            "seats", new Rule(true, "/api/events/*/seats/**", new ArrayList<>(List.of("GET")), KeyType.USER, 30, 5),
+            "seatmap", new Rule(true, "/api/events/*/seatmap", new ArrayList<>(List.of("GET")), KeyType.USER, 30, 5),
+            "ip", new Rule(true, "/api/**", new ArrayList<>(), KeyType.IP, 200, 50)
+    ));
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Rule {
+        private boolean enabled = true;
+        private String path;
+        private List<String> methods = new ArrayList<>(); // 비어 있으면 모든 메서드
+        private KeyType key = KeyType.IP;
+        private long capacity;          // 한 번에 보낼 수 있는 최대 요청 수
+        private double refillPerSecond; // 초당 충전되는 요청 수 (지속 가능한 속도)
+    }
+}
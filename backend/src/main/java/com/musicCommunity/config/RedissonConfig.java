@@ -11,8 +11,12 @@ import org.springframework.context.annotation.Configuration;
 @EnableCaching
 public class RedissonConfig {
 
+    /**
+     * L1(JVM 로컬) + L2(Redisson) 2단계 캐시
+     * 자주 읽히는 캐시는 Redis 왕복 없이 로컬 메모리에서 제공하고, 변경 시 토픽으로 모든 노드의 L1을 비웁니다.
+     */
     @Bean
-    public CacheManager cacheManager(RedissonClient redissonClient) {
-        return new RedissonSpringCacheManager(redissonClient);
+    public CacheManager cacheManager(RedissonClient redissonClient, LocalCacheProperties localCacheProperties) {
+        return new TwoLevelCacheManager(new RedissonSpringCacheManager(redissonClient), redissonClient, localCacheProperties);
     }
 }
@@ -0,0 +1,34 @@
+package com.musicCommunity.config;
+
+import com.musicCommunity.service.SeatConcurrencyMode;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 좌석 동시성 제어 방식 설정
+ * REDIS_BITMAP 이외의 방식은 단건 예약에만 적용되며, 해당 이벤트는 좌석 홀드/다중 좌석 예매/자동 배정을 받지 않습니다.
+ * 예) application.properties
+ *   reservation.concurrency.default-mode=REDIS_BITMAP
+ *   reservation.concurrency.events.200=PESSIMISTIC_LOCK
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "reservation.concurrency")
+public class SeatConcurrencyProperties {
+
+    // 별도 설정이 없는 이벤트에 적용할 기본 방식
+    private SeatConcurrencyMode defaultMode = SeatConcurrencyMode.REDIS_BITMAP;
+
+    // 이벤트 ID별 방식 (공연장 규모에 따라 선택)
+    private Map<Long, SeatConcurrencyMode> events = new HashMap<>();
+
+    public SeatConcurrencyMode modeFor(Long eventId) {
+        return events.getOrDefault(eventId, defaultMode);
+    }
+}
@@ -0,0 +1,138 @@
+package com.musicCommunity.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+
+/**
+ * L1(Caffeine, JVM 로컬) + L2(Redisson) 2단계 캐시
+ * 조회는 L1 → L2 순서로 하고, L2에서 읽은 값은 L1에 채웁니다.
+ * 값이 바뀌는 연산(put/evict/clear)은 L2에 반영한 뒤, 다른 노드가 자신의 L1을 비우도록 무효화 메시지를 발행합니다.
+ *
+ * 무효화 메시지보다 먼저 L2에서 읽은 값이 L1에 남을 수 있으므로, L1에는 짧은 TTL을 둡니다.
+ */
+public class TwoLevelCache implements Cache {
+
+    // null 값도 캐시할 수 있도록 ValueWrapper를 그대로 보관합니다. (키는 노드 간 비교를 위해 문자열로 통일)
+    private final com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> local;
+    private final Cache remote;
+    private final BiConsumer<String, String> invalidationPublisher;
+
+    public TwoLevelCache(Cache remote, LocalCacheProperties properties, BiConsumer<String, String> invalidationPublisher) {
+        this.remote = remote;
+        this.invalidationPublisher = invalidationPublisher;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(properties.maxSizeFor(remote.getName()))
+                .expireAfterWrite(properties.ttlFor(remote.getName()))
+                .build();
+    }
+
+    @Override
+    public String getName() {
+        return remote.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        ValueWrapper cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        ValueWrapper loaded = remote.get(key);
+        if (loaded != null) {
+            local.put(localKey, new SimpleValueWrapper(loaded.get()));
+        }
+        return loaded;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값의 타입이 맞지 않습니다: " + type.getName());
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        ValueWrapper cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+
+        // L2의 동기 적재(@Cacheable(sync = true))를 그대로 사용합니다.
+        T value = remote.get(key, valueLoader);
+        local.put(localKey, new SimpleValueWrapper(value));
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        local.put(localKey(key), new SimpleValueWrapper(value));
+        invalidationPublisher.accept(getName(), localKey(key));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        local.invalidate(localKey(key));
+        if (existing == null) {
+            invalidationPublisher.accept(getName(), localKey(key));
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.invalidate(localKey(key));
+        invalidationPublisher.accept(getName(), localKey(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = remote.evictIfPresent(key);
+        local.invalidate(localKey(key));
+        invalidationPublisher.accept(getName(), localKey(key));
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        invalidationPublisher.accept(getName(), null);
+    }
+
+    /**
+     * 다른 노드에서 받은 무효화 메시지를 L1에만 반영합니다.
+     * @param localKey 무효화할 키, null이면 전체
+     */
+    void invalidateLocal(String localKey) {
+        if (localKey == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(localKey);
+        }
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
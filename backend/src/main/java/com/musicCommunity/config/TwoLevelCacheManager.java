@@ -0,0 +1,68 @@
+package com.musicCommunity.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 2단계 CacheManager
+ * Redisson CacheManager(L2) 앞에 노드별 L1을 두고, L1 무효화를 Redis 토픽(cache:invalidate)으로 모든 노드에 전파합니다.
+ *
+ * 메시지 형식: nodeId|cacheName|key (key가 비어 있으면 캐시 전체)
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager {
+
+    private static final String TOPIC = "cache:invalidate";
+
+    private final CacheManager remote;
+    private final LocalCacheProperties properties;
+    private final RTopic topic;
+    // 자기 자신이 보낸 메시지는 이미 L1에 반영했으므로 건너뜁니다.
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remote, RedissonClient redissonClient, LocalCacheProperties properties) {
+        this.remote = remote;
+        this.properties = properties;
+        this.topic = redissonClient.getTopic(TOPIC, StringCodec.INSTANCE);
+        this.topic.addListener(String.class, (channel, message) -> onInvalidation(message));
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, cacheName -> {
+            Cache remoteCache = remote.getCache(cacheName);
+            return remoteCache == null ? null : new TwoLevelCache(remoteCache, properties, this::publishInvalidation);
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remote.getCacheNames();
+    }
+
+    private void publishInvalidation(String cacheName, String key) {
+        topic.publishAsync(nodeId + "|" + cacheName + "|" + (key == null ? "" : key));
+    }
+
+    private void onInvalidation(String message) {
+        String[] parts = message.split("\\|", 3);
+        if (parts.length < 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        TwoLevelCache cache = caches.get(parts[1]);
+        if (cache != null) {
+            cache.invalidateLocal(parts[2].isEmpty() ? null : parts[2]);
+        }
+    }
+}
@@ -16,7 +16,7 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS")
                 .allowCredentials(true)
                 .allowedHeaders("*")
-                .exposedHeaders("Authorization", "Set-Cookie")
+                .exposedHeaders("Authorization", "Set-Cookie", "Idempotent-Replayed")
                 .maxAge(3600);
     }
 }
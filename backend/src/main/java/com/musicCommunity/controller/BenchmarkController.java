@@ -0,0 +1,53 @@
+package com.musicCommunity.controller;
+
+import com.musicCommunity.dto.SeatBenchmarkResultDto;
+import com.musicCommunity.service.SeatConcurrencyBenchmark;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 좌석 동시성 전략 비교 벤치마크 실행 엔드포인트
+ * 실제 DB/Redis에 임시 이벤트와 예약을 만들기 때문에 기본적으로 꺼져 있습니다.
+ * (reservation.benchmark.enabled=true 로 켭니다)
+ */
+@RestController
+@RequestMapping("/api/benchmark")
+@RequiredArgsConstructor
+public class BenchmarkController {
+
+    private final SeatConcurrencyBenchmark seatConcurrencyBenchmark;
+
+    @Value("${reservation.benchmark.enabled:false}")
+    private boolean enabled;
+
+    /**
+     * POST /api/benchmark/seat-concurrency?seats=100&threads=50&attempts=2000
+     * 모든 전략을 같은 조건으로 차례대로 실행하고 결과를 반환합니다.
+     */
+    @PostMapping("/seat-concurrency")
+    public ResponseEntity<?> runSeatConcurrencyBenchmark(
+            @RequestParam(defaultValue = "100") int seats,
+            @RequestParam(defaultValue = "50") int threads,
+            @RequestParam(defaultValue = "2000") int attempts,
+            HttpServletRequest request) {
+
+        if (!enabled) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+
+        String authenticatedUserStr = (String) request.getAttribute("authenticatedUser");
+        if (authenticatedUserStr == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("인증된 사용자 정보를 찾을 수 없습니다.");
+        }
+
+        List<SeatBenchmarkResultDto> results =
+                seatConcurrencyBenchmark.runAll(Long.parseLong(authenticatedUserStr), seats, threads, attempts);
+        return ResponseEntity.ok(results);
+    }
+}
@@ -3,13 +3,24 @@ package com.musicCommunity.controller;
 
 import com.musicCommunity.domain.Seat;
 import com.musicCommunity.dto.EventDto;
+import com.musicCommunity.dto.SeatGenerationProgressDto;
+import com.musicCommunity.dto.SeatMapDto;
 import com.musicCommunity.service.EventService;
+import com.musicCommunity.service.SeatChangeStreamService;
+import com.musicCommunity.service.SeatCounterService;
+import com.musicCommunity.service.SeatGenerationService;
+import com.musicCommunity.service.SeatMapService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/events")
@@ -17,6 +28,10 @@ import java.util.List;
 public class EventController {
 
     private final EventService eventService;
+    private final SeatChangeStreamService seatChangeStreamService;
+    private final SeatMapService seatMapService;
+    private final SeatCounterService seatCounterService;
+    private final SeatGenerationService seatGenerationService;
 
 
     /**
@@ -26,8 +41,8 @@ public class EventController {
      */
     @GetMapping
     public ResponseEntity<List<EventDto>> getAllEvents() {
-        // Service 계층을 호출하여 Event 목록을 가져옵니다.
-        List<EventDto> events = eventService.findAllEvents();
+        // 캐시된 Event 목록(메타데이터)에 잔여 좌석 카운터를 채웁니다.
+        List<EventDto> events = seatCounterService.withAvailableSeats(eventService.findAllEvents());
 
         // HTTP 200 OK 응답과 함께 이벤트 목록을 JSON 형태로 반환합니다.
         return ResponseEntity.ok(events);
@@ -59,12 +74,82 @@ public class EventController {
         return ResponseEntity.ok(seats);
     }
 
+    /**
+     * GET /api/events/{eventId}/seatmap
+     * 압축 좌석 맵을 조회합니다. 좌석 버전을 ETag로 내려주며,
+     * If-None-Match가 현재 버전과 같으면 본문 없이 304 Not Modified를 반환합니다.
+     * @param eventId 좌석을 조회할 이벤트의 ID
+     * @return 압축 좌석 맵 (SeatMapDto) 또는 304
+     */
+    @GetMapping("/{eventId}/seatmap")
+    public ResponseEntity<SeatMapDto> getSeatMap(@PathVariable Long eventId, WebRequest webRequest) {
+        long version = seatMapService.currentVersion(eventId);
+        String etag = SeatMapService.etagOf(eventId, version);
+        if (webRequest.checkNotModified(etag)) {
+            return null; // 304 응답은 checkNotModified가 설정합니다.
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache()) // 브라우저가 매번 ETag로 재검증
+                .body(seatMapService.getSeatMap(eventId, version));
+    }
+
+    /**
+     * GET /api/events/{eventId}/seats/lookup?section=VIP&row=A&number=12
+     * (구역, 열, 번호)로 좌석 ID를 찾습니다. 좌석 맵의 배치 인덱스로 계산하므로 좌석 목록을 조회/정렬하지 않습니다.
+     * @return {"seatId": ...}, 배치에 없는 좌석이면 404
+     */
+    @GetMapping("/{eventId}/seats/lookup")
+    public ResponseEntity<Map<String, Long>> lookupSeat(@PathVariable Long eventId,
+                                                        @RequestParam String section,
+                                                        @RequestParam String row,
+                                                        @RequestParam int number) {
+        Long seatId = seatMapService.findSeatId(eventId, section, row, number);
+        if (seatId == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(Map.of("seatId", seatId));
+    }
+
+    /**
+     * GET /api/events/{eventId}/seats/stream
+     * 좌석 변경 스트림(SSE)을 구독합니다.
+     * 접속 직후 "snapshot" 이벤트로 전체 좌석을, 이후에는 "delta" 이벤트로 바뀐 좌석만 받습니다.
+     * @param eventId 구독할 이벤트의 ID
+     * @return SSE 연결
+     */
+    @GetMapping(value = "/{eventId}/seats/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSeats(@PathVariable Long eventId) {
+        return seatChangeStreamService.subscribe(eventId);
+    }
+
+    /**
+     * GET /api/events/{eventId}/seat-generation
+     * 대용량 좌석 생성 진행 상황을 조회합니다.
+     * @param eventId 좌석을 생성 중인 이벤트의 ID
+     * @return 진행 상황, 진행 중인 생성이 없으면 404
+     */
+    @GetMapping("/{eventId}/seat-generation")
+    public ResponseEntity<SeatGenerationProgressDto> getSeatGenerationProgress(@PathVariable Long eventId) {
+        SeatGenerationProgressDto progress = seatGenerationService.progressOf(eventId);
+        if (progress == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(progress);
+    }
+
     @PostMapping("/update")
-    public ResponseEntity<EventDto> createEvent(@RequestBody EventDto eventDto) {
+    public ResponseEntity<?> createEvent(@RequestBody EventDto eventDto) {
 
-        EventDto savedEvent = eventService.createEvent(eventDto);
+        try {
+            EventDto savedEvent = eventService.createEvent(eventDto);
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(savedEvent);
+            return ResponseEntity.status(HttpStatus.CREATED).body(savedEvent);
+        } catch (IllegalArgumentException e) {
+            // 404 Not Found: 존재하지 않는 좌석 배치
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
     }
 
     // 이벤트 상태 조절 ACTIVE / CANCELED
@@ -1,107 +1,127 @@
 package com.musicCommunity.controller;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musicCommunity.domain.Reservation;
 import com.musicCommunity.domain.Seat;
 import com.musicCommunity.dto.PaymentRequestDto;
 import com.musicCommunity.dto.PaymentResponseDto;
+import com.musicCommunity.dto.ReservationResponseDto;
+import com.musicCommunity.exception.PaymentGatewayUnavailableException;
+import com.musicCommunity.exception.ReservationPendingException;
 import com.musicCommunity.service.EventService;
-import com.siot.IamportRestClient.IamportClient;
+import com.musicCommunity.service.IdempotencyService;
+import com.musicCommunity.service.PaymentVerificationExecutor;
+import com.musicCommunity.service.PaymentWebhookService;
+import com.musicCommunity.service.PortOneClient;
+import com.musicCommunity.service.ReservationService;
+import com.musicCommunity.service.SeatHoldService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 
-import java.io.InputStream;
 import java.math.BigDecimal;
-import java.net.HttpURLConnection;
-import java.net.URL;
-import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
+@Slf4j
 @Controller
 @RequiredArgsConstructor
 @RequestMapping("/api/payment")
 public class PaymentController {
 
     private final EventService eventService;
-
-    @Value("${imp.secretKey}")
-    private String PORTONE_API_SECRET;
-
+    private final SeatHoldService seatHoldService;
+    private final IdempotencyService idempotencyService;
+    private final PortOneClient portOneClient;
+    private final PaymentVerificationExecutor verificationExecutor;
+    private final PaymentWebhookService paymentWebhookService;
+    private final ReservationService reservationService;
+
+    /**
+     * 결제 완료 검증. 클라이언트가 타임아웃 후 같은 Idempotency-Key로 재시도하면
+     * PortOne을 다시 조회하지 않고 처음 응답을 그대로 돌려줍니다.
+     *
+     * PortOne 조회는 비동기로 처리하므로, 응답을 기다리는 동안 Tomcat 스레드는 반환됩니다.
+     * 응답 뒤의 검증(DB 작업)은 PortOne 클라이언트 스레드가 아닌 결제 검증 실행기에서 수행합니다.
+     * PortOne을 지금 호출할 수 없거나(벌크헤드 초과, 서킷 열림, 타임아웃) 검증 대기열이 가득 차면 503으로 응답합니다.
+     */
     @PostMapping("/complete")
-    public ResponseEntity<?> completePayment(@RequestBody PaymentRequestDto requestDto) {
-
-        try {
-            String paymentId = requestDto.getPaymentId();
-            Long seatId = requestDto.getSeatId();
-
-            System.out.println("completePayment 진입 확인, 진입성공");
-
-            // 포트원에서 결제 단건 조회
-            PaymentResponseDto payment = getPayment(paymentId);
-
-            System.out.println("getPayment 통과 확인, 통과성공");
-
-            // DB에서 좌석 가격 가져오기
-            Seat seat = eventService.getSeat(seatId);
-            BigDecimal seatPrice = seat.getPrice();
-
-            // 포트원에서 받은 결제 금액
-            BigDecimal paidAmount = BigDecimal.valueOf(payment.getAmount().getTotal());
-
-            System.out.println("[BACK] 프론트에서 받은 amount = " + requestDto.getAmount());
-            System.out.println("[BACK] PortOne에서 받은 amount = " + payment.getAmount().getTotal());
-            System.out.println("[BACK] DB seatPrice = " + seatPrice);
-
-            // 금액 교차 검증
-            if (seatPrice.compareTo(paidAmount) != 0) {
-                throw new IllegalStateException("결제 금액이 일치하지 않습니다. 위변조 가능성이 있음");
-            }
-
-            // 결제 상태 처리
-            if ("PAID".equals(payment.getStatus())) {
-                return ResponseEntity.ok("결제 완료");
-            }
-            return ResponseEntity.ok("결제 상태: " + payment.getStatus());
+    public CompletableFuture<ResponseEntity<?>> completePayment(
+            @RequestBody PaymentRequestDto requestDto,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            HttpServletRequest request) {
 
+        String authenticatedUserStr = (String) request.getAttribute("authenticatedUser");
+        Long userId = authenticatedUserStr == null ? null : Long.valueOf(authenticatedUserStr);
 
-        } catch (Exception e) {
-            return ResponseEntity.status(400).body(e.getMessage());
-        }
-
+        return idempotencyService.executeAsync("payment", userId, idempotencyKey, requestDto,
+                () -> completePaymentOnce(requestDto, authenticatedUserStr));
     }
 
-    private PaymentResponseDto getPayment(String paymentId) throws Exception {
-
-        System.out.println("getPayment 진입확인");
-        System.out.println("요청 paymentId = " + paymentId);
-        System.out.println("🟦 PORTONE_API_SECRET = '" + PORTONE_API_SECRET + "'");
-        System.out.println("🟦 Secret length = " + PORTONE_API_SECRET.length());
+    private CompletableFuture<ResponseEntity<?>> completePaymentOnce(PaymentRequestDto requestDto, String authenticatedUserStr) {
+
+        // 포트원에서 결제 단건 조회
+        return portOneClient.getPayment(requestDto.getPaymentId())
+                .<ResponseEntity<?>>thenApplyAsync(payment -> verify(requestDto, payment, authenticatedUserStr), verificationExecutor)
+                .exceptionally(error -> {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                    if (cause instanceof PaymentGatewayUnavailableException || cause instanceof RejectedExecutionException) {
+                        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                .header(HttpHeaders.RETRY_AFTER, "1")
+                                .body(cause.getMessage());
+                    }
+                    if (cause instanceof ReservationPendingException) {
+                        // 202 Accepted: 결제 웹훅이 홀드를 예약으로 전환하는 중 (예매 내역에서 확인)
+                        return ResponseEntity.status(HttpStatus.ACCEPTED).body(cause.getMessage());
+                    }
+                    return ResponseEntity.status(400).body(cause.getMessage());
+                });
+    }
 
-        URL url = new URL("https://api.portone.io/payments/" + paymentId);
-        HttpURLConnection conn = (HttpURLConnection) url.openConnection();
+    private ResponseEntity<?> verify(PaymentRequestDto requestDto, PaymentResponseDto payment, String authenticatedUserStr) {
+        Long seatId = requestDto.getSeatId();
 
-        conn.setRequestMethod("GET");
-        conn.setRequestProperty("Authorization", "PortOne " + PORTONE_API_SECRET);
-        conn.setRequestProperty("Content-Type", "application/json");
+        // DB에서 좌석 가격 가져오기
+        Seat seat = eventService.getSeat(seatId);
+        BigDecimal seatPrice = seat.getPrice();
 
-        System.out.println("HTTP 응답 코드 = " + conn.getResponseCode());
-        System.out.println("HTTP 응답 메시지 = " + conn.getResponseMessage());
+        // 포트원에서 받은 결제 금액
+        BigDecimal paidAmount = BigDecimal.valueOf(payment.getAmount().getTotal());
 
-//        InputStream is = conn.getInputStream();
-//        String rawJson = new String(is.readAllBytes(), StandardCharsets.UTF_8);
-//        System.out.println("PortOne RAW JSON = " + rawJson);
+        log.debug("결제 금액 검증 - Payment: {}, 요청 금액: {}, PortOne 금액: {}, 좌석 가격: {}",
+                requestDto.getPaymentId(), requestDto.getAmount(), payment.getAmount().getTotal(), seatPrice);
 
-        if (conn.getResponseCode() != 200) {
-            System.out.println("conn.getResponseCode() != 200 걸림");
-            throw new IllegalStateException("PortOne 결제 조회 실패");
+        // 금액 교차 검증
+        if (seatPrice.compareTo(paidAmount) != 0) {
+            throw new IllegalStateException("결제 금액이 일치하지 않습니다. 위변조 가능성이 있음");
         }
 
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.readValue(conn.getInputStream(), PaymentResponseDto.class);
-
+        // 결제 상태 처리
+        if ("PAID".equals(payment.getStatus())) {
+            // 결제 전에 홀드해 둔 좌석이 있으면 바로 예약으로 전환
+            if (authenticatedUserStr != null && requestDto.getEventId() != null) {
+                Reservation reservation = seatHoldService.confirmPayment(requestDto.getPaymentId(),
+                        Long.valueOf(requestDto.getEventId()), seatId, Long.parseLong(authenticatedUserStr));
+                if (reservation == null) {
+                    // 결제 웹훅(또는 같은 결제의 다른 요청)이 먼저 홀드를 예약으로 전환한 경우
+                    Long reservationId = paymentWebhookService.findConfirmedReservationId(requestDto.getPaymentId());
+                    reservation = reservationId == null ? null : reservationService.getReservation(reservationId);
+                }
+                if (reservation != null) {
+                    return ResponseEntity.ok(ReservationResponseDto.from(reservation, "결제 및 예매 완료"));
+                }
+            }
+            return ResponseEntity.ok("결제 완료");
+        }
+        return ResponseEntity.ok("결제 상태: " + payment.getStatus());
     }
 
 }
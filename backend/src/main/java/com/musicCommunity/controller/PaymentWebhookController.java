@@ -0,0 +1,43 @@
+package com.musicCommunity.controller;
+
+import com.musicCommunity.service.PaymentWebhookService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * PortOne 결제 웹훅 수신
+ * 검증 후 큐에 넣기만 하고 바로 응답합니다. 실제 예약 전환은 PaymentWebhookService의 워커가 묶음으로 처리합니다.
+ * PortOne은 2xx가 아닌 응답을 받으면 웹훅을 다시 보냅니다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/payment/webhook")
+@RequiredArgsConstructor
+public class PaymentWebhookController {
+
+    private final PaymentWebhookService paymentWebhookService;
+
+    @PostMapping
+    public ResponseEntity<?> receive(
+            @RequestHeader(value = "webhook-id", required = false) String webhookId,
+            @RequestHeader(value = "webhook-timestamp", required = false) String timestamp,
+            @RequestHeader(value = "webhook-signature", required = false) String signature,
+            @RequestBody String body
+    ) {
+        try {
+            boolean queued = paymentWebhookService.accept(webhookId, timestamp, signature, body);
+            return ResponseEntity.ok(queued ? "queued" : "ignored");
+        } catch (SecurityException e) {
+            log.warn("결제 웹훅 검증 실패 - webhook-id: {}: {}", webhookId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("결제 웹훅 처리 중 오류 - webhook-id: {}", webhookId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("웹훅 처리 중 서버 오류가 발생했습니다.");
+        }
+    }
+}
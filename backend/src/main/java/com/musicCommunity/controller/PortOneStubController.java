@@ -0,0 +1,57 @@
+package com.musicCommunity.controller;
+
+import com.musicCommunity.dto.PaymentResponseDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 로컬/부하 테스트용 PortOne 스텁 서버 (portone-stub 프로필에서만 등록)
+ * portone.base-url=http://localhost:8080/portone-stub 으로 설정하면 PortOneClient가 실제 PortOne 대신 여기로 조회합니다.
+ *
+ * - PUT /portone-stub/payments/{paymentId} : 조회 시 돌려줄 결제 정보를 등록
+ * - GET /portone-stub/payments/{paymentId} : 등록된 결제를 반환 (없으면 404)
+ * - portone.stub.latency-ms / portone.stub.failure-rate 로 지연과 5xx를 흉내 내 타임아웃/서킷 브레이커 동작을 확인할 수 있습니다.
+ */
+@Profile("portone-stub")
+@RestController
+@RequestMapping("/portone-stub/payments")
+public class PortOneStubController {
+
+    @Value("${portone.stub.latency-ms:0}")
+    private long latencyMs;
+
+    @Value("${portone.stub.failure-rate:0.0}")
+    private double failureRate;
+
+    private final Map<String, PaymentResponseDto> payments = new ConcurrentHashMap<>();
+
+    @PutMapping("/{paymentId}")
+    public ResponseEntity<?> register(@PathVariable String paymentId, @RequestBody PaymentResponseDto payment) {
+        payment.setId(paymentId);
+        payments.put(paymentId, payment);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/{paymentId}")
+    public ResponseEntity<?> getPayment(@PathVariable String paymentId) throws InterruptedException {
+        if (latencyMs > 0) {
+            Thread.sleep(latencyMs);
+        }
+        if (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("message", "stub failure"));
+        }
+
+        PaymentResponseDto payment = payments.get(paymentId);
+        if (payment == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("type", "PAYMENT_NOT_FOUND"));
+        }
+        return ResponseEntity.ok(payment);
+    }
+}
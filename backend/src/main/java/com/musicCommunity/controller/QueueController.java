@@ -0,0 +1,46 @@
+package com.musicCommunity.controller;
+
+import com.musicCommunity.dto.QueueStatusDto;
+import com.musicCommunity.service.AdmissionQueueService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/queue")
+@RequiredArgsConstructor
+public class QueueController {
+
+    private final AdmissionQueueService admissionQueueService;
+
+    /**
+     * [POST] 예매 대기열 진입
+     * POST /api/queue/{eventId}
+     * 대기 토큰과 현재 순번을 반환합니다.
+     */
+    @PostMapping("/{eventId}")
+    public ResponseEntity<?> enterQueue(@PathVariable Long eventId, HttpServletRequest request) {
+        String authenticatedUserStr = (String) request.getAttribute("authenticatedUser");
+        if (authenticatedUserStr == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("인증된 사용자 정보를 찾을 수 없습니다.");
+        }
+
+        QueueStatusDto status = admissionQueueService.enter(eventId, Long.parseLong(authenticatedUserStr));
+        return ResponseEntity.ok(status);
+    }
+
+    /**
+     * [GET] 대기 순번 조회 (폴링)
+     * GET /api/queue/{eventId}/status?token=...
+     */
+    @GetMapping("/{eventId}/status")
+    public ResponseEntity<?> getQueueStatus(@PathVariable Long eventId, @RequestParam String token) {
+        try {
+            return ResponseEntity.ok(admissionQueueService.getStatus(eventId, token));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+}
@@ -2,19 +2,34 @@
 
 
     import com.musicCommunity.domain.Reservation;
+    import com.musicCommunity.dto.BatchReservationRequestDto;
+    import com.musicCommunity.dto.BestAvailableRequestDto;
+    import com.musicCommunity.dto.ReservationCommandDto;
     import com.musicCommunity.dto.ReservationDto;
     import com.musicCommunity.dto.ReservationRequestDto;
     import com.musicCommunity.dto.ReservationResponseDto;
+    import com.musicCommunity.exception.PartitionOwnershipException;
+    import com.musicCommunity.exception.ReservationOverloadedException;
+    import com.musicCommunity.exception.ReservationPendingException;
+    import com.musicCommunity.service.AdmissionQueueService;
+    import com.musicCommunity.service.BestAvailableSeatService;
+    import com.musicCommunity.service.IdempotencyService;
+    import com.musicCommunity.service.ReservationCommandService;
     import com.musicCommunity.service.ReservationService;
     import com.musicCommunity.service.UserService;
     import com.siot.IamportRestClient.IamportClient;
     import jakarta.servlet.http.HttpServletRequest;
     import lombok.RequiredArgsConstructor;
+    import org.springframework.http.HttpHeaders;
     import org.springframework.http.HttpStatus;
     import org.springframework.http.ResponseEntity;
     import org.springframework.web.bind.annotation.*;
+    import org.springframework.web.context.request.async.DeferredResult;
 
     import java.util.List;
+    import java.util.concurrent.CompletableFuture;
+    import java.util.concurrent.RejectedExecutionException;
+    import java.util.function.Supplier;
 
     @RestController
     @RequestMapping("/api/reservations")
@@ -23,6 +38,12 @@
 
         private final ReservationService reservationService;
         private final UserService userService;
+        private final AdmissionQueueService admissionQueueService;
+        private final BestAvailableSeatService bestAvailableSeatService;
+        private final IdempotencyService idempotencyService;
+        private final ReservationCommandService reservationCommandService;
+
+        private static final long MAX_COMMAND_WAIT_MS = 10_000L;
 
         // 예약 요청을 위한 DTO , POSTMAN 테스트
         public record ReservationRequest(Long userId, Long seatId, Long eventId) {}
@@ -33,12 +54,16 @@
          * ReservationService의 @Transactional + 비관적 락 로직을 호출합니다.
          *
          * @param requestDto 예약 요청 정보 (seatId, eventId 포함)
+         * @param queueToken 대기열 토큰 (대기열 사용 시 입장 허용된 토큰만 통과)
+         * @param idempotencyKey 재시도 시 같은 값을 보내면 예약을 다시 처리하지 않고 처음 응답을 돌려받습니다.
          * @param request HttpServletRequest (필터가 저장한 사용자 ID를 가져오기 위해 사용)
          * @return 생성된 예약 정보 또는 오류 메시지
          */
         @PostMapping
         public ResponseEntity<?> reserveSeat(
                 @RequestBody ReservationRequestDto requestDto,
+                @RequestHeader(value = "X-Queue-Token", required = false) String queueToken,
+                @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
                 HttpServletRequest request // JWT 필터에서 사용자 정보를 가져오기 위함
         ) {
             // 1. JWT 필터에서 인증된 사용자 ID (String 타입)를 추출합니다.
@@ -60,7 +85,20 @@
                 return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("인증 토큰의 사용자 ID 형식이 잘못되었습니다.");
             }
 
+            // 2. 같은 Idempotency-Key로 재시도한 요청이면 저장된 응답을 그대로 돌려줍니다.
+            return idempotencyService.execute("reservation", userId, idempotencyKey, requestDto,
+                    () -> reserveSeatOnce(requestDto, queueToken, userId, request));
+        }
+
+        private ResponseEntity<?> reserveSeatOnce(ReservationRequestDto requestDto, String queueToken,
+                                                  Long userId, HttpServletRequest request) {
+            // 대기열을 통과한 사용자만 예약 경로로 입장 (입장권에서 1석 차감)
+            return withAdmission(requestDto.getEventId(), userId, queueToken, 1,
+                    () -> reserveSeatAdmitted(requestDto, userId, request));
+        }
 
+        private ResponseEntity<?> reserveSeatAdmitted(ReservationRequestDto requestDto, Long userId,
+                                                      HttpServletRequest request) {
             try {
                 // 3. 인증된 userId를 DTO에 포함시켜 Service로 전달
                 //    (가정: ReservationRequestDto의 생성자가 (Long userId, Long eventId, Long seatId) 순서)
@@ -80,6 +118,19 @@
             } catch (IllegalStateException e) {
                 // 409 Conflict: 이미 예약된 좌석 (동시성 처리 결과)
                 return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+            } catch (PartitionOwnershipException e) {
+                // 307 Temporary Redirect: 이벤트 파티션을 소유한 노드로 같은 요청을 다시 보내도록 안내
+                return ResponseEntity.status(HttpStatus.TEMPORARY_REDIRECT)
+                        .header(HttpHeaders.LOCATION, e.getOwnerUrl() + request.getRequestURI())
+                        .body(e.getMessage());
+            } catch (ReservationPendingException e) {
+                // 202 Accepted: 좌석은 선점됐고 저장 결과만 지연됨 (예매 내역에서 확인)
+                return ResponseEntity.status(HttpStatus.ACCEPTED).body(e.getMessage());
+            } catch (ReservationOverloadedException e) {
+                // 503 Service Unavailable: 동시 처리 한도 초과 (좌석 상태와 무관하므로 잠시 후 재시도)
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                        .body(e.getMessage());
             } catch (RuntimeException e) {
                 // 500 Internal Server Error: 기타 서버 오류
                 return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("예약 처리 중 서버 오류가 발생했습니다.");
@@ -88,6 +139,227 @@
 
 
 
+        /**
+         * [POST] 다중 좌석 예약 엔드포인트 (전부 아니면 전무)
+         * 단체 예매 시 좌석 수만큼 요청을 보내지 않고, 한 번의 요청/트랜잭션으로 처리합니다.
+         *
+         * @param requestDto 예약 요청 정보 (eventId, seatIds 포함)
+         * @param queueToken 대기열 토큰 (대기열 사용 시 입장 허용된 토큰만 통과)
+         * @param request HttpServletRequest (필터가 저장한 사용자 ID를 가져오기 위해 사용)
+         * @return 생성된 예약 목록 또는 오류 메시지
+         */
+        @PostMapping("/batch")
+        public ResponseEntity<?> reserveSeats(
+                @RequestBody BatchReservationRequestDto requestDto,
+                @RequestHeader(value = "X-Queue-Token", required = false) String queueToken,
+                HttpServletRequest request
+        ) {
+            String authenticatedUserStr = (String) request.getAttribute("authenticatedUser");
+            if (authenticatedUserStr == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("인증된 사용자 정보를 찾을 수 없습니다.");
+            }
+
+            Long userId;
+            try {
+                userId = Long.parseLong(authenticatedUserStr);
+            } catch (NumberFormatException e) {
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("인증 토큰의 사용자 ID 형식이 잘못되었습니다.");
+            }
+
+            int seats = requestDto.getSeatIds() == null ? 0 : requestDto.getSeatIds().size();
+            return withAdmission(requestDto.getEventId(), userId, queueToken, seats, () -> {
+                try {
+                    requestDto.setUserId(userId);
+                    List<Reservation> reservations = reservationService.reserveSeats(requestDto);
+
+                    List<ReservationResponseDto> response = reservations.stream()
+                            .map(reservation -> ReservationResponseDto.from(reservation, reservations.size() + "석 예약 성공!"))
+                            .toList();
+                    return ResponseEntity.status(HttpStatus.CREATED).body(response);
+
+                } catch (IllegalArgumentException e) {
+                    return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+                } catch (IllegalStateException e) {
+                    return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+                } catch (RuntimeException e) {
+                    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("예약 처리 중 서버 오류가 발생했습니다.");
+                }
+            });
+        }
+
+        /**
+         * [POST] 최적 연속 좌석 자동 배정 엔드포인트
+         * 좌석을 직접 고르는 대신, 조건(구역/가격)에 맞는 가장 좋은 연속 좌석 count석을 서버가 골라 예약합니다.
+         * 사용자들이 자동으로 서로 다른 구간에 배정되므로 같은 좌석을 두고 충돌하는 요청이 줄어듭니다.
+         *
+         * @param requestDto 요청 정보 (eventId, count, section, price)
+         * @param queueToken 대기열 토큰 (대기열 사용 시 입장 허용된 토큰만 통과)
+         * @param request HttpServletRequest (필터가 저장한 사용자 ID를 가져오기 위해 사용)
+         * @return 생성된 예약 목록 또는 오류 메시지
+         */
+        @PostMapping("/best-available")
+        public ResponseEntity<?> reserveBestAvailable(
+                @RequestBody BestAvailableRequestDto requestDto,
+                @RequestHeader(value = "X-Queue-Token", required = false) String queueToken,
+                HttpServletRequest request
+        ) {
+            String authenticatedUserStr = (String) request.getAttribute("authenticatedUser");
+            if (authenticatedUserStr == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("인증된 사용자 정보를 찾을 수 없습니다.");
+            }
+
+            Long userId;
+            try {
+                userId = Long.parseLong(authenticatedUserStr);
+            } catch (NumberFormatException e) {
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("인증 토큰의 사용자 ID 형식이 잘못되었습니다.");
+            }
+
+            return withAdmission(requestDto.getEventId(), userId, queueToken, requestDto.getCount(), () -> {
+                try {
+                    requestDto.setUserId(userId);
+                    List<Reservation> reservations = bestAvailableSeatService.reserveBestAvailable(requestDto);
+
+                    List<ReservationResponseDto> response = reservations.stream()
+                            .map(reservation -> ReservationResponseDto.from(reservation, reservations.size() + "석 자동 배정 성공!"))
+                            .toList();
+                    return ResponseEntity.status(HttpStatus.CREATED).body(response);
+
+                } catch (IllegalArgumentException e) {
+                    return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+                } catch (IllegalStateException e) {
+                    return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+                } catch (RuntimeException e) {
+                    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("예약 처리 중 서버 오류가 발생했습니다.");
+                }
+            });
+        }
+
+        /**
+         * [POST] 비동기 예약 명령 접수 엔드포인트
+         * 락 대기와 트랜잭션을 워커 풀에서 처리하고, 요청 스레드는 commandId만 돌려주고 바로 반환됩니다.
+         * 결과는 GET /api/reservations/commands/{commandId} 로 확인합니다.
+         *
+         * @param requestDto 예약 요청 정보 (seatId, eventId 포함)
+         * @param queueToken 대기열 토큰 (대기열 사용 시 입장 허용된 토큰만 통과)
+         * @param idempotencyKey 재시도 시 같은 값을 보내면 새 명령을 만들지 않고 처음 commandId를 돌려받습니다.
+         * @param request HttpServletRequest (필터가 저장한 사용자 ID를 가져오기 위해 사용)
+         * @return 202 Accepted + 명령 상태(PENDING)
+         */
+        @PostMapping("/commands")
+        public ResponseEntity<?> submitReservationCommand(
+                @RequestBody ReservationRequestDto requestDto,
+                @RequestHeader(value = "X-Queue-Token", required = false) String queueToken,
+                @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+                HttpServletRequest request
+        ) {
+            String authenticatedUserStr = (String) request.getAttribute("authenticatedUser");
+            if (authenticatedUserStr == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("인증된 사용자 정보를 찾을 수 없습니다.");
+            }
+
+            Long userId;
+            try {
+                userId = Long.parseLong(authenticatedUserStr);
+            } catch (NumberFormatException e) {
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("인증 토큰의 사용자 ID 형식이 잘못되었습니다.");
+            }
+
+            return idempotencyService.execute("reservation-command", userId, idempotencyKey, requestDto,
+                    () -> withAdmission(requestDto.getEventId(), userId, queueToken, 1,
+                            () -> submitCommandAdmitted(requestDto, userId, queueToken)));
+        }
+
+        private ResponseEntity<?> submitCommandAdmitted(ReservationRequestDto requestDto, Long userId, String queueToken) {
+            try {
+                ReservationCommandDto command = reservationCommandService.submit(
+                        new ReservationRequestDto(userId, requestDto.getEventId(), requestDto.getSeatId()));
+
+                // 명령이 나중에 거절/실패로 끝나면 입장권에서 차감한 좌석을 되돌립니다.
+                CompletableFuture<ReservationCommandDto> completion = reservationCommandService.completionOf(command.getCommandId());
+                if (completion != null) {
+                    completion.thenAccept(done -> {
+                        if (ReservationCommandDto.REJECTED.equals(done.getStatus())
+                                || ReservationCommandDto.FAILED.equals(done.getStatus())) {
+                            admissionQueueService.release(requestDto.getEventId(), queueToken, 1);
+                        }
+                    });
+                }
+                return ResponseEntity.status(HttpStatus.ACCEPTED)
+                        .header(HttpHeaders.LOCATION, "/api/reservations/commands/" + command.getCommandId())
+                        .body(command);
+            } catch (RejectedExecutionException e) {
+                // 429 Too Many Requests: 워커 풀이 가득 참
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body("예약 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+            }
+        }
+
+        /**
+         * 대기열 입장권에서 좌석 수만큼 차감한 뒤 action을 실행합니다.
+         * 입장하지 않았거나 입장권의 좌석 한도를 다 쓴 요청은 429로 돌려보내고,
+         * 예약이 성공(2xx)으로 끝나지 않으면 차감한 좌석 수를 되돌립니다.
+         */
+        private ResponseEntity<?> withAdmission(Long eventId, Long userId, String queueToken, int seats,
+                                                Supplier<ResponseEntity<?>> action) {
+            if (!admissionQueueService.acquire(eventId, userId, queueToken, seats)) {
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body("대기열 순서가 아직 되지 않았거나 입장권으로 예약할 수 있는 좌석 수를 넘었습니다.");
+            }
+
+            ResponseEntity<?> response;
+            try {
+                response = action.get();
+            } catch (RuntimeException e) {
+                admissionQueueService.release(eventId, queueToken, seats);
+                throw e;
+            }
+            if (!response.getStatusCode().is2xxSuccessful()) {
+                admissionQueueService.release(eventId, queueToken, seats);
+            }
+            return response;
+        }
+
+        /**
+         * [GET] 비동기 예약 명령 상태 조회 엔드포인트
+         * waitMs를 주면 명령이 끝날 때까지 최대 그 시간만큼 기다렸다가 응답합니다. (long polling)
+         * 기다리는 동안에도 요청 스레드는 반환됩니다.
+         *
+         * @param commandId 명령 ID
+         * @param waitMs 완료를 기다릴 최대 시간(ms), 0이면 현재 상태를 바로 반환
+         * @return 명령 상태
+         */
+        @GetMapping("/commands/{commandId}")
+        public DeferredResult<ResponseEntity<?>> getReservationCommand(
+                @PathVariable String commandId,
+                @RequestParam(defaultValue = "0") long waitMs,
+                HttpServletRequest request
+        ) {
+            DeferredResult<ResponseEntity<?>> result = new DeferredResult<>();
+
+            String authenticatedUserStr = (String) request.getAttribute("authenticatedUser");
+            if (authenticatedUserStr == null) {
+                result.setResult(ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("인증된 사용자 정보를 찾을 수 없습니다."));
+                return result;
+            }
+            Long userId = Long.parseLong(authenticatedUserStr);
+
+            ReservationCommandDto command = reservationCommandService.find(commandId, userId);
+            if (command == null) {
+                result.setResult(ResponseEntity.status(HttpStatus.NOT_FOUND).body("예약 명령을 찾을 수 없습니다."));
+                return result;
+            }
+
+            CompletableFuture<ReservationCommandDto> completion = reservationCommandService.completionOf(commandId);
+            if (command.isDone() || waitMs <= 0 || completion == null) {
+                result.setResult(ResponseEntity.ok(command));
+                return result;
+            }
+
+            DeferredResult<ResponseEntity<?>> deferred = new DeferredResult<>(
+                    Math.min(waitMs, MAX_COMMAND_WAIT_MS), ResponseEntity.ok(command));
+            completion.thenAccept(done -> deferred.setResult(ResponseEntity.ok(done)));
+            return deferred;
+        }
+
         /**
          * [GET] 특정 예약 정보 조회 엔드포인트
          *
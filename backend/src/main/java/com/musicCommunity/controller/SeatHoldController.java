@@ -0,0 +1,58 @@
+package com.musicCommunity.controller;
+
+import com.musicCommunity.dto.SeatHoldDto;
+import com.musicCommunity.service.SeatHoldService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/holds")
+@RequiredArgsConstructor
+public class SeatHoldController {
+
+    private final SeatHoldService seatHoldService;
+
+    /**
+     * 1. 좌석 임시 홀드 (결제 전 좌석 확보)
+     * POST /api/holds
+     */
+    @PostMapping
+    public ResponseEntity<?> holdSeat(@RequestBody SeatHoldDto holdDto, HttpServletRequest request) {
+        String authenticatedUserStr = (String) request.getAttribute("authenticatedUser");
+        if (authenticatedUserStr == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("인증된 사용자 정보를 찾을 수 없습니다.");
+        }
+
+        try {
+            SeatHoldDto hold = seatHoldService.hold(holdDto.getEventId(), holdDto.getSeatId(), Long.parseLong(authenticatedUserStr), holdDto.getPaymentId());
+            return ResponseEntity.status(HttpStatus.CREATED).body(hold);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
+    }
+
+    /**
+     * 2. 좌석 홀드 취소
+     * DELETE /api/holds/{eventId}/{seatId}
+     */
+    @DeleteMapping("/{eventId}/{seatId}")
+    public ResponseEntity<?> releaseSeat(@PathVariable Long eventId, @PathVariable Long seatId, HttpServletRequest request) {
+        String authenticatedUserStr = (String) request.getAttribute("authenticatedUser");
+        if (authenticatedUserStr == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("인증된 사용자 정보를 찾을 수 없습니다.");
+        }
+
+        boolean released = seatHoldService.release(eventId, seatId, Long.parseLong(authenticatedUserStr));
+        if (released) {
+            return ResponseEntity.ok("좌석 홀드가 취소되었습니다.");
+        }
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body("취소할 홀드가 없습니다.");
+    }
+}
@@ -2,6 +2,8 @@ package com.musicCommunity.controller;
 
 import com.musicCommunity.dto.*;
 import com.musicCommunity.config.JwtUtil;
+import com.musicCommunity.exception.LoginThrottledException;
+import com.musicCommunity.service.TokenRevocationService;
 import com.musicCommunity.service.UserService;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,11 +11,13 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/users")
@@ -23,50 +27,70 @@ public class UserController {
 
     private final UserService userService;
     private final JwtUtil jwtUtil; // JwtUtil 주입
+    private final TokenRevocationService tokenRevocationService;
 
     @PostMapping("/register") //회원가입
-    public ResponseEntity<String> register(@Valid @RequestBody RegisterDto registerDto) {
+    public ResponseEntity<String> register(@Valid @RequestBody RegisterDto registerDto, HttpServletRequest request) {
         try {
 
             log.info("회원가입 /register 의 RegisterDto : " + registerDto);
             
-            userService.registerUser(registerDto);
+            userService.registerUser(registerDto, request.getRemoteAddr());
 
             return new ResponseEntity<>("User registered successfully", HttpStatus.CREATED);
+        } catch (LoginThrottledException e) {
+            return throttled(e);
+        } catch (RejectedExecutionException e) {
+            return busy();
         } catch (Exception e) {
             return new ResponseEntity<>("Registration failed", HttpStatus.BAD_REQUEST);
         }
     }
 
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody LoginDto loginDto, HttpServletResponse response) {
+    public ResponseEntity<?> login(@RequestBody LoginDto loginDto, HttpServletRequest request, HttpServletResponse response) {
 
         log.info("/login 에서 LoginDto : " + loginDto);
 
-        Long userId = userService.login(loginDto);
+        Long userId;
+        try {
+            userId = userService.login(loginDto, request.getRemoteAddr());
+        } catch (LoginThrottledException e) {
+            return throttled(e);
+        } catch (RejectedExecutionException e) {
+            return busy();
+        }
 
         if (userId == null || userId <= 0) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body("Invalid username or password");
         }
 
-        String token = jwtUtil.createToken(String.valueOf(userId));
+        UserDto userDto = userService.getUserDtoById(userId);
+
+        // 닉네임/역할을 토큰 클레임에 담아 /me 가 DB를 조회하지 않도록 합니다.
+        String token = jwtUtil.createToken(userDto);
         long maxAge = jwtUtil.getExpirationTime() / 1000L;
 
         response.addHeader("Set-Cookie", buildJwtCookie(token, maxAge));
 
         log.info("로그인 성공: userId = {}", userId);
 
-        UserDto userDto = userService.getUserDtoById(userId);
-
         return ResponseEntity.ok(userDto);
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<String> logout(HttpServletResponse response) {
+    public ResponseEntity<String> logout(HttpServletRequest request, HttpServletResponse response) {
 
         log.info("로그아웃 매핑 호출됨");
 
+        // 쿠키만 지우면 토큰은 만료 전까지 계속 유효하므로, 서버에서도 폐기합니다.
+        String token = extractJwtFromCookie(request);
+        JwtUtil.TokenInfo tokenInfo = token == null ? null : jwtUtil.inspect(token);
+        if (tokenInfo != null) {
+            tokenRevocationService.revoke(tokenInfo);
+        }
+
         response.addHeader("Set-Cookie", buildJwtCookie("", 0));
 
         return ResponseEntity.ok("Logout successful");
@@ -128,9 +152,25 @@ public class UserController {
     }
 
     // 로그인 상태 체크, 세션체크
+    // 필터가 검증한 토큰에 사용자 정보 클레임이 있으면 DB 조회 없이 바로 응답합니다.
+    // 클레임은 발급 시점의 값이므로, 토큰의 프로필 버전(pv)이 프로필 캐시의 버전과 같을 때만 그대로 씁니다.
+    // (프로필 캐시는 변경/탈퇴 시 모든 노드에서 비워지므로, 다른 기기에서 닉네임을 바꾸면 이 토큰은 캐시된 프로필로 응답)
     @GetMapping("/me")
     public ResponseEntity<?> getAuthenticatedUser(HttpServletRequest request) {
 
+        JwtUtil.TokenInfo tokenInfo = (JwtUtil.TokenInfo) request.getAttribute("authenticatedToken");
+        if (tokenInfo != null && tokenInfo.nickname() != null && tokenInfo.profileVersion() != null) {
+            Long userId = parseUserId(tokenInfo.subject());
+            if (userId == null) return ResponseEntity.badRequest().body("Invalid userId format");
+
+            UserDto profile = userService.getUserDtoById(userId);
+            if (profile.getProfileVersion() == tokenInfo.profileVersion()) {
+                return ResponseEntity.ok(new UserStatusResponse(userId, tokenInfo.nickname(), tokenInfo.role()));
+            }
+            return ResponseEntity.ok(new UserStatusResponse(profile.getId(), profile.getNickname(), profile.getRole()));
+        }
+
+        // 클레임이 없는 예전 토큰: 프로필 캐시로 응답
         String token = extractJwtFromCookie(request);
         if (token == null) return unauthorized("No token");
 
@@ -160,6 +200,7 @@ public class UserController {
 
         try {
             userService.withdrawUser(userId);
+            tokenRevocationService.revokeAll(userId);
 
             response.addHeader("Set-Cookie", buildJwtCookie("", 0));
 
@@ -198,17 +239,43 @@ public class UserController {
         return null;
     }
 
+    // 429: 시도 제한 (프론트엔드는 401/403에서 로그아웃 처리하므로 429 사용)
+    private ResponseEntity<String> throttled(LoginThrottledException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(e.getMessage());
+    }
+
+    // 503: 비밀번호 해시 실행기가 가득 참
+    private ResponseEntity<String> busy() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body("요청이 많아 잠시 후 다시 시도해주세요.");
+    }
+
     private ResponseEntity<String> unauthorized(String message) {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(message);
     }
 
     @PutMapping("/update")
-    public ResponseEntity<?> update(@RequestBody UserUpdateDto updateDto) {
+    public ResponseEntity<?> update(@RequestBody UserUpdateDto updateDto, HttpServletRequest request, HttpServletResponse response) {
         try {
             userService.updateUser(updateDto);
+
+            // 본인 세션이면 바뀐 닉네임이 담긴 토큰으로 다시 발급하고, 예전 클레임을 가진 토큰은 폐기합니다.
+            JwtUtil.TokenInfo tokenInfo = (JwtUtil.TokenInfo) request.getAttribute("authenticatedToken");
+            if (tokenInfo != null && String.valueOf(updateDto.getId()).equals(tokenInfo.subject())) {
+                String token = jwtUtil.createToken(userService.getUserDtoById(updateDto.getId()));
+                response.addHeader("Set-Cookie", buildJwtCookie(token, jwtUtil.getExpirationTime() / 1000L));
+                tokenRevocationService.revoke(tokenInfo);
+            }
             return ResponseEntity.ok("Update Successful");
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (RejectedExecutionException e) {
+            return busy();
         }
     }
 
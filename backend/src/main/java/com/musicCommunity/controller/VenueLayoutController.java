@@ -0,0 +1,43 @@
+package com.musicCommunity.controller;
+
+import com.musicCommunity.dto.VenueLayoutDto;
+import com.musicCommunity.service.VenueLayoutService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/layouts")
+@RequiredArgsConstructor
+public class VenueLayoutController {
+
+    private final VenueLayoutService venueLayoutService;
+
+    /**
+     * 1. 공연장 좌석 배치 등록
+     * POST /api/layouts
+     * 등록한 배치 ID를 이벤트 생성(POST /api/events/update)의 layoutId로 넘기면 배치대로 좌석이 만들어집니다.
+     */
+    @PostMapping
+    public ResponseEntity<?> createLayout(@RequestBody VenueLayoutDto layoutDto) {
+        try {
+            return ResponseEntity.status(HttpStatus.CREATED).body(venueLayoutService.createLayout(layoutDto));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
+    /**
+     * 2. 공연장 좌석 배치 조회
+     * GET /api/layouts/{layoutId}
+     */
+    @GetMapping("/{layoutId}")
+    public ResponseEntity<?> getLayout(@PathVariable Long layoutId) {
+        try {
+            return ResponseEntity.ok(venueLayoutService.getLayout(layoutId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+}
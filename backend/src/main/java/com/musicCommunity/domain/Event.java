@@ -30,5 +30,6 @@ public class Event {
     private Integer totalSeats;
     private String status;
     private String description;
+    private Long layoutId; // 좌석 배치 ID (없으면 단순 번호 좌석)
 
 }
\ No newline at end of file
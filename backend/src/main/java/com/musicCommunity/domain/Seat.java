@@ -19,7 +19,9 @@ public class Seat {
     private Long id;  // 좌석 고유 ID (PK)
     private Long eventId;  // 공연 ID (FK)
     private String seatCode; // 좌석 코드 (예: VIP-A01)
-//    private String section;  // 좌석 구역 (예: VIP, R석)
+    private String section;  // 좌석 구역 (예: VIP, R석), 배치 없는 좌석은 null
+    private String rowLabel;  // 열 (예: A), 배치 없는 좌석은 null
+    private Integer seatNumber;  // 열 안에서의 좌석 번호 (1부터), 배치 없는 좌석은 null
     private BigDecimal price; // 좌석 가격
     private boolean isReserved; // 예약 상태 (TRUE: 예약됨, FALSE: 예약 가능)
     private Long reservationId;     // 예약 ID (FK, 예약되지 않은 경우 NULL)
@@ -63,7 +65,9 @@ public class Seat {
                 .id(this.id)
                 .eventId(this.eventId)
                 .seatCode(this.seatCode)
-//                .section(this.section)
+                .section(this.section)
+                .rowLabel(this.rowLabel)
+                .seatNumber(this.seatNumber)
                 .price(this.price)
                 .isReserved(this.isReserved)
                 .reservationId(this.reservationId);
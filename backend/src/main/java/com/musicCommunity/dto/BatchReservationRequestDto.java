@@ -0,0 +1,28 @@
+package com.musicCommunity.dto;
+
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 다중 좌석 예매 요청 DTO
+ * 여러 좌석을 한 번의 요청으로 전부 예약하거나, 하나도 예약하지 않습니다.
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchReservationRequestDto {
+
+    private Long userId; // JWT 필터에서 인증된 사용자 ID로 덮어씁니다.
+
+    @NotNull(message = "이벤트 ID는 필수입니다.")
+    private Long eventId;
+
+    @NotEmpty(message = "좌석 ID 목록은 필수입니다.")
+    private List<Long> seatIds;
+}
@@ -0,0 +1,28 @@
+package com.musicCommunity.dto;
+
+
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * 최적 연속 좌석 자동 배정 요청 DTO
+ * 좌석을 직접 고르지 않고, 조건에 맞는 가장 좋은 연속 좌석 count석을 서버가 골라 예약합니다.
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class BestAvailableRequestDto {
+
+    private Long userId; // JWT 필터에서 인증된 사용자 ID로 덮어씁니다.
+
+    @NotNull(message = "이벤트 ID는 필수입니다.")
+    private Long eventId;
+
+    private int count;          // 연속 좌석 수
+    private String section;     // 구역 (선택)
+    private BigDecimal price;   // 가격 등급 (선택)
+}
@@ -31,6 +31,7 @@ public class EventDto {
     private Integer totalSeats;
     private String description;
     private String status;
+    private Long layoutId; // 좌석 배치 ID (지정하면 totalSeats 대신 배치의 좌석 수를 사용)
 
     @Builder.Default
     private Integer availableSeats = 0;
@@ -48,6 +49,7 @@ public class EventDto {
                 .totalSeats(this.totalSeats)
                 .description(this.description) // 추가
                 .status(this.status)           // 추가
+                .layoutId(this.layoutId)
                 .availableSeats(this.availableSeats);
     }
 
@@ -0,0 +1,23 @@
+package com.musicCommunity.dto;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 예매 대기열 상태 응답 DTO
+ * 클라이언트는 token을 보관하고, admitted가 true가 될 때까지 상태 API를 폴링합니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QueueStatusDto {
+    private Long eventId;
+    private String token;             // 대기열 토큰 (예약 요청 시 X-Queue-Token 헤더로 전달)
+    private long position;            // 현재 대기 순번 (입장 완료 시 0)
+    private boolean admitted;         // 예약 경로 입장 여부
+    private long estimatedWaitSeconds; // 예상 대기 시간(초)
+}
@@ -0,0 +1,44 @@
+package com.musicCommunity.dto;
+
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 비동기 예약 명령 상태 DTO
+ * 예약 요청을 접수하면 commandId를 돌려주고, 클라이언트는 status가 PENDING이 아닐 때까지 상태 API를 조회합니다.
+ *
+ * - PENDING   : 처리 대기/처리 중
+ * - SUCCEEDED : 예약 완료 (reservation에 결과)
+ * - REJECTED  : 존재하지 않는 좌석이거나 이미 예약된 좌석 (message에 사유)
+ * - FAILED    : 서버 오류
+ * - UNKNOWN   : 좌석은 선점했지만 저장 결과 확인이 지연됨 (예매 내역에서 확인)
+ */
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationCommandDto {
+
+    public static final String PENDING = "PENDING";
+    public static final String SUCCEEDED = "SUCCEEDED";
+    public static final String REJECTED = "REJECTED";
+    public static final String FAILED = "FAILED";
+    public static final String UNKNOWN = "UNKNOWN";
+
+    private String commandId;
+    private Long userId;
+    private Long eventId;
+    private Long seatId;
+    private String status;
+    private String message;
+    private ReservationResponseDto reservation;
+
+    @JsonIgnore
+    public boolean isDone() {
+        return !PENDING.equals(status);
+    }
+}
@@ -0,0 +1,33 @@
+package com.musicCommunity.dto;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 좌석 동시성 전략 벤치마크 결과 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatBenchmarkResultDto {
+    private String mode;              // 동시성 전략 (SeatConcurrencyMode)
+    private Long eventId;             // 벤치마크용으로 생성된 이벤트 ID
+    private int seats;                // 좌석 풀 크기
+    private int threads;              // 동시 실행 스레드 수
+    private int attempts;             // 총 예약 시도 수
+    private int successes;            // 예약 성공 수
+    private int conflicts;            // 이미 예약된 좌석으로 거절된 수 (409)
+    private int constraintConflicts;  // 선점을 통과했지만 DB 유니크 제약(uk_seat_id)에서 막힌 수 (409)
+    private int errors;               // 그 외 실패 수
+    private int reservations;         // DB에 커밋된 예약 행 수
+    private int oversold;             // 초과 판매 수 (DB 예약 행 수 - 예약 행이 있는 좌석 수)
+    private int unbackedSuccesses;    // 성공 응답을 받았지만 DB에 예약 행이 없는 수 (성공 응답 수 - DB 예약 행 수)
+    private long elapsedMillis;       // 전체 소요 시간
+    private double throughputPerSecond; // 초당 처리한 시도 수
+    private double p50Millis;         // 지연 시간 중앙값
+    private double p99Millis;         // 지연 시간 99 백분위
+}
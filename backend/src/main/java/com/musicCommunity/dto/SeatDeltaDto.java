@@ -0,0 +1,17 @@
+package com.musicCommunity.dto;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 좌석 변경 스트림의 delta 항목 (좌석 ID + 바뀐 상태)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatDeltaDto {
+    private Long seatId;
+    private boolean reserved;
+}
@@ -0,0 +1,18 @@
+package com.musicCommunity.dto;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대용량 좌석 생성 진행 상황 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatGenerationProgressDto {
+    private Long eventId;
+    private int totalSeats;      // 생성할 전체 좌석 수
+    private int generatedSeats;  // 지금까지 커밋된 좌석 수
+}
@@ -0,0 +1,21 @@
+package com.musicCommunity.dto;
+
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 좌석 임시 홀드 요청/응답 DTO
+ * 좌석 선택 후 결제 완료 전까지 좌석을 잠시 붙잡아 둡니다.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Data
+public class SeatHoldDto {
+    private Long eventId;
+    private Long seatId;
+    private String paymentId;        // 결제 ID (선택). 결제 웹훅이 이 홀드를 찾아 예약으로 전환할 때 사용합니다.
+    private LocalDateTime expiresAt; // 홀드 만료 시각 (이 시간 안에 결제를 완료해야 합니다)
+}
@@ -0,0 +1,47 @@
+package com.musicCommunity.dto;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 압축 좌석 맵 DTO
+ * 좌석마다 객체를 보내는 대신, 좌석 ID 순서(position)를 기준으로 열 단위로 인코딩합니다.
+ *
+ * - idRuns: 연속된 좌석 ID 구간 [시작 ID, 길이] 목록. position은 구간을 이어 붙인 순서입니다.
+ * - rows: 배치로 만든 좌석이면 position 순서의 열 목록 [구역, 열, 좌석 수]. 좌석 코드는 "구역-열-번호"로 만들며 codes는 null
+ * - codePrefix: (배치 없는 좌석) 좌석 코드가 "접두어 + (position + 1)" 규칙을 따르면 접두어만 보냅니다. (codes는 null)
+ * - codes: 위 두 규칙을 모두 따르지 않는 경우에만 position 순서의 좌석 코드 목록
+ * - priceTiers / tierIndex: 가격 사전과 position별 가격 인덱스(1바이트). 가격이 하나뿐이면 tierIndex는 null
+ * - reserved: position별 예약 여부 비트셋 (바이트의 최상위 비트가 position 0, JSON에서는 Base64)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatMapDto {
+    private Long eventId;
+    private long version;
+    private int seatCount;
+    private List<long[]> idRuns;
+    private List<Row> rows;
+    private String codePrefix;
+    private List<String> codes;
+    private List<BigDecimal> priceTiers;
+    private byte[] tierIndex;
+    private byte[] reserved;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Row {
+        private String section;
+        private String rowLabel;
+        private int seatCount;
+    }
+}
@@ -2,6 +2,8 @@ package com.musicCommunity.dto;
 
 import lombok.*;
 
+import java.io.Serializable;
+
 /**
  * 사용자 정보를 담는 DTO.
  * DB 매핑, 조회 및 안전한 수정을 위해 Builder 패턴을 적용합니다.
@@ -11,12 +13,13 @@ import lombok.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @ToString
-public class UserDto {
+public class UserDto implements Serializable {
     private Long id; // DB에서 조회할 때 사용
     private String userLoginId;
     private String password; // 암호화된 비밀번호
     private String nickname;
     private String role;
+    private int profileVersion; // 프로필 변경 시 증가 (토큰의 pv 클레임과 비교)
 
     /**
      * 불변 객체의 안전한 수정을 위한 빌더 메서드.
@@ -28,6 +31,7 @@ public class UserDto {
                 .userLoginId(this.userLoginId)
                 .password(this.password)
                 .nickname(this.nickname)
-                .role(this.role);
+                .role(this.role)
+                .profileVersion(this.profileVersion);
     }
 }
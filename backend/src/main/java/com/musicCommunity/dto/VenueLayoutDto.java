@@ -0,0 +1,46 @@
+package com.musicCommunity.dto;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 공연장 좌석 배치 DTO (구역 → 열 → 좌석, 가격 등급)
+ * 공연장마다 한 번 저장하고, 이벤트를 만들 때 rows 순서대로 좌석을 생성합니다.
+ * 좌석 번호는 열마다 1부터 seatCount까지입니다.
+ */
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class VenueLayoutDto implements Serializable {
+    private Long id;
+    private String name;
+    private String venue;
+    private List<PriceTier> priceTiers;
+    private List<Row> rows;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PriceTier implements Serializable {
+        private String name;       // 등급 이름 (예: VIP)
+        private BigDecimal price;  // 등급 가격
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Row implements Serializable {
+        private String section;   // 구역 (예: VIP, FLOOR-1)
+        private String rowLabel;  // 열 (예: A)
+        private int seatCount;    // 열의 좌석 수
+        private String tierName;  // 가격 등급 이름
+    }
+}
@@ -0,0 +1,18 @@
+package com.musicCommunity.exception;
+
+import lombok.Getter;
+
+/**
+ * 로그인 시도가 너무 많아 일시적으로 막혔을 때 발생하는 예외입니다.
+ * (계정별 연속 실패 또는 IP별 시도 횟수 초과)
+ */
+@Getter
+public class LoginThrottledException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public LoginThrottledException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
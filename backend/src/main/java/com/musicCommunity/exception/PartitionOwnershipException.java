@@ -0,0 +1,18 @@
+package com.musicCommunity.exception;
+
+import lombok.Getter;
+
+/**
+ * 요청한 이벤트의 예약 파티션을 다른 노드가 소유하고 있을 때 발생합니다.
+ * 컨트롤러는 ownerUrl로 요청을 리다이렉트합니다.
+ */
+@Getter
+public class PartitionOwnershipException extends RuntimeException {
+
+    private final String ownerUrl;
+
+    public PartitionOwnershipException(Long eventId, String ownerUrl) {
+        super("이벤트 " + eventId + "의 예약은 다른 노드에서 처리됩니다: " + ownerUrl);
+        this.ownerUrl = ownerUrl;
+    }
+}
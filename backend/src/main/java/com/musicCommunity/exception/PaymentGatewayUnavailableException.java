@@ -0,0 +1,16 @@
+package com.musicCommunity.exception;
+
+/**
+ * PG사(PortOne)를 지금 호출할 수 없을 때 발생하는 예외입니다.
+ * (동시 호출 한도 초과, 서킷 브레이커 열림, 타임아웃, 5xx 응답)
+ * 결제 자체의 실패가 아니므로 클라이언트는 잠시 후 다시 시도할 수 있습니다.
+ */
+public class PaymentGatewayUnavailableException extends RuntimeException {
+    public PaymentGatewayUnavailableException(String message) {
+        super(message);
+    }
+
+    public PaymentGatewayUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,18 @@
+package com.musicCommunity.exception;
+
+import lombok.Getter;
+
+/**
+ * 예약 처리 동시 실행 한도를 넘어 요청을 받지 못했을 때 발생하는 예외입니다.
+ * 좌석 상태와 무관하므로 클라이언트는 retryAfterSeconds 뒤에 다시 시도할 수 있습니다.
+ */
+@Getter
+public class ReservationOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ReservationOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
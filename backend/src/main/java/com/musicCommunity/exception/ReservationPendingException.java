@@ -0,0 +1,12 @@
+package com.musicCommunity.exception;
+
+/**
+ * 좌석은 선점됐지만 DB 반영 결과를 제한 시간 안에 확인하지 못했을 때 발생합니다. (그룹 커밋 대기 시간 초과)
+ * 예약은 이후에 저장될 수 있으므로 실패로 취급하거나 좌석을 되돌리면 안 되며,
+ * 클라이언트에게는 처리 중(202)으로 알리고 예매 내역에서 확인하도록 안내합니다.
+ */
+public class ReservationPendingException extends RuntimeException {
+    public ReservationPendingException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.musicCommunity.exception;
+
+/**
+ * 선점(Redis 비트맵, 락, 조건부 UPDATE)을 통과한 예약이 DB 유니크 제약(uk_seat_id)에서 막혔을 때 발생합니다.
+ * 클라이언트에게는 일반 좌석 충돌(409)과 같지만, 선점 단계가 충돌을 놓쳤다는 뜻이므로 벤치마크에서는 따로 집계합니다.
+ */
+public class SeatConstraintViolationException extends IllegalStateException {
+    public SeatConstraintViolationException(String message) {
+        super(message);
+    }
+}
@@ -1,6 +1,7 @@
 package com.musicCommunity.filter;
 
 import com.musicCommunity.config.JwtUtil;
+import com.musicCommunity.service.TokenRevocationService;
 import jakarta.servlet.Filter;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.FilterConfig;
@@ -10,17 +11,20 @@ import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.util.StringUtils;
 
 import java.io.IOException;
-import java.util.Arrays;
 
+@Slf4j
 public class ManualJwtFilter implements Filter {
 
     private final JwtUtil jwtUtil;
+    private final TokenRevocationService tokenRevocationService;
 
-    public ManualJwtFilter(JwtUtil jwtUtil) {
+    public ManualJwtFilter(JwtUtil jwtUtil, TokenRevocationService tokenRevocationService) {
         this.jwtUtil = jwtUtil;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     // ★ 모든 응답에 CORS 헤더를 붙이는 공용 메서드
@@ -28,7 +32,7 @@ public class ManualJwtFilter implements Filter {
         response.setHeader("Access-Control-Allow-Origin", "http://localhost:5173");
         response.setHeader("Access-Control-Allow-Credentials", "true");
         response.setHeader("Access-Control-Allow-Methods", "GET,POST,PUT,DELETE,PATCH,OPTIONS");
-        response.setHeader("Access-Control-Allow-Headers", "Content-Type, Authorization");
+        response.setHeader("Access-Control-Allow-Headers", "Content-Type, Authorization, X-Queue-Token, Idempotency-Key");
     }
 
     // ManualJwtFilter.java 수정본
@@ -49,20 +53,23 @@ public class ManualJwtFilter implements Filter {
 
         // 1. 제외 경로 정의
         boolean isBasicWhiteList = path.contains("/users/login") || path.contains("/users/register") ||
-                path.contains("/api/events") || path.contains("/api/users/logout");
+                path.contains("/api/events") || path.contains("/api/users/logout") ||
+                path.equals("/api/payment/webhook") || // PortOne 서버가 호출 (서명으로 검증)
+                path.startsWith("/portone-stub/"); // portone-stub 프로필에서만 존재하는 PortOne 스텁
         // 댓글 경로는 복수/단수 모두 체크하도록 수정
         boolean isPublicGetRequest = (path.contains("/api/reviews") || path.contains("/api/comment"))
                 && method.equalsIgnoreCase("GET");
 
-        // 2. JWT 토큰 추출 시도
+        // 2. JWT 토큰 추출 후 한 번만 검증 (최근 검증한 토큰은 JwtUtil 캐시에서 바로 통과)
+        //    로그아웃/탈퇴로 폐기된 토큰은 메모리의 폐기 목록으로 걸러냅니다. (Redis 왕복 없음)
         String jwt = getJwtFromCookie(httpRequest);
-        boolean isValidToken = (StringUtils.hasText(jwt) && jwtUtil.validateToken(jwt));
+        JwtUtil.TokenInfo token = StringUtils.hasText(jwt) ? jwtUtil.inspect(jwt) : null;
+        boolean isValidToken = token != null && !tokenRevocationService.isRevoked(token);
 
         if (isValidToken) {
             // 토큰이 유효하면 일단 사용자 정보를 심어줍니다. (조회 시에도 내가 쓴 글인지 확인 가능)
-            String username = jwtUtil.getSubjectFromToken(jwt);
-            httpRequest.setAttribute("authenticatedUser", username);
-            System.out.println(">>> 인증 성공: [" + username + "] - 경로: " + path);
+            httpRequest.setAttribute("authenticatedUser", token.subject());
+            httpRequest.setAttribute("authenticatedToken", token); // 토큰 클레임 (닉네임, 역할 등)
         }
 
         // 3. 최종 권한 판단
@@ -71,7 +78,7 @@ public class ManualJwtFilter implements Filter {
             chain.doFilter(request, response);
         } else {
             // 토큰도 없고 화이트리스트도 아니면 401 에러
-            System.out.println(">>> 인증 실패: 유효한 토큰 없음 - 경로: " + path);
+            log.debug("인증 실패: 유효한 토큰 없음 - 경로: {}", path);
             httpResponse.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             httpResponse.setContentType("application/json;charset=UTF-8");
             httpResponse.getWriter().write("{\"message\": \"로그인이 필요한 서비스입니다.\"}");
@@ -82,17 +89,6 @@ public class ManualJwtFilter implements Filter {
     private String getJwtFromCookie(HttpServletRequest request) {
         Cookie[] cookies = request.getCookies();
 
-        if (cookies != null) {
-            System.out.println(">>> 요청 쿠키 목록 (" + cookies.length + "개):");
-            Arrays.stream(cookies).forEach(cookie -> {
-                String valuePreview = cookie.getValue().length() > 20 ?
-                        cookie.getValue().substring(0, 20) + "..." :
-                        cookie.getValue();
-
-                System.out.printf("  - 이름: %s, 값: %s\n", cookie.getName(), valuePreview);
-            });
-        }
-
         if (cookies != null) {
             for (Cookie cookie : cookies) {
                 if (JwtUtil.AUTHORIZATION_HEADER.equals(cookie.getName())) {
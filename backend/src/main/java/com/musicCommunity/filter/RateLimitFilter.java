@@ -0,0 +1,204 @@
+package com.musicCommunity.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.musicCommunity.config.RateLimitProperties;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.util.AntPathMatcher;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 토큰 버킷 요청 속도 제한 필터
+ * ManualJwtFilter 다음에 실행되어, 로그인 사용자는 사용자 ID로, 그 외에는 IP로 버킷을 나눕니다.
+ *
+ * 1. 로컬 사전 확인: 노드마다 같은 용량/충전 속도의 버킷을 메모리에 두고 먼저 꺼내 봅니다.
+ *    한 노드가 받은 요청만으로 이미 한도를 넘었다면 전체로도 넘은 것이므로 Redis에 묻지 않고 바로 거절합니다.
+ * 2. Redis 확인: 같은 기준(사용자/IP)의 버킷은 Lua 스크립트 한 번으로 모두 확인하고,
+ *    모두 토큰이 있을 때만 한꺼번에 차감합니다. (키는 {기준}으로 묶어 같은 슬롯에 둡니다)
+ *
+ * 거절 시 429와 Retry-After를 돌려줍니다. (프론트엔드는 401/403에서 로그아웃 처리하므로 429 사용)
+ * Redis 장애 시에는 로컬 확인만으로 통과시킵니다.
+ */
+@Slf4j
+public class RateLimitFilter implements Filter {
+
+    // KEYS = 버킷 키 / ARGV = [용량1, 충전량1(토큰/ms), 용량2, 충전량2, ...]
+    // 반환: 0 통과(모든 버킷에서 1개씩 차감), 양수 = 다시 시도할 수 있을 때까지 남은 ms
+    private static final String TAKE_SCRIPT =
+            "local t = redis.call('TIME') " +
+            "local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000) " +
+            "local wait = 0 " +
+            "local tokens = {} " +
+            "for i = 1, #KEYS do " +
+            "  local capacity = tonumber(ARGV[i * 2 - 1]) " +
+            "  local rate = tonumber(ARGV[i * 2]) " +
+            "  local v = redis.call('HMGET', KEYS[i], 'tokens', 'ts') " +
+            "  local current = tonumber(v[1]) or capacity " +
+            "  local ts = tonumber(v[2]) or now " +
+            "  current = math.min(capacity, current + math.max(0, now - ts) * rate) " +
+            "  if current < 1 then wait = math.max(wait, math.ceil((1 - current) / rate)) end " +
+            "  tokens[i] = current " +
+            "end " +
+            "if wait > 0 then return wait end " +
+            "for i = 1, #KEYS do " +
+            "  local capacity = tonumber(ARGV[i * 2 - 1]) " +
+            "  local rate = tonumber(ARGV[i * 2]) " +
+            "  redis.call('HSET', KEYS[i], 'tokens', tostring(tokens[i] - 1), 'ts', tostring(now)) " +
+            "  redis.call('PEXPIRE', KEYS[i], math.ceil(capacity / rate) + 1000) " +
+            "end " +
+            "return 0";
+
+    private final RedissonClient redissonClient;
+    private final RateLimitProperties properties;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Cache<String, LocalBucket> localBuckets;
+
+    public RateLimitFilter(RedissonClient redissonClient, RateLimitProperties properties) {
+        this.redissonClient = redissonClient;
+        this.properties = properties;
+        this.localBuckets = Caffeine.newBuilder()
+                .maximumSize(properties.getLocalMaxKeys())
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+
+        if (!properties.isEnabled() || httpRequest.getMethod().equalsIgnoreCase("OPTIONS")) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        // 요청에 맞는 규칙을 버킷 기준(사용자/IP)별로 모읍니다.
+        // 프록시 뒤라면 RemoteIpValve(server.forward-headers-strategy)가 이미 클라이언트 IP로 바꿔 둔 값입니다.
+        String user = (String) httpRequest.getAttribute("authenticatedUser");
+        String ip = httpRequest.getRemoteAddr();
+        Map<String, List<Map.Entry<String, RateLimitProperties.Rule>>> byIdentity = new LinkedHashMap<>();
+        for (Map.Entry<String, RateLimitProperties.Rule> entry : properties.getRules().entrySet()) {
+            RateLimitProperties.Rule rule = entry.getValue();
+            if (matches(rule, httpRequest)) {
+                String identity = rule.getKey() == RateLimitProperties.KeyType.USER && user != null ? "u:" + user : "ip:" + ip;
+                byIdentity.computeIfAbsent(identity, k -> new ArrayList<>()).add(entry);
+            }
+        }
+        if (byIdentity.isEmpty()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        // 1. 로컬 사전 확인
+        long waitMs = 0;
+        for (Map.Entry<String, List<Map.Entry<String, RateLimitProperties.Rule>>> group : byIdentity.entrySet()) {
+            for (Map.Entry<String, RateLimitProperties.Rule> entry : group.getValue()) {
+                RateLimitProperties.Rule rule = entry.getValue();
+                LocalBucket bucket = localBuckets.get(entry.getKey() + "|" + group.getKey(),
+                        k -> new LocalBucket(rule.getCapacity(), rule.getRefillPerSecond()));
+                waitMs = Math.max(waitMs, bucket.tryTake());
+            }
+        }
+        if (waitMs > 0) {
+            reject(httpResponse, waitMs);
+            return;
+        }
+
+        // 2. Redis 확인 (기준별 1회)
+        for (Map.Entry<String, List<Map.Entry<String, RateLimitProperties.Rule>>> group : byIdentity.entrySet()) {
+            waitMs = Math.max(waitMs, takeGlobal(group.getKey(), group.getValue()));
+        }
+        if (waitMs > 0) {
+            reject(httpResponse, waitMs);
+            return;
+        }
+
+        chain.doFilter(request, response);
+    }
+
+    private boolean matches(RateLimitProperties.Rule rule, HttpServletRequest request) {
+        if (!rule.isEnabled() || rule.getPath() == null) {
+            return false;
+        }
+        if (!rule.getMethods().isEmpty()
+                && rule.getMethods().stream().noneMatch(method -> method.equalsIgnoreCase(request.getMethod()))) {
+            return false;
+        }
+        return pathMatcher.match(rule.getPath(), request.getRequestURI());
+    }
+
+    private long takeGlobal(String identity, List<Map.Entry<String, RateLimitProperties.Rule>> rules) {
+        List<Object> keys = new ArrayList<>(rules.size());
+        List<Object> args = new ArrayList<>(rules.size() * 2);
+        for (Map.Entry<String, RateLimitProperties.Rule> entry : rules) {
+            keys.add("rl:{" + identity + "}:" + entry.getKey());
+            args.add(String.valueOf(entry.getValue().getCapacity()));
+            args.add(String.valueOf(entry.getValue().getRefillPerSecond() / 1000.0));
+        }
+
+        try {
+            Long result = redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, TAKE_SCRIPT,
+                    RScript.ReturnType.INTEGER, keys, args.toArray());
+            return result == null ? 0 : result;
+        } catch (RuntimeException e) {
+            log.warn("요청 속도 제한 확인 실패, 로컬 확인만으로 통과 - {}: {}", identity, e.getMessage());
+            return 0;
+        }
+    }
+
+    private static void reject(HttpServletResponse response, long waitMs) throws IOException {
+        response.setStatus(429);
+        response.setHeader("Retry-After", String.valueOf(Math.max(1, (waitMs + 999) / 1000)));
+        response.setContentType("application/json;charset=UTF-8");
+        response.getWriter().write("{\"message\": \"요청이 너무 많습니다. 잠시 후 다시 시도해주세요.\"}");
+    }
+
+    /**
+     * 노드 로컬 토큰 버킷
+     */
+    private static final class LocalBucket {
+        private final double capacity;
+        private final double ratePerMs;
+        private double tokens;
+        private long updatedAtMs;
+
+        private LocalBucket(long capacity, double refillPerSecond) {
+            this.capacity = capacity;
+            this.ratePerMs = refillPerSecond / 1000.0;
+            this.tokens = capacity;
+            this.updatedAtMs = System.currentTimeMillis();
+        }
+
+        /**
+         * @return 0이면 토큰 1개를 꺼냄, 양수면 다음 토큰까지 남은 ms
+         */
+        private synchronized long tryTake() {
+            long now = System.currentTimeMillis();
+            tokens = Math.min(capacity, tokens + Math.max(0, now - updatedAtMs) * ratePerMs);
+            updatedAtMs = now;
+            if (tokens < 1) {
+                return (long) Math.ceil((1 - tokens) / ratePerMs);
+            }
+            tokens -= 1;
+            return 0;
+        }
+    }
+}
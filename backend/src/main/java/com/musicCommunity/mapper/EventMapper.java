@@ -15,7 +15,7 @@ import java.util.List;
 public interface EventMapper {
 
     /**
-     * 모든 Event 목록을 데이터베이스에서 조회합니다.
+     * 예매 가능한(ACTIVE) Event 목록을 데이터베이스에서 조회합니다.
      * @return EventDto 리스트
      */
     List<EventDto> findAllEvents();
@@ -23,4 +23,10 @@ public interface EventMapper {
     void insertEvent(Event event);
 
     int updateEventStatus(@Param("id") Long id, @Param("status") String status);
+
+    /**
+     * 이벤트 상태(PREPARING/ACTIVE/CANCELED)만 조회합니다.
+     * @return 상태, 이벤트가 없으면 null
+     */
+    String findEventStatus(@Param("id") Long id);
 }
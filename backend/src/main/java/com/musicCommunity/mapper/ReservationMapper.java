@@ -6,6 +6,7 @@ import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * RESERVATION 테이블에 접근하는 MyBatis Mapper 인터페이스입니다.
@@ -21,6 +22,13 @@ public interface ReservationMapper {
      */
     int insertReservation(Reservation reservation);
 
+    /**
+     * 여러 예약 기록을 multi-row INSERT 한 번으로 저장하고, 생성된 ID를 각 객체에 채웁니다.
+     * @param reservations 저장할 Reservation 리스트
+     * @return 삽입된 행의 수
+     */
+    int insertReservations(List<Reservation> reservations);
+
     /**
      * 특정 ID의 예매 기록을 조회합니다.
      * @param reservationId 예매 ID
@@ -31,4 +39,11 @@ public interface ReservationMapper {
 
     List<ReservationDto> findByUserId(Long userId);
 
+    /**
+     * 이벤트의 예약 행 수와 예약 행이 있는 좌석 수를 조회합니다. (벤치마크 초과 판매 검증용)
+     * @param eventId 공연 ID
+     * @return reservations, reservedSeats 키를 가진 행
+     */
+    Map<String, Object> countReservationsByEventId(@Param("eventId") Long eventId);
+
 }
@@ -4,6 +4,7 @@ import com.musicCommunity.domain.Seat;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -37,6 +38,13 @@ public interface SeatMapper {
      */
     int updateSeat(Seat seat);
 
+    /**
+     * 아직 예약되지 않은 좌석만 예약 상태로 변경합니다. (조건부 UPDATE)
+     * @param seatId 좌석 ID
+     * @return 1이면 선점 성공, 0이면 이미 예약된 좌석
+     */
+    int reserveSeatIfAvailable(@Param("seatId") Long seatId);
+
     /**
      * 특정 이벤트의 모든 좌석을 조회합니다. (예약 상태와 무관하게 모든 좌석 정보)
      * @param eventId 공연 ID
@@ -46,4 +54,39 @@ public interface SeatMapper {
 
     void insertSeat(Seat seat);
 
+    /**
+     * 여러 좌석을 multi-row INSERT 한 번으로 저장합니다. (대용량 좌석 생성용, 생성된 ID는 채우지 않음)
+     * @param seats 저장할 Seat 리스트
+     * @return 저장된 행의 수
+     */
+    int insertSeats(@Param("seats") List<Seat> seats);
+
+    /**
+     * 이벤트의 예약되지 않은 좌석을 최대 limit개 삭제합니다. (좌석 생성 실패 시 이미 들어간 chunk 정리용)
+     * @return 삭제된 행의 수
+     */
+    int deleteUnreservedSeatsByEventId(@Param("eventId") Long eventId, @Param("limit") int limit);
+
+    /**
+     * 여러 좌석을 한 번의 쿼리로 조회합니다. (다중 좌석 예매용)
+     * @param seatIds 좌석 ID 목록
+     * @return Seat 객체 리스트
+     */
+    List<Seat> selectSeatsByIds(@Param("seatIds") List<Long> seatIds);
+
+    /**
+     * 여러 좌석을 한 번의 UPDATE로 예약 완료 상태로 변경합니다.
+     * 이미 예약된 좌석은 갱신되지 않으므로, 반환값이 좌석 수와 다르면 충돌입니다.
+     * @param seats reservationId가 채워진 Seat 리스트
+     * @return 업데이트된 행의 수
+     */
+    int updateSeatsReserved(@Param("seats") List<Seat> seats);
+
+    /**
+     * 이벤트별 예약 가능 좌석 수를 조회합니다. (좌석 카운터 초기화용)
+     * @param eventIds 공연 ID 목록
+     * @return eventId, available 키를 가진 행 목록 (예약 가능 좌석이 없는 이벤트는 제외)
+     */
+    List<Map<String, Object>> countAvailableSeatsByEventIds(@Param("eventIds") List<Long> eventIds);
+
 }
@@ -2,6 +2,7 @@ package com.musicCommunity.mapper;
 
 import com.musicCommunity.dto.UserDto;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import java.util.Optional;
 
@@ -15,7 +16,13 @@ public interface UserMapper {
 
     void deleteById(Long userId);
 
-    void update(UserDto user);
+    /**
+     * @param currentPassword 확인한 기존 비밀번호 해시 (그 사이 바뀌었으면 갱신하지 않음)
+     * @return 갱신된 행 수
+     */
+    int update(@Param("user") UserDto user, @Param("currentPassword") String currentPassword);
+
+    void updatePassword(@Param("id") Long userId, @Param("password") String password);
 }
 
 
@@ -0,0 +1,36 @@
+package com.musicCommunity.mapper;
+
+import com.musicCommunity.dto.VenueLayoutDto;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * VENUE_LAYOUT 관련 테이블에 접근하는 MyBatis Mapper 인터페이스입니다.
+ * 모든 SQL 쿼리는 VenueLayoutMapper.xml에 정의되어 있습니다.
+ */
+@Mapper
+public interface VenueLayoutMapper {
+
+    /**
+     * 배치 기본 정보(이름, 공연장)를 저장하고, 생성된 ID를 채웁니다.
+     */
+    int insertLayout(VenueLayoutDto layout);
+
+    int insertTiers(@Param("layoutId") Long layoutId, @Param("tiers") List<VenueLayoutDto.PriceTier> tiers);
+
+    /**
+     * 열 목록을 순서(sort_order)와 함께 저장합니다.
+     */
+    int insertRows(@Param("layoutId") Long layoutId, @Param("rows") List<VenueLayoutDto.Row> rows);
+
+    /**
+     * 배치 기본 정보를 조회합니다. (priceTiers, rows는 채워지지 않음)
+     */
+    VenueLayoutDto selectLayoutById(@Param("layoutId") Long layoutId);
+
+    List<VenueLayoutDto.PriceTier> selectTiersByLayoutId(@Param("layoutId") Long layoutId);
+
+    List<VenueLayoutDto.Row> selectRowsByLayoutId(@Param("layoutId") Long layoutId);
+}
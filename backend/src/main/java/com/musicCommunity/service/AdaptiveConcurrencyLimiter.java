@@ -0,0 +1,106 @@
+package com.musicCommunity.service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 지연 시간 기울기(gradient) 기반 적응형 동시 실행 한도
+ * 최근 응답 시간(shortRtt)이 평소 응답 시간(longRtt)보다 길어지면 대기열이 쌓이고 있다는 뜻이므로 한도를 줄이고,
+ * 비슷하면 조금씩 늘립니다. 한도를 넘는 요청은 기다리지 않고 바로 거절하므로,
+ * 과부하 상황에서도 통과한 요청의 응답 시간은 평소 수준으로 유지됩니다.
+ *
+ * newLimit = limit * clamp(longRtt * tolerance / shortRtt, 0.5, 1.0) + sqrt(limit)
+ * limit    = limit * (1 - smoothing) + newLimit * smoothing
+ *
+ * tryAcquire()가 true면 처리 후 반드시 onSuccess/onDropped/onIgnore 중 하나를 호출해야 합니다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double rttTolerance;
+    private final double longRttAlpha;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+    private double longRttNanos;
+
+    /**
+     * @param longWindow 평소 응답 시간을 구할 때 반영하는 표본 수 (지수 이동 평균의 기간)
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      double smoothing, double rttTolerance, int longWindow) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.rttTolerance = rttTolerance;
+        this.longRttAlpha = 2.0 / (longWindow + 1);
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 정상 처리된 요청의 응답 시간을 반영합니다. (좌석 없음/이미 예약됨 같은 업무상 거절도 포함)
+     */
+    public void onSuccess(long rttNanos) {
+        int inFlightAtStart = inFlight.getAndDecrement();
+        synchronized (this) {
+            if (longRttNanos == 0) {
+                longRttNanos = rttNanos;
+                return;
+            }
+            longRttNanos = longRttNanos * (1 - longRttAlpha) + rttNanos * longRttAlpha;
+
+            // 부하가 오래 유지되면 평소 응답 시간도 따라 올라가므로, 최근 값보다 크게 벌어지면 끌어내립니다.
+            if (longRttNanos > rttNanos * 2) {
+                longRttNanos *= 0.95;
+            }
+
+            // 한도의 절반도 쓰지 않는 동안에는 응답 시간이 한도와 무관하므로 한도를 늘리지 않습니다.
+            if (inFlightAtStart < limit / 2) {
+                return;
+            }
+
+            double gradient = Math.max(0.5, Math.min(1.0, longRttNanos * rttTolerance / rttNanos));
+            double newLimit = limit * gradient + Math.sqrt(limit);
+            newLimit = limit * (1 - smoothing) + newLimit * smoothing;
+            limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        }
+    }
+
+    /**
+     * 타임아웃, DB 오류 등으로 실패한 요청입니다. 응답 시간과 관계없이 한도를 줄입니다.
+     */
+    public void onDropped() {
+        inFlight.decrementAndGet();
+        synchronized (this) {
+            limit = Math.max(minLimit, limit * 0.9);
+        }
+    }
+
+    /**
+     * 한도 계산에 반영하지 않고 자리만 반납합니다. (다른 노드로 넘긴 요청 등)
+     */
+    public void onIgnore() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
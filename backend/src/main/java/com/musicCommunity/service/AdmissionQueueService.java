@@ -0,0 +1,249 @@
+package com.musicCommunity.service;
+
+import com.musicCommunity.dto.QueueStatusDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RMap;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RScript;
+import org.redisson.api.RSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 예매 대기열(가상 대기실) 서비스
+ * 인기 공연 오픈 시 모든 요청이 예약 경로로 몰리지 않도록,
+ * 클라이언트에게 대기 토큰과 순번을 발급하고 스케줄러가 이벤트별로 초당 N명씩 입장시킵니다.
+ *
+ * Redis 구조
+ * - queue:wait:{eventId}     : 대기 중인 토큰 (score = 진입 시각)
+ * - queue:admitted:{eventId} : 입장 허용된 토큰 (score = 입장 만료 시각)
+ * - queue:user:{eventId}     : userId -> token (같은 사용자의 중복 진입 방지)
+ * - queue:used:{eventId}     : token -> 이 입장권으로 예약한 좌석 수
+ * - queue:events             : 대기열이 활성화된 이벤트 ID 목록
+ *
+ * 입장권 하나로 예약할 수 있는 좌석 수는 max-seats-per-token으로 제한합니다.
+ * 확인과 차감을 스크립트 하나로 처리하므로, 같은 토큰으로 동시에 보낸 요청도 한도를 넘지 못합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AdmissionQueueService {
+
+    private static final String ACTIVE_EVENTS_KEY = "queue:events";
+    private static final String ADMIT_LOCK_KEY = "lock:queue:admit";
+
+    // KEYS[1] = 입장 토큰 목록, KEYS[2] = 토큰별 사용 좌석 수
+    // ARGV[1] = 토큰, ARGV[2] = 현재 시각(ms), ARGV[3] = 예약할 좌석 수, ARGV[4] = 토큰당 최대 좌석 수, ARGV[5] = 사용량 TTL(ms)
+    // 반환: 1 = 통과, 0 = 한도 초과, -1 = 입장하지 않았거나 만료된 토큰
+    private static final String ACQUIRE_SCRIPT =
+            "local expiresAt = redis.call('ZSCORE', KEYS[1], ARGV[1]) " +
+            "if not expiresAt or tonumber(expiresAt) <= tonumber(ARGV[2]) then return -1 end " +
+            "local used = redis.call('HINCRBY', KEYS[2], ARGV[1], ARGV[3]) " +
+            "if used > tonumber(ARGV[4]) then " +
+            "  redis.call('HINCRBY', KEYS[2], ARGV[1], -tonumber(ARGV[3])) " +
+            "  return 0 " +
+            "end " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[5]) " +
+            "return 1";
+
+    // KEYS[1] = 토큰별 사용 좌석 수 / ARGV[1] = 토큰, ARGV[2] = 되돌릴 좌석 수
+    private static final String RELEASE_SCRIPT =
+            "local used = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0') " +
+            "if used <= tonumber(ARGV[2]) then return redis.call('HDEL', KEYS[1], ARGV[1]) end " +
+            "return redis.call('HINCRBY', KEYS[1], ARGV[1], -tonumber(ARGV[2]))";
+
+    private final RedissonClient redissonClient;
+
+    @Value("${reservation.queue.enabled:false}")
+    private boolean enabled;
+
+    @Value("${reservation.queue.admit-per-second:100}")
+    private int admitPerSecond;
+
+    @Value("${reservation.queue.admission-ttl-seconds:300}")
+    private long admissionTtlSeconds;
+
+    @Value("${reservation.queue.max-seats-per-token:4}")
+    private int maxSeatsPerToken;
+
+    /**
+     * 대기열에 진입합니다. 이미 유효한 토큰이 있으면 그대로 돌려줍니다.
+     */
+    public QueueStatusDto enter(Long eventId, Long userId) {
+        RMap<String, String> userTokens = userTokens(eventId);
+        String existing = userTokens.get(String.valueOf(userId));
+
+        if (existing != null) {
+            QueueStatusDto status = findStatus(eventId, existing);
+            if (status != null) {
+                return status;
+            }
+        }
+
+        String token = userId + ":" + UUID.randomUUID();
+        waiting(eventId).add(System.currentTimeMillis(), token);
+        userTokens.fastPut(String.valueOf(userId), token);
+        userTokens.expire(Duration.ofSeconds(admissionTtlSeconds * 2));
+        activeEvents().add(String.valueOf(eventId));
+
+        log.info("대기열 진입 - Event: {}, User: {}", eventId, userId);
+        return findStatus(eventId, token);
+    }
+
+    /**
+     * 토큰의 현재 대기 순번/입장 여부를 조회합니다.
+     */
+    public QueueStatusDto getStatus(Long eventId, String token) {
+        QueueStatusDto status = findStatus(eventId, token);
+        if (status == null) {
+            throw new IllegalArgumentException("유효하지 않거나 만료된 대기열 토큰입니다.");
+        }
+        return status;
+    }
+
+    /**
+     * 예약 경로 입장 가능 여부를 확인하고, 통과하면 입장권에서 좌석 수만큼 차감합니다.
+     * 대기열이 꺼져 있으면 항상 통과합니다.
+     * 예약이 실패로 끝나면 release로 차감한 좌석 수를 되돌려야 합니다.
+     *
+     * @param seats 이번 요청으로 예약할 좌석 수
+     */
+    public boolean acquire(Long eventId, Long userId, String token, int seats) {
+        if (!enabled) {
+            return true;
+        }
+        if (token == null || eventId == null || !token.startsWith(userId + ":") || seats <= 0) {
+            return false;
+        }
+
+        Long result = redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, ACQUIRE_SCRIPT,
+                RScript.ReturnType.INTEGER, List.of(admitted(eventId).getName(), usedKey(eventId)),
+                token, String.valueOf(System.currentTimeMillis()), String.valueOf(seats),
+                String.valueOf(maxSeatsPerToken), String.valueOf(admissionTtlSeconds * 2000L));
+        if (result != null && result == 0L) {
+            log.info("입장권 좌석 한도 초과 - Event: {}, User: {}", eventId, userId);
+        }
+        return result != null && result == 1L;
+    }
+
+    /**
+     * 예약이 실패한 요청이 차감한 좌석 수를 입장권에 되돌립니다.
+     */
+    public void release(Long eventId, String token, int seats) {
+        if (!enabled || token == null || eventId == null || seats <= 0) {
+            return;
+        }
+        try {
+            redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, RELEASE_SCRIPT,
+                    RScript.ReturnType.INTEGER, List.of(usedKey(eventId)), token, String.valueOf(seats));
+        } catch (RuntimeException e) {
+            log.warn("입장권 좌석 수 복원 실패 - Event: {}: {}", eventId, e.getMessage());
+        }
+    }
+
+    /**
+     * 1초마다 이벤트별로 대기자 N명을 입장시킵니다.
+     * 여러 노드가 떠 있어도 한 노드만 입장 처리를 하도록 락을 겁니다.
+     */
+    @Scheduled(fixedRate = 1000)
+    public void admit() {
+        if (!enabled) {
+            return;
+        }
+
+        RLock lock = redissonClient.getLock(ADMIT_LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+
+        try {
+            long now = System.currentTimeMillis();
+            for (String eventIdStr : activeEvents().readAll()) {
+                Long eventId = Long.valueOf(eventIdStr);
+                RScoredSortedSet<String> waiting = waiting(eventId);
+                RScoredSortedSet<String> admitted = admitted(eventId);
+
+                // 만료된 입장권 정리
+                admitted.removeRangeByScore(0, true, now, true);
+
+                Collection<String> tokens = waiting.pollFirst(admitPerSecond);
+                if (!tokens.isEmpty()) {
+                    Map<String, Double> entries = new HashMap<>();
+                    double expiresAt = now + admissionTtlSeconds * 1000L;
+                    tokens.forEach(token -> entries.put(token, expiresAt));
+                    admitted.addAll(entries);
+                    log.info("대기열 입장 - Event: {}, {}명", eventId, tokens.size());
+                }
+
+                if (waiting.isEmpty() && admitted.isEmpty()) {
+                    activeEvents().remove(eventIdStr);
+                    redissonClient.getKeys().delete(usedKey(eventId));
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private QueueStatusDto findStatus(Long eventId, String token) {
+        Double expiresAt = admitted(eventId).getScore(token);
+        if (expiresAt != null && expiresAt > System.currentTimeMillis()) {
+            return QueueStatusDto.builder()
+                    .eventId(eventId)
+                    .token(token)
+                    .position(0)
+                    .admitted(true)
+                    .estimatedWaitSeconds(0)
+                    .build();
+        }
+
+        Integer rank = waiting(eventId).rank(token);
+        if (rank == null) {
+            return null;
+        }
+
+        // 스케줄러가 대기열을 비운 뒤 비활성화했을 수 있으므로 다시 등록
+        activeEvents().add(String.valueOf(eventId));
+
+        long position = rank + 1L;
+        return QueueStatusDto.builder()
+                .eventId(eventId)
+                .token(token)
+                .position(position)
+                .admitted(false)
+                .estimatedWaitSeconds((position + admitPerSecond - 1) / admitPerSecond)
+                .build();
+    }
+
+    private RScoredSortedSet<String> waiting(Long eventId) {
+        return redissonClient.getScoredSortedSet("queue:wait:{" + eventId + "}", StringCodec.INSTANCE);
+    }
+
+    private RScoredSortedSet<String> admitted(Long eventId) {
+        return redissonClient.getScoredSortedSet("queue:admitted:{" + eventId + "}", StringCodec.INSTANCE);
+    }
+
+    private static String usedKey(Long eventId) {
+        return "queue:used:{" + eventId + "}";
+    }
+
+    private RMap<String, String> userTokens(Long eventId) {
+        return redissonClient.getMap("queue:user:{" + eventId + "}", StringCodec.INSTANCE);
+    }
+
+    private RSet<String> activeEvents() {
+        return redissonClient.getSet(ACTIVE_EVENTS_KEY, StringCodec.INSTANCE);
+    }
+}
@@ -0,0 +1,212 @@
+package com.musicCommunity.service;
+
+import com.musicCommunity.domain.Reservation;
+import com.musicCommunity.dto.BatchReservationRequestDto;
+import com.musicCommunity.dto.BestAvailableRequestDto;
+import com.musicCommunity.dto.SeatMapDto;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 최적 연속 좌석 자동 배정 (best available)
+ * 이벤트마다 열 단위 빈 좌석 인덱스(FreeRunTree)를 메모리에 두고,
+ * 조건(구역/가격)에 맞는 열을 앞에서부터 보며 가운데에 가장 가까운 count석 연속 구간을 고릅니다.
+ *
+ * 고른 좌석은 바로 인덱스에서 사용 중으로 표시하므로, 같은 노드로 동시에 들어온 요청은 서로 다른 구간을 받습니다.
+ * 실제 확정은 다중 좌석 예매(전부 아니면 전무)로 처리하고, 다른 노드/홀드와 충돌하면 다음 구간으로 다시 시도합니다.
+ * 인덱스는 좌석 변경 토픽으로 갱신되며, 어긋남을 줄이기 위해 rebuild-interval-ms마다 좌석 맵에서 다시 만듭니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BestAvailableSeatService {
+
+    private final SeatMapService seatMapService;
+    private final ReservationService reservationService;
+    private final SeatClaimService seatClaimService;
+    private final SeatConcurrencyStrategyResolver strategyResolver;
+    private final RedissonClient redissonClient;
+
+    @Value("${reservation.best-available.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${reservation.best-available.rebuild-interval-ms:60000}")
+    private long rebuildIntervalMs;
+
+    @Value("${reservation.batch.max-seats:10}")
+    private int maxSeatsPerRequest;
+
+    private final Map<Long, EventIndex> indexes = new ConcurrentHashMap<>();
+
+    private record RowIndex(String section, BigDecimal price, int start, FreeRunTree tree) {}
+
+    /**
+     * 이벤트 하나의 빈 좌석 인덱스. 모든 접근은 인스턴스 락으로 직렬화합니다.
+     */
+    private static final class EventIndex {
+        private final long builtAtMs = System.currentTimeMillis();
+        private final long[] seatIds;        // position → 좌석 ID (오름차순)
+        private final List<RowIndex> rows;
+        private final int[] rowStarts;
+
+        private EventIndex(long[] seatIds, List<RowIndex> rows) {
+            this.seatIds = seatIds;
+            this.rows = rows;
+            this.rowStarts = rows.stream().mapToInt(RowIndex::start).toArray();
+        }
+
+        private synchronized void set(long seatId, boolean isFree) {
+            int position = Arrays.binarySearch(seatIds, seatId);
+            if (position < 0) {
+                return;
+            }
+            int rowIndex = Arrays.binarySearch(rowStarts, position);
+            if (rowIndex < 0) {
+                rowIndex = -rowIndex - 2;
+            }
+            RowIndex row = rows.get(rowIndex);
+            row.tree().set(position - row.start(), isFree);
+        }
+
+        /**
+         * 조건에 맞는 구간을 찾아 사용 중으로 표시하고 좌석 ID를 반환합니다. 없으면 빈 리스트.
+         */
+        private synchronized List<Long> take(int count, String section, BigDecimal price) {
+            for (RowIndex row : rows) {
+                if (section != null && !section.equals(row.section())) continue;
+                if (price != null && (row.price() == null || price.compareTo(row.price()) != 0)) continue;
+
+                int offset = row.tree().findCentered(count);
+                if (offset < 0) continue;
+
+                List<Long> taken = new ArrayList<>(count);
+                for (int i = offset; i < offset + count; i++) {
+                    row.tree().set(i, false);
+                    taken.add(seatIds[row.start() + i]);
+                }
+                return taken;
+            }
+            return List.of();
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        // 커밋된 좌석 변경을 인덱스에 반영합니다. (이미 인덱스가 있는 이벤트만)
+        redissonClient.getTopic(SeatChangeStreamService.TOPIC, StringCodec.INSTANCE)
+                .addListener(String.class, (channel, message) -> {
+                    SeatStateChange change = SeatChangeStreamService.decode(message);
+                    EventIndex index = indexes.get(change.eventId());
+                    if (index != null) {
+                        change.seatIds().forEach(seatId -> index.set(seatId, !change.reserved()));
+                    }
+                });
+    }
+
+    public List<Reservation> reserveBestAvailable(BestAvailableRequestDto requestDto) {
+        Long eventId = requestDto.getEventId();
+        int count = requestDto.getCount();
+        if (eventId == null || count < 1) {
+            throw new IllegalArgumentException("이벤트 ID와 좌석 수는 필수입니다.");
+        }
+        if (count > maxSeatsPerRequest) {
+            throw new IllegalArgumentException("한 번에 최대 " + maxSeatsPerRequest + "석까지 예매할 수 있습니다.");
+        }
+        strategyResolver.requireSeatBitmap(eventId);
+
+        EventIndex index = indexFor(eventId);
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            List<Long> seatIds = index.take(count, requestDto.getSection(), requestDto.getPrice());
+            if (seatIds.isEmpty()) {
+                throw new IllegalStateException("조건에 맞는 연속 좌석이 없습니다.");
+            }
+
+            try {
+                return reservationService.reserveSeats(
+                        new BatchReservationRequestDto(requestDto.getUserId(), eventId, seatIds));
+            } catch (IllegalStateException e) {
+                // 다른 노드/홀드가 먼저 가져간 좌석이 섞여 있음: 비트맵을 다시 읽어 실제로 빈 좌석은 인덱스에 되돌리고 다음 구간으로
+                log.info("자동 배정 충돌 - Event: {}, Seats: {}, 시도 {}/{}", eventId, seatIds, attempt, maxAttempts);
+                SeatClaimService.BitmapSnapshot snapshot = seatClaimService.snapshot(eventId);
+                if (snapshot != null) {
+                    seatIds.forEach(seatId -> index.set(seatId, !snapshot.isTaken(seatId)));
+                }
+            } catch (RuntimeException e) {
+                seatIds.forEach(seatId -> index.set(seatId, true));
+                throw e;
+            }
+        }
+        throw new IllegalStateException("좌석 경합이 많아 연속 좌석을 확보하지 못했습니다. 다시 시도해주세요.");
+    }
+
+    private EventIndex indexFor(Long eventId) {
+        EventIndex index = indexes.get(eventId);
+        if (isFresh(index)) {
+            return index;
+        }
+
+        // 좌석 맵/비트맵 조회(I/O)는 맵의 락 밖에서 하고, 그 사이 다른 스레드가 새로 만든 인덱스가 있으면 그것을 씁니다.
+        EventIndex built = build(seatMapService.getSeatMap(eventId), seatClaimService.snapshot(eventId));
+        return indexes.merge(eventId, built, (existing, created) -> isFresh(existing) ? existing : created);
+    }
+
+    private boolean isFresh(EventIndex index) {
+        return index != null && System.currentTimeMillis() - index.builtAtMs < rebuildIntervalMs;
+    }
+
+    /**
+     * 압축 좌석 맵에서 인덱스를 만듭니다. 배치가 없는 이벤트는 전체를 한 열로 봅니다.
+     * 좌석 맵은 DB 기준이라 홀드/결제 중인 좌석을 모르므로, 비트맵이 있으면 비트맵에서 막힌 좌석도 사용 중으로 둡니다.
+     */
+    private static EventIndex build(SeatMapDto seatMap, SeatClaimService.BitmapSnapshot snapshot) {
+        int count = seatMap.getSeatCount();
+
+        long[] seatIds = new long[count];
+        int position = 0;
+        for (long[] run : seatMap.getIdRuns()) {
+            for (long k = 0; k < run[1]; k++) {
+                seatIds[position++] = run[0] + k;
+            }
+        }
+
+        boolean[] free = new boolean[count];
+        for (int i = 0; i < count; i++) {
+            free[i] = (seatMap.getReserved()[i >> 3] & (0x80 >>> (i & 7))) == 0
+                    && (snapshot == null || !snapshot.isTaken(seatIds[i]));
+        }
+
+        List<SeatMapDto.Row> layoutRows = seatMap.getRows() != null
+                ? seatMap.getRows()
+                : List.of(new SeatMapDto.Row(null, null, count));
+
+        List<RowIndex> rows = new ArrayList<>(layoutRows.size());
+        int start = 0;
+        for (SeatMapDto.Row row : layoutRows) {
+            BigDecimal price = row.getSeatCount() == 0 ? null : priceAt(seatMap, start);
+            rows.add(new RowIndex(row.getSection(), price, start,
+                    new FreeRunTree(Arrays.copyOfRange(free, start, start + row.getSeatCount()))));
+            start += row.getSeatCount();
+        }
+        return new EventIndex(seatIds, rows);
+    }
+
+    private static BigDecimal priceAt(SeatMapDto seatMap, int position) {
+        if (seatMap.getPriceTiers() == null || seatMap.getPriceTiers().isEmpty()) {
+            return null;
+        }
+        int tier = seatMap.getTierIndex() == null ? 0 : Byte.toUnsignedInt(seatMap.getTierIndex()[position]);
+        return seatMap.getPriceTiers().get(tier);
+    }
+}
@@ -0,0 +1,66 @@
+package com.musicCommunity.service;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 단순 서킷 브레이커
+ * 연속 실패가 failureThreshold번 쌓이면 openMs 동안 호출을 바로 거절(OPEN)하고,
+ * 그 뒤에는 시험 호출 하나만 통과시켜(HALF_OPEN) 성공하면 닫고, 실패하면 다시 엽니다.
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openMs;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong openedAtMs = new AtomicLong(-1);
+    private final AtomicBoolean trialInFlight = new AtomicBoolean();
+
+    public CircuitBreaker(String name, int failureThreshold, long openMs) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openMs = openMs;
+    }
+
+    /**
+     * 호출해도 되는지 확인합니다. true를 받았으면 결과를 반드시 onSuccess/onFailure로 알려야 합니다.
+     */
+    public boolean tryAcquire() {
+        long openedAt = openedAtMs.get();
+        if (openedAt < 0) {
+            return true;
+        }
+        if (System.currentTimeMillis() - openedAt < openMs) {
+            return false;
+        }
+        // 열린 시간이 지나면 시험 호출 하나만 허용
+        return trialInFlight.compareAndSet(false, true);
+    }
+
+    public void onSuccess() {
+        consecutiveFailures.set(0);
+        openedAtMs.set(-1);
+        trialInFlight.set(false);
+    }
+
+    public void onFailure() {
+        if (trialInFlight.compareAndSet(true, false) || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openedAtMs.set(System.currentTimeMillis());
+        }
+    }
+
+    public State getState() {
+        long openedAt = openedAtMs.get();
+        if (openedAt < 0) return State.CLOSED;
+        return System.currentTimeMillis() - openedAt < openMs ? State.OPEN : State.HALF_OPEN;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
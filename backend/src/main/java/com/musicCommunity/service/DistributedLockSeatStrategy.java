@@ -0,0 +1,54 @@
+package com.musicCommunity.service;
+
+import com.musicCommunity.domain.Reservation;
+import com.musicCommunity.dto.ReservationRequestDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redisson 분산 락 전략
+ * 좌석별 락(lock:seat:{id})을 잡은 뒤 트랜잭션을 실행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DistributedLockSeatStrategy implements SeatConcurrencyStrategy {
+
+    private final RedissonClient redissonClient;
+    private final ReservationServiceExecutor reservationExecutor;
+
+    @Override
+    public SeatConcurrencyMode mode() {
+        return SeatConcurrencyMode.DISTRIBUTED_LOCK;
+    }
+
+    @Override
+    public Reservation reserve(ReservationRequestDto requestDto) {
+        RLock lock = redissonClient.getLock("lock:seat:" + requestDto.getSeatId());
+
+        try {
+            // leaseTime: -1로 설정하여 Watchdog이 트랜잭션 종료 시까지 락을 유지하게 함
+            boolean available = lock.tryLock(100, -1, TimeUnit.MILLISECONDS);
+
+            if (!available) {
+                log.error("락 획득 실패 - 대기 시간 초과");
+                throw new RuntimeException("접속자가 많아 처리에 실패했습니다. 다시 시도해주세요.");
+            }
+
+            return reservationExecutor.proceed(requestDto);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("시스템 오류가 발생했습니다.");
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+}
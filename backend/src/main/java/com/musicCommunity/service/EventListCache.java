@@ -0,0 +1,212 @@
+package com.musicCommunity.service;
+
+import com.musicCommunity.dto.EventDto;
+import com.musicCommunity.mapper.EventMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 이벤트 목록 캐시 (캐시 스탬피드 방지)
+ * "events" 캐시의 'all_list' 항목을 적재 시각과 함께 보관하고 다음 규칙으로 제공합니다.
+ *
+ * - soft TTL 이내: 캐시 값을 그대로 반환
+ * - soft TTL ~ hard TTL: 캐시 값(약간 오래된 값)을 바로 반환하고, 백그라운드에서 한 번만 갱신
+ * - hard TTL 초과 또는 없음: 동시에 들어온 요청이 하나의 적재를 기다림 (노드 내 single-flight + 노드 간 분산 락)
+ * - 최근에 조회된 목록은 soft TTL이 끝나기 직전에 미리 갱신합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventListCache {
+
+    private static final String CACHE_NAME = "events";
+    private static final String KEY = "all_list";
+    private static final String LOCK_KEY = "lock:cache:events:all_list";
+
+    private final CacheManager cacheManager;
+    private final RedissonClient redissonClient;
+    private final EventMapper eventMapper;
+
+    @Value("${cache.events.soft-ttl-ms:10000}")
+    private long softTtlMs;
+
+    @Value("${cache.events.hard-ttl-ms:60000}")
+    private long hardTtlMs;
+
+    @Value("${cache.events.refresh-ahead-ms:2000}")
+    private long refreshAheadMs;
+
+    @Value("${cache.events.load-wait-ms:3000}")
+    private long loadWaitMs;
+
+    // 진행 중인 적재 (같은 노드의 동시 요청은 이 결과를 함께 기다립니다)
+    private final AtomicReference<CompletableFuture<List<EventDto>>> inFlight = new AtomicReference<>();
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "event-list-cache-refresher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile long lastAccessMs;
+
+    /**
+     * 캐시에 저장되는 값 (목록 + 적재 시각)
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry implements Serializable {
+        private List<EventDto> events;
+        private long loadedAtMs;
+    }
+
+    public List<EventDto> get() {
+        long now = System.currentTimeMillis();
+        lastAccessMs = now;
+
+        Entry entry = read();
+        if (entry != null && now - entry.getLoadedAtMs() < hardTtlMs) {
+            if (now - entry.getLoadedAtMs() >= softTtlMs) {
+                refreshAsync();
+            }
+            return entry.getEvents();
+        }
+
+        try {
+            return load().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 목록 캐시를 비웁니다.
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 비워, 커밋 전 데이터가 다시 캐시되지 않게 합니다.
+     */
+    public void evict() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache().evict(KEY);
+                }
+            });
+            return;
+        }
+        cache().evict(KEY);
+    }
+
+    /**
+     * 최근 soft TTL 안에 조회된 목록이면, 만료 직전에 미리 갱신합니다.
+     */
+    @Scheduled(fixedDelayString = "${cache.events.refresh-check-ms:1000}")
+    public void refreshAhead() {
+        long now = System.currentTimeMillis();
+        if (now - lastAccessMs > softTtlMs) {
+            return;
+        }
+        Entry entry = read();
+        if (entry != null && now - entry.getLoadedAtMs() >= softTtlMs - refreshAheadMs) {
+            refreshAsync();
+        }
+    }
+
+    private void refreshAsync() {
+        if (inFlight.get() == null) {
+            refresher.execute(this::load);
+        }
+    }
+
+    /**
+     * 노드 내 single-flight: 이미 진행 중인 적재가 있으면 그 결과를 공유합니다.
+     */
+    private CompletableFuture<List<EventDto>> load() {
+        while (true) {
+            CompletableFuture<List<EventDto>> existing = inFlight.get();
+            if (existing != null) {
+                return existing;
+            }
+
+            CompletableFuture<List<EventDto>> mine = new CompletableFuture<>();
+            if (inFlight.compareAndSet(null, mine)) {
+                try {
+                    mine.complete(loadShared());
+                } catch (RuntimeException e) {
+                    mine.completeExceptionally(e);
+                } finally {
+                    inFlight.set(null);
+                }
+                return mine;
+            }
+        }
+    }
+
+    /**
+     * 노드 간 single-flight: 분산 락을 잡은 노드만 DB를 조회하고, 나머지는 그 결과를 캐시에서 읽습니다.
+     */
+    private List<EventDto> loadShared() {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        boolean locked = false;
+        try {
+            locked = lock.tryLock(loadWaitMs, TimeUnit.MILLISECONDS);
+
+            // 락을 기다리는 동안 다른 노드가 이미 갱신했다면 그 값을 사용합니다.
+            Entry entry = read();
+            if (entry != null && System.currentTimeMillis() - entry.getLoadedAtMs() < softTtlMs) {
+                return entry.getEvents();
+            }
+            if (!locked) {
+                log.warn("이벤트 목록 적재 락 대기 시간 초과 - 직접 조회합니다.");
+            }
+
+            List<EventDto> events = eventMapper.findAllEvents();
+            cache().put(KEY, new Entry(events, System.currentTimeMillis()));
+            return events;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("시스템 오류가 발생했습니다.");
+        } finally {
+            if (locked && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private Entry read() {
+        Cache.ValueWrapper wrapper = cache().get(KEY);
+        return wrapper != null && wrapper.get() instanceof Entry entry ? entry : null;
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(CACHE_NAME);
+    }
+
+    @PreDestroy
+    public void stop() {
+        refresher.shutdownNow();
+    }
+}
@@ -0,0 +1,73 @@
+package com.musicCommunity.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 이벤트 → 소유 노드 매핑 (일관된 해싱)
+ * 노드마다 가상 노드를 여러 개 링에 올려, 노드가 추가/제거되어도 일부 이벤트만 소유자가 바뀝니다.
+ *
+ * 예) application.properties
+ *   reservation.partition.nodes=http://10.0.0.1:8080,http://10.0.0.2:8080
+ *   reservation.partition.self=http://10.0.0.1:8080
+ * 노드 목록이 비어 있으면 단일 노드로 보고 모든 이벤트를 직접 처리합니다.
+ */
+@Slf4j
+@Component
+public class EventPartitionRouter {
+
+    private static final int VIRTUAL_NODES = 128;
+
+    @Value("${reservation.partition.nodes:}")
+    private String[] nodes;
+
+    @Value("${reservation.partition.self:}")
+    private String self;
+
+    private final TreeMap<Long, String> ring = new TreeMap<>();
+
+    @PostConstruct
+    public void init() {
+        Arrays.stream(nodes).map(String::trim).filter(node -> !node.isEmpty()).forEach(node -> {
+            for (int i = 0; i < VIRTUAL_NODES; i++) {
+                ring.put(hash(node + "#" + i), node);
+            }
+        });
+        log.info("예약 파티션 링 구성 - 노드: {}, 자신: {}", Arrays.toString(nodes), self);
+    }
+
+    /**
+     * 이벤트를 소유한 노드 주소를 반환합니다. 단일 노드 구성이면 null.
+     */
+    public String ownerOf(Long eventId) {
+        if (ring.isEmpty()) {
+            return null;
+        }
+        Map.Entry<Long, String> entry = ring.ceilingEntry(hash("event:" + eventId));
+        return (entry != null ? entry : ring.firstEntry()).getValue();
+    }
+
+    public boolean isOwner(Long eventId) {
+        String owner = ownerOf(eventId);
+        return owner == null || owner.equals(self);
+    }
+
+    private static long hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(key.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
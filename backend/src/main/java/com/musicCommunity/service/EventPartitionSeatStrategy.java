@@ -0,0 +1,203 @@
+package com.musicCommunity.service;
+
+import com.musicCommunity.domain.Reservation;
+import com.musicCommunity.domain.Seat;
+import com.musicCommunity.dto.ReservationRequestDto;
+import com.musicCommunity.exception.PartitionOwnershipException;
+import com.musicCommunity.exception.ReservationPendingException;
+import com.musicCommunity.mapper.EventMapper;
+import com.musicCommunity.mapper.SeatMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * 이벤트 파티션 전략 (액터 방식)
+ * 이벤트마다 정해진 단일 스레드 워커 하나가 그 이벤트의 좌석 상태를 메모리에 들고 할당합니다.
+ * 좌석 상태는 소유 워커 스레드만 읽고 쓰므로 락이 필요 없고, Redis도 거치지 않습니다.
+ * 이벤트를 소유하지 않은 노드로 들어온 요청은 PartitionOwnershipException으로 소유 노드에 넘깁니다.
+ *
+ * 워커는 메모리 할당만 하고, DB 저장은 호출 스레드에서 수행합니다. (reservation.write-behind.enabled 시 그룹 커밋)
+ * DB 저장이 실패하면 해제 작업을 다시 워커에 보냅니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventPartitionSeatStrategy implements SeatConcurrencyStrategy {
+
+    private final EventPartitionRouter router;
+    private final SeatMapper seatMapper;
+    private final EventMapper eventMapper;
+    private final ReservationServiceExecutor reservationExecutor;
+    private final ReservationWriteBehindService writeBehindService;
+
+    @Value("${reservation.partition.workers:4}")
+    private int workerCount;
+
+    private ExecutorService[] workers;
+    // 워커별 이벤트 좌석 상태 (해당 워커 스레드에서만 접근)
+    private List<Map<Long, EventSeats>> workerStates;
+
+    /**
+     * 이벤트 하나의 좌석 상태. 비트 인덱스 = seatId - base, 1 = 예약됨/사용 불가
+     */
+    private static final class EventSeats {
+        private final long base;
+        private final int size;
+        private final BitSet taken;
+
+        private EventSeats(long base, int size, BitSet taken) {
+            this.base = base;
+            this.size = size;
+            this.taken = taken;
+        }
+
+        private int indexOf(Long seatId) {
+            long index = seatId - base;
+            return (index < 0 || index >= size) ? -1 : (int) index;
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        workers = new ExecutorService[workerCount];
+        List<Map<Long, EventSeats>> states = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            int index = i;
+            workers[i] = Executors.newSingleThreadExecutor(r -> {
+                Thread thread = new Thread(r, "reservation-partition-" + index);
+                thread.setDaemon(true);
+                return thread;
+            });
+            states.add(new HashMap<>());
+        }
+        workerStates = states;
+    }
+
+    @PreDestroy
+    public void stop() {
+        for (ExecutorService worker : workers) {
+            worker.shutdown();
+        }
+    }
+
+    @Override
+    public SeatConcurrencyMode mode() {
+        return SeatConcurrencyMode.EVENT_PARTITION;
+    }
+
+    @Override
+    public Reservation reserve(ReservationRequestDto requestDto) {
+        Long eventId = requestDto.getEventId();
+        Long seatId = requestDto.getSeatId();
+
+        if (!router.isOwner(eventId)) {
+            throw new PartitionOwnershipException(eventId, router.ownerOf(eventId));
+        }
+
+        // 1. 소유 워커에서 메모리 할당 (락 없음)
+        runOnWorker(eventId, seats -> {
+            int index = seats.indexOf(seatId);
+            if (index < 0) {
+                throw new IllegalArgumentException("존재하지 않는 좌석입니다.");
+            }
+            if (seats.taken.get(index)) {
+                throw new IllegalStateException("이미 예약된 좌석입니다.");
+            }
+            seats.taken.set(index);
+        });
+
+        // 2. 할당에 성공한 요청만 DB 저장
+        Runnable release = () -> runOnWorker(eventId, seats -> {
+            int index = seats.indexOf(seatId);
+            if (index >= 0) seats.taken.clear(index);
+        });
+        try {
+            if (writeBehindService.isEnabled()) {
+                return writeBehindService.submit(requestDto, release);
+            }
+            return reservationExecutor.proceed(requestDto);
+        } catch (IllegalStateException | ReservationPendingException e) {
+            // DB 기준으로도 이미 예약된 좌석이거나 아직 저장 중인 예약이므로 메모리 상태는 그대로 둡니다.
+            throw e;
+        } catch (RuntimeException e) {
+            release.run();
+            throw e;
+        }
+    }
+
+    private void runOnWorker(Long eventId, Consumer<EventSeats> task) {
+        int index = Math.floorMod(eventId.hashCode(), workerCount);
+        Map<Long, EventSeats> states = workerStates.get(index);
+
+        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
+            EventSeats seats = states.computeIfAbsent(eventId, this::loadSeats);
+            if (seats == null) {
+                throw new IllegalArgumentException("예약할 수 있는 좌석이 없는 공연입니다.");
+            }
+            task.accept(seats);
+        }, workers[index]);
+
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 이벤트의 메모리 좌석 상태를 버립니다. 다음 요청 때 DB 기준으로 다시 올립니다.
+     */
+    public void evict(Long eventId) {
+        int index = Math.floorMod(eventId.hashCode(), workerCount);
+        Map<Long, EventSeats> states = workerStates.get(index);
+        workers[index].execute(() -> states.remove(eventId));
+    }
+
+    /**
+     * 처음 요청된 이벤트의 좌석 상태를 DB에서 읽어 메모리에 올립니다. (워커 스레드에서 1회)
+     * 좌석 생성이 끝나지 않은(ACTIVE가 아닌) 이벤트는 좌석 일부만 보일 수 있으므로 올리지 않습니다.
+     * (null을 돌려주면 computeIfAbsent가 캐시하지 않으므로 다음 요청에서 다시 확인합니다)
+     */
+    private EventSeats loadSeats(Long eventId) {
+        if (!"ACTIVE".equals(eventMapper.findEventStatus(eventId))) {
+            return null;
+        }
+        List<Seat> seats = seatMapper.findSeatsByEventId(eventId);
+        if (seats.isEmpty()) {
+            return null;
+        }
+
+        long base = seats.stream().mapToLong(Seat::getId).min().getAsLong();
+        int size = (int) (seats.stream().mapToLong(Seat::getId).max().getAsLong() - base + 1);
+
+        // 다른 이벤트의 좌석 ID가 끼어 있는 구간은 사용 불가로 막아둡니다.
+        BitSet taken = new BitSet(size);
+        taken.set(0, size);
+        for (Seat seat : seats) {
+            if (!seat.getIsReserved()) {
+                taken.clear((int) (seat.getId() - base));
+            }
+        }
+
+        log.info("파티션 좌석 상태 적재 - Event: {}, 좌석 {}석", eventId, seats.size());
+        return new EventSeats(base, size, taken);
+    }
+}
@@ -7,8 +7,6 @@ import com.musicCommunity.dto.EventDto;
 import com.musicCommunity.mapper.EventMapper;
 import com.musicCommunity.mapper.SeatMapper;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +20,13 @@ public class EventService {
     // EventMapper (com.musiccommunity.mapper)를 주입받아 사용합니다.
     private final EventMapper eventMapper;
     private final SeatMapper seatMapper;
+    private final SeatClaimService seatClaimService;
+    private final SeatMapService seatMapService;
+    private final SeatCounterService seatCounterService;
+    private final EventListCache eventListCache;
+    private final SeatGenerationService seatGenerationService;
+    private final VenueLayoutService venueLayoutService;
+    private final EventPartitionSeatStrategy eventPartitionSeatStrategy;
 
     public Seat getSeat(Long seatId) {
         Seat seat = seatMapper.selectSeatById(seatId);
@@ -32,13 +37,14 @@ public class EventService {
     }
 
     /**
-     * DB에 저장된 모든 Event 목록을 조회합니다.
+     * 예매 가능한(ACTIVE) Event 목록(메타데이터)을 조회합니다. 좌석 생성 중이거나 취소된 이벤트는 빠집니다.
+     * 잔여 좌석 수(availableSeats)는 채워지지 않으며, SeatCounterService.withAvailableSeats로 채웁니다.
+     * 예약으로는 바뀌지 않으므로 이벤트 생성/상태 변경 시에만 캐시를 비웁니다. (커밋 후)
      * @return EventDto 리스트
      */
-    // value: 캐시 이름, key: 캐시 내에서 식별자
-    @Cacheable(value = "events", key = "'all_list'")
+    // 캐시 스탬피드 방지: 동시 미스는 한 번만 적재하고, soft TTL이 지나면 기존 값을 주면서 백그라운드 갱신
     public List<EventDto> findAllEvents() {
-        return eventMapper.findAllEvents();
+        return eventListCache.get();
     }
 
     /**
@@ -51,10 +57,20 @@ public class EventService {
         return seatMapper.findSeatsByEventId(eventId);
     }
 
-    @CacheEvict(value = "events", key = "'all_list'")
-    @Transactional
+    /**
+     * 이벤트와 좌석을 생성합니다.
+     * 좌석이 많으면 생성에 시간이 걸리므로, 이벤트는 PREPARING 상태로 먼저 저장하고
+     * 좌석을 chunk 단위 트랜잭션으로 모두 넣은 뒤 ACTIVE로 바꿉니다. (하나의 긴 트랜잭션을 잡지 않음)
+     * 좌석 생성에 실패하면 이벤트를 CANCELED로 바꾸고, 이미 커밋된 chunk의 좌석을 삭제합니다.
+     */
     public EventDto createEvent(EventDto eventDto) {
 
+        // 좌석 배치가 지정되면 배치의 좌석 수를 사용합니다.
+        VenueLayoutIndex layoutIndex = eventDto.getLayoutId() != null
+                ? new VenueLayoutIndex(venueLayoutService.getLayout(eventDto.getLayoutId()))
+                : null;
+        int totalSeats = layoutIndex != null ? layoutIndex.totalSeats() : eventDto.getTotalSeats();
+
         //DTO -> Entity 변환
         Event event = Event.builder()
                 .title(eventDto.getTitle())
@@ -64,14 +80,30 @@ public class EventService {
                 .runtimeMinutes(eventDto.getRuntimeMinutes())
                 .ageRestriction(eventDto.getAgeRestriction())
                 .posterUrl(eventDto.getPosterUrl())
-                .totalSeats(eventDto.getTotalSeats())
+                .totalSeats(totalSeats)
                 .description(eventDto.getDescription())
-                .status("ACTIVE") // 초기 상태는 'ACTIVE'로 설정
+                .status("PREPARING") // 좌석 생성이 끝나면 'ACTIVE'로 변경
+                .layoutId(eventDto.getLayoutId())
                 .build();
 
         // Mapper를 통해 DB에 저장
         eventMapper.insertEvent(event);
 
+        try {
+            createSeatsForNewEvent(event.getId(), event.getTotalSeats(), layoutIndex);
+        } catch (RuntimeException e) {
+            eventMapper.updateEventStatus(event.getId(), "CANCELED");
+            try {
+                seatGenerationService.deleteUnreserved(event.getId());
+            } catch (RuntimeException cleanupError) {
+                e.addSuppressed(cleanupError);
+            }
+            throw e;
+        }
+
+        eventMapper.updateEventStatus(event.getId(), "ACTIVE");
+        event.setStatus("ACTIVE");
+
         EventDto savedEventDto = EventDto.builder()
                 .id(event.getId()) // 자동 생성된 ID를 사용
                 .title(event.getTitle())
@@ -84,47 +116,71 @@ public class EventService {
                 .totalSeats(event.getTotalSeats())
                 .description(event.getDescription())
                 .status(event.getStatus())
+                .layoutId(event.getLayoutId())
                 // availableSeats는 별도 로직이 필요하여 일단 totalSeats와 동일하게 설정
                 .availableSeats(event.getTotalSeats())
                 .build();
 
-        createSeatsForNewEvent(event.getId(), event.getTotalSeats());
+        // 같은 ID로 남아 있을 수 있는 이전 좌석 비트맵을 제거 (첫 예약 시 DB 기준으로 다시 적재)
+        seatClaimService.evict(event.getId());
+        // 이전 좌석 맵 ETag가 새 좌석 구성에 재사용되지 않도록 버전을 올립니다.
+        seatMapService.bumpVersion(event.getId());
+        seatCounterService.reset(event.getId());
+        // 좌석 생성 중(PREPARING)에 들어온 요청이 있었더라도 파티션 좌석 상태는 ACTIVE 이후 DB 기준으로 다시 올립니다.
+        eventPartitionSeatStrategy.evict(event.getId());
+        eventListCache.evict();
 
         return savedEventDto;
     }
     /**
      * 보조 함수: 새 이벤트에 대한 좌석 데이터를 생성하고 DB에 저장합니다.
+     * 실제 INSERT는 SeatGenerationService가 chunk 단위 multi-row INSERT로 처리합니다.
+     * 배치가 있으면 배치 순서대로 (구역, 열, 번호)와 등급 가격을 채우고, 없으면 "A-n" 단순 번호를 부여합니다.
      */
-    private void createSeatsForNewEvent(Long eventId, int totalSeats) {
-        // 가격 정책: 현재 EventDto에 가격 정보가 없으므로 임시로 기본값 설정
-        // 추후 EventDto에 price 필드를 추가하여 받아오는 것을 권장합니다.
-        BigDecimal defaultPrice = new BigDecimal("1000.00");
-
-        for (int i = 1; i <= totalSeats; i++) {
-            // 좌석 번호 생성 (예: "A-1", "A-2" ... "A-10")
-            // section이 없어졌으므로 단순하게 번호를 부여합니다.
-            String generatedSeatCode = "A-" + i;
-
-            Seat seat = Seat.builder()
-                    .eventId(eventId)
-                    .seatCode(generatedSeatCode) // Seat 엔티티의 필드명 사용
-                    .price(defaultPrice)
-                    .isReserved(false) // 초기 상태는 예약 안 됨
-                    .reservationId(null)
-                    .build();
-
-            // 4. SeatMapper를 통해 DB에 저장 (이 부분이 누락되었었습니다)
-            seatMapper.insertSeat(seat);
+    private void createSeatsForNewEvent(Long eventId, int totalSeats, VenueLayoutIndex layoutIndex) {
+        if (layoutIndex != null) {
+            seatGenerationService.generate(eventId, totalSeats, number -> {
+                VenueLayoutIndex.SeatPosition position = layoutIndex.positionAt(number - 1);
+                return Seat.builder()
+                        .eventId(eventId)
+                        .seatCode(position.seatCode())
+                        .section(position.section())
+                        .rowLabel(position.rowLabel())
+                        .seatNumber(position.seatNumber())
+                        .price(position.price())
+                        .isReserved(false)
+                        .reservationId(null)
+                        .build();
+            });
+            return;
         }
 
-        System.out.println("이벤트 ID " + eventId + "에 대해 " + totalSeats + "개의 좌석이 생성되었습니다.");
+        // 가격 정책: 배치 없이 만든 이벤트는 임시로 기본값 설정
+        BigDecimal defaultPrice = new BigDecimal("1000.00");
+
+        seatGenerationService.generate(eventId, totalSeats, number -> Seat.builder()
+                .eventId(eventId)
+                // 좌석 번호 생성 (예: "A-1", "A-2" ... "A-10")
+                .seatCode("A-" + number)
+                .price(defaultPrice)
+                .isReserved(false) // 초기 상태는 예약 안 됨
+                .reservationId(null)
+                .build());
     }
 
-    @CacheEvict(value = "events", key = "'all_list'") // 상태가 바뀌었으니(ACTIVE->CANCELED) 캐시 삭제
     @Transactional
     public boolean updateEventStatus(Long eventId, String status) {
+        // 상태가 바뀌었으니(ACTIVE->CANCELED) 커밋 후 캐시 삭제
+        eventListCache.evict();
+
         // 1. 매퍼를 호출하여 해당 ID의 status를 'CANCELED'로 변경
         // 영향받은 행의 수가 1 이상이면 true 반환
-        return eventMapper.updateEventStatus(eventId, status) > 0;
+        boolean updated = eventMapper.updateEventStatus(eventId, status) > 0;
+        eventPartitionSeatStrategy.evict(eventId);
+        // ACTIVE가 아니게 된 이벤트는 비트맵을 내려, 다음 선점 시 적재가 거절되게 합니다.
+        if (!"ACTIVE".equals(status)) {
+            seatClaimService.evict(eventId);
+        }
+        return updated;
     }
 }
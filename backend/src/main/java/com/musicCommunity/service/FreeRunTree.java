@@ -0,0 +1,112 @@
+package com.musicCommunity.service;
+
+/**
+ * 한 열의 빈 좌석 구간 세그먼트 트리
+ * 노드마다 (왼쪽 끝에서 이어지는 빈 좌석 수, 오른쪽 끝에서 이어지는 빈 좌석 수, 가장 긴 빈 구간)을 들고 있어
+ * "이 열에 N석 연속 빈자리가 있는가"를 O(1), 좌석 상태 변경을 O(log 좌석 수)로 처리합니다.
+ */
+public class FreeRunTree {
+
+    private final int size;
+    private final boolean[] free;
+    private final int[] prefix;
+    private final int[] suffix;
+    private final int[] best;
+
+    public FreeRunTree(boolean[] free) {
+        this.size = free.length;
+        this.free = free.clone();
+        this.prefix = new int[4 * Math.max(size, 1)];
+        this.suffix = new int[prefix.length];
+        this.best = new int[prefix.length];
+        if (size > 0) {
+            build(1, 0, size - 1);
+        }
+    }
+
+    /**
+     * 가장 긴 연속 빈 좌석 수
+     */
+    public int maxRun() {
+        return size == 0 ? 0 : best[1];
+    }
+
+    public void set(int index, boolean isFree) {
+        if (free[index] == isFree) {
+            return;
+        }
+        free[index] = isFree;
+        update(1, 0, size - 1, index);
+    }
+
+    /**
+     * count석 연속 빈 구간 중 열 가운데에 가장 가까운 구간의 시작 위치를 반환합니다. 없으면 -1.
+     */
+    public int findCentered(int count) {
+        if (count <= 0 || maxRun() < count) {
+            return -1;
+        }
+
+        // 이상적인 시작 위치: 블록의 가운데가 열의 가운데에 오도록
+        double idealStart = (size - count) / 2.0;
+        int bestStart = -1;
+        double bestDistance = Double.MAX_VALUE;
+
+        int runStart = -1;
+        for (int i = 0; i <= size; i++) {
+            if (i < size && free[i]) {
+                if (runStart < 0) runStart = i;
+                continue;
+            }
+            if (runStart >= 0 && i - runStart >= count) {
+                // 빈 구간 [runStart, i) 안에서 이상적인 위치에 가장 가까운 시작점
+                int start = (int) Math.round(Math.min(Math.max(idealStart, runStart), i - count));
+                double distance = Math.abs(start - idealStart);
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    bestStart = start;
+                }
+            }
+            runStart = -1;
+        }
+        return bestStart;
+    }
+
+    private void build(int node, int left, int right) {
+        if (left == right) {
+            int value = free[left] ? 1 : 0;
+            prefix[node] = suffix[node] = best[node] = value;
+            return;
+        }
+        int mid = (left + right) >>> 1;
+        build(node * 2, left, mid);
+        build(node * 2 + 1, mid + 1, right);
+        pull(node, left, mid, right);
+    }
+
+    private void update(int node, int left, int right, int index) {
+        if (left == right) {
+            int value = free[left] ? 1 : 0;
+            prefix[node] = suffix[node] = best[node] = value;
+            return;
+        }
+        int mid = (left + right) >>> 1;
+        if (index <= mid) {
+            update(node * 2, left, mid, index);
+        } else {
+            update(node * 2 + 1, mid + 1, right, index);
+        }
+        pull(node, left, mid, right);
+    }
+
+    private void pull(int node, int left, int mid, int right) {
+        int l = node * 2;
+        int r = node * 2 + 1;
+        int leftLength = mid - left + 1;
+        int rightLength = right - mid;
+
+        prefix[node] = prefix[l] == leftLength ? leftLength + prefix[r] : prefix[l];
+        suffix[node] = suffix[r] == rightLength ? rightLength + suffix[l] : suffix[r];
+        best[node] = Math.max(Math.max(best[l], best[r]), suffix[l] + prefix[r]);
+    }
+}
@@ -0,0 +1,253 @@
+package com.musicCommunity.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBucket;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 멱등 키(Idempotency-Key) 처리
+ * 타임아웃 후 재시도한 요청이 락/DB 경로나 PortOne 조회를 다시 타지 않도록,
+ * 클라이언트가 보낸 키로 처리 중/완료 상태와 응답을 Redis에 기록하고 같은 키의 요청에는 저장된 응답을 돌려줍니다.
+ *
+ * Redis 구조
+ * - idem:{scope}:{userId}:{key} : 처리 상태(IN_FLIGHT/DONE), 요청 지문, 완료 시 상태 코드와 응답 본문 (JSON)
+ *
+ * 처리 중인 키로 다시 들어온 요청은 완료될 때까지 잠시 기다렸다가 결과를 돌려주고,
+ * 같은 키로 다른 내용의 요청이 오면 422로 거절합니다.
+ * 5xx/429/400/3xx/202처럼 다시 시도하면 결과가 달라질 수 있는 응답은 저장하지 않고 키를 지웁니다.
+ *
+ * 처리 중 표시는 in-flight-ttl-ms 뒤에 만료되지만, action이 끝나지 않은 동안에는 그 1/3마다 만료 시간을 연장합니다.
+ * (PortOne 지연 등으로 action이 오래 걸려도 같은 키의 재시도가 두 번째 실행으로 이어지지 않음.
+ *  처리하던 노드가 죽으면 연장이 멈추므로 키는 in-flight-ttl-ms 안에 풀립니다)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final String IN_FLIGHT = "IN_FLIGHT";
+    private static final String DONE = "DONE";
+
+    // KEYS[1] = 멱등 키 / ARGV[1] = 이 요청이 기록한 처리 중 값, ARGV[2] = 연장할 TTL(ms)
+    // 완료 응답으로 바뀌었거나 지워진 키는 건드리지 않습니다.
+    private static final String RENEW_SCRIPT =
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  return redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+            "end " +
+            "return 0";
+
+    private final RedissonClient redissonClient;
+    private final ObjectMapper objectMapper;
+
+    @Value("${idempotency.enabled:true}")
+    private boolean enabled;
+
+    @Value("${idempotency.ttl-minutes:1440}")
+    private long ttlMinutes;
+
+    @Value("${idempotency.in-flight-ttl-ms:30000}")
+    private long inFlightTtlMs;
+
+    @Value("${idempotency.wait-ms:3000}")
+    private long waitMs;
+
+    @Value("${idempotency.poll-ms:50}")
+    private long pollMs;
+
+    @Value("${idempotency.max-key-length:100}")
+    private int maxKeyLength;
+
+    private ScheduledExecutorService renewer;
+
+    // 저장 형식. text는 문자열 응답, json은 그 밖의 응답 본문
+    private record Stored(String state, String fingerprint, int status, String text, JsonNode json) {}
+
+    @PostConstruct
+    public void init() {
+        renewer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "idempotency-renewer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renewer.shutdownNow();
+    }
+
+    /**
+     * 멱등 키가 있으면 action을 한 번만 실행하고, 같은 키의 요청에는 저장된 응답을 돌려줍니다.
+     * 키가 없으면 action을 그대로 실행합니다.
+     *
+     * @param scope 엔드포인트 구분 (예: "reservation", "payment")
+     * @param userId 인증된 사용자 ID (없으면 null)
+     * @param key 클라이언트가 보낸 Idempotency-Key
+     * @param request 요청 본문 (같은 키로 다른 요청이 오는지 확인하는 지문)
+     */
+    public ResponseEntity<?> execute(String scope, Long userId, String key, Object request,
+                                     Supplier<ResponseEntity<?>> action) {
+        return executeAsync(scope, userId, key, request, () -> CompletableFuture.completedFuture(action.get())).join();
+    }
+
+    /**
+     * 비동기 버전. action이 돌려준 future가 끝나는 시점에 응답을 저장합니다.
+     */
+    public CompletableFuture<ResponseEntity<?>> executeAsync(String scope, Long userId, String key, Object request,
+                                                             Supplier<CompletableFuture<ResponseEntity<?>>> action) {
+        if (!enabled || key == null || key.isBlank()) {
+            return action.get();
+        }
+        if (key.length() > maxKeyLength) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body("Idempotency-Key가 너무 깁니다."));
+        }
+
+        RBucket<String> bucket = redissonClient.getBucket(
+                "idem:" + scope + ":" + (userId == null ? "anon" : userId) + ":" + key, StringCodec.INSTANCE);
+        String fingerprint = fingerprintOf(request);
+
+        String inFlight = write(new Stored(IN_FLIGHT, fingerprint, 0, null, null));
+        if (!bucket.setIfAbsent(inFlight, Duration.ofMillis(inFlightTtlMs))) {
+            return CompletableFuture.completedFuture(replay(bucket, fingerprint));
+        }
+
+        long renewEveryMs = Math.max(1, inFlightTtlMs / 3);
+        ScheduledFuture<?> renewal = renewer.scheduleAtFixedRate(() -> renew(bucket, inFlight),
+                renewEveryMs, renewEveryMs, TimeUnit.MILLISECONDS);
+
+        CompletableFuture<ResponseEntity<?>> future;
+        try {
+            future = action.get();
+        } catch (RuntimeException e) {
+            renewal.cancel(false);
+            bucket.delete();
+            throw e;
+        }
+
+        return future.whenComplete((response, error) -> {
+            renewal.cancel(false);
+            if (error == null && isReplayable(response.getStatusCode().value())) {
+                store(bucket, fingerprint, response);
+            } else {
+                bucket.delete();
+            }
+        });
+    }
+
+    private void renew(RBucket<String> bucket, String inFlight) {
+        try {
+            redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, RENEW_SCRIPT,
+                    RScript.ReturnType.INTEGER, List.of(bucket.getName()), inFlight, String.valueOf(inFlightTtlMs));
+        } catch (RuntimeException e) {
+            log.warn("멱등 키 처리 중 표시 연장 실패 - {}: {}", bucket.getName(), e.getMessage());
+        }
+    }
+
+    private void store(RBucket<String> bucket, String fingerprint, ResponseEntity<?> response) {
+        int status = response.getStatusCode().value();
+        Object body = response.getBody();
+        bucket.set(write(body instanceof String text
+                        ? new Stored(DONE, fingerprint, status, text, null)
+                        : new Stored(DONE, fingerprint, status, null, objectMapper.valueToTree(body))),
+                Duration.ofMinutes(ttlMinutes));
+    }
+
+    /**
+     * 같은 키로 이미 들어온 요청이 있는 경우: 완료됐으면 저장된 응답, 처리 중이면 완료를 잠시 기다립니다.
+     */
+    private ResponseEntity<?> replay(RBucket<String> bucket, String fingerprint) {
+        long deadline = System.currentTimeMillis() + waitMs;
+
+        while (true) {
+            String raw = bucket.get();
+            if (raw == null) {
+                // 앞선 요청이 재시도 가능한 결과로 끝나 키가 지워진 경우
+                return ResponseEntity.status(HttpStatus.CONFLICT).body("이전 요청이 완료되지 않았습니다. 다시 시도해주세요.");
+            }
+
+            Stored stored = read(raw);
+            if (!fingerprint.equals(stored.fingerprint())) {
+                return ResponseEntity.unprocessableEntity().body("같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다.");
+            }
+            if (DONE.equals(stored.state())) {
+                log.info("멱등 응답 재사용 - {}", bucket.getName());
+                return ResponseEntity.status(stored.status())
+                        .header(REPLAYED_HEADER, "true")
+                        .body(stored.text() != null ? stored.text() : stored.json());
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body("같은 요청을 처리하고 있습니다. 잠시 후 다시 시도해주세요.");
+            }
+
+            try {
+                Thread.sleep(pollMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("시스템 오류가 발생했습니다.");
+            }
+        }
+    }
+
+    /**
+     * 성공(2xx)과 결과가 확정된 거절(404/409 등)만 재사용합니다.
+     * 400은 결제 검증에서 외부 조회 실패까지 묶어 돌려주므로 재시도할 수 있게 남겨 둡니다.
+     * 202는 "아직 처리 중"이라는 뜻이므로, 재시도하면 확정된 결과를 받을 수 있게 저장하지 않습니다.
+     */
+    static boolean isReplayable(int status) {
+        if (status == HttpStatus.ACCEPTED.value()
+                || status == HttpStatus.BAD_REQUEST.value() || status == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            return false;
+        }
+        return (status >= 200 && status < 300) || (status >= 400 && status < 500);
+    }
+
+    private String fingerprintOf(Object request) {
+        try {
+            return DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(request));
+        } catch (JsonProcessingException e) {
+            return DigestUtils.md5DigestAsHex(String.valueOf(request).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private String write(Stored stored) {
+        try {
+            return objectMapper.writeValueAsString(stored);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("멱등 응답 저장 실패", e);
+        }
+    }
+
+    private Stored read(String raw) {
+        try {
+            return objectMapper.readValue(raw, Stored.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("멱등 응답 읽기 실패", e);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.musicCommunity.service;
+
+import com.musicCommunity.exception.LoginThrottledException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.BatchResult;
+import org.redisson.api.RBatch;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 로그인/회원가입 시도 제한
+ * bcrypt 계산 전에 Redis 카운터로 먼저 걸러내므로, 막힌 시도는 해시 비용 없이 Redis 왕복 1회로 끝납니다.
+ *
+ * Redis 구조 (고정 윈도 카운터)
+ * - auth:throttle:ip:{ip}         : IP별 시도 횟수 (ip-window-seconds 동안 max-ip-attempts회)
+ * - auth:throttle:account:{login} : 계정별 연속 실패 횟수 (account-window-seconds 동안 max-account-failures회, 성공 시 초기화)
+ *
+ * 계정 카운터는 비밀번호를 확인하기 전에 acquire에서 먼저 올립니다.
+ * 결과를 보고 올리면 동시에 들어온 시도들이 모두 "실패 0회"를 읽고 통과하므로, 한도보다 많은 추측을 한꺼번에 할 수 있습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LoginThrottleService {
+
+    // KEYS[1] = 카운터 / ARGV[1] = 윈도(ms)
+    // 반환: 증가된 값
+    private static final String INCREMENT_SCRIPT =
+            "local count = redis.call('INCR', KEYS[1]) " +
+            "if count == 1 then redis.call('PEXPIRE', KEYS[1], ARGV[1]) end " +
+            "return count";
+
+    // KEYS[1] = 카운터 / 남아 있는 카운터만 1 줄입니다. (만료된 키를 음수로 다시 만들지 않음)
+    private static final String REFUND_SCRIPT =
+            "if redis.call('EXISTS', KEYS[1]) == 1 and tonumber(redis.call('GET', KEYS[1])) > 0 then " +
+            "  return redis.call('DECR', KEYS[1]) " +
+            "end " +
+            "return 0";
+
+    private final RedissonClient redissonClient;
+
+    @Value("${auth.throttle.ip-window-seconds:60}")
+    private long ipWindowSeconds;
+
+    @Value("${auth.throttle.max-ip-attempts:30}")
+    private long maxIpAttempts;
+
+    @Value("${auth.throttle.account-window-seconds:900}")
+    private long accountWindowSeconds;
+
+    @Value("${auth.throttle.max-account-failures:5}")
+    private long maxAccountFailures;
+
+    /**
+     * 시도를 기록하고, 제한을 넘었으면 LoginThrottledException을 던집니다.
+     * IP 카운터와 계정 카운터를 한 번의 왕복으로 함께 올립니다. (계정 시도는 일단 실패로 세고, 성공하면 onSuccess로 초기화)
+     *
+     * @param loginId 로그인 아이디 (회원가입처럼 계정 제한이 필요 없으면 null)
+     */
+    public void acquire(String loginId, String ip) {
+        RBatch batch = redissonClient.createBatch();
+        batch.getScript(StringCodec.INSTANCE).evalAsync(RScript.Mode.READ_WRITE, INCREMENT_SCRIPT,
+                RScript.ReturnType.INTEGER, List.of(ipKey(ip)), String.valueOf(ipWindowSeconds * 1000L));
+        batch.getBucket(ipKey(ip), StringCodec.INSTANCE).remainTimeToLiveAsync();
+        if (loginId != null) {
+            batch.getScript(StringCodec.INSTANCE).evalAsync(RScript.Mode.READ_WRITE, INCREMENT_SCRIPT,
+                    RScript.ReturnType.INTEGER, List.of(accountKey(loginId)), String.valueOf(accountWindowSeconds * 1000L));
+            batch.getBucket(accountKey(loginId), StringCodec.INSTANCE).remainTimeToLiveAsync();
+        }
+        BatchResult<?> result = batch.execute();
+        List<?> responses = result.getResponses();
+
+        if ((Long) responses.get(0) > maxIpAttempts) {
+            log.warn("IP 로그인 시도 제한 - ip: {}", ip);
+            throw new LoginThrottledException("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", seconds((Long) responses.get(1)));
+        }
+        if (loginId != null && (Long) responses.get(2) > maxAccountFailures) {
+            log.warn("계정 로그인 시도 제한 - loginId: {}", loginId);
+            throw new LoginThrottledException("로그인 실패가 많아 잠시 후 다시 시도할 수 있습니다.", seconds((Long) responses.get(3)));
+        }
+    }
+
+    /**
+     * 비밀번호를 확인하지 못하고 끝난 시도(서버 과부하 등)를 계정 카운터에서 되돌립니다.
+     */
+    public void refund(String loginId) {
+        redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, REFUND_SCRIPT,
+                RScript.ReturnType.INTEGER, List.of(accountKey(loginId)));
+    }
+
+    public void onSuccess(String loginId) {
+        redissonClient.getBucket(accountKey(loginId), StringCodec.INSTANCE).delete();
+    }
+
+    private static long seconds(Long remainMs) {
+        return remainMs == null || remainMs <= 0 ? 1 : (remainMs + 999) / 1000;
+    }
+
+    private static String ipKey(String ip) {
+        return "auth:throttle:ip:{" + ip + "}";
+    }
+
+    private static String accountKey(String loginId) {
+        return "auth:throttle:account:{" + loginId + "}";
+    }
+}
@@ -0,0 +1,28 @@
+package com.musicCommunity.service;
+
+import com.musicCommunity.domain.Reservation;
+import com.musicCommunity.dto.ReservationRequestDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 조건부 UPDATE 전략
+ * UPDATE seat SET is_reserved = TRUE WHERE id = ? AND is_reserved = FALSE 의
+ * 영향받은 행 수로 승자를 가립니다. 락 조회 없이 한 문장으로 선점합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OptimisticUpdateSeatStrategy implements SeatConcurrencyStrategy {
+
+    private final ReservationServiceExecutor reservationExecutor;
+
+    @Override
+    public SeatConcurrencyMode mode() {
+        return SeatConcurrencyMode.OPTIMISTIC_UPDATE;
+    }
+
+    @Override
+    public Reservation reserve(ReservationRequestDto requestDto) {
+        return reservationExecutor.proceedConditional(requestDto);
+    }
+}
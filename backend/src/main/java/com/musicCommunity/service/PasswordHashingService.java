@@ -0,0 +1,105 @@
+package com.musicCommunity.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해시 전용 실행기
+ * bcrypt는 의도적으로 CPU를 많이 쓰므로, 요청 스레드에서 바로 돌리면 로그인 폭주 시 모든 CPU/Tomcat 스레드가 묶여
+ * 예매 경로까지 느려집니다. 해시 계산은 고정 크기 풀에서만 실행하고, 대기열이 가득 차면 바로 거절합니다.
+ *
+ * - threads: 동시에 bcrypt를 계산하는 스레드 수 (기본: 코어 수의 절반)
+ * - queue-capacity: 대기 가능한 해시 작업 수. 넘치면 RejectedExecutionException
+ * - timeout-ms: 요청 스레드가 결과를 기다리는 최대 시간. 넘으면 RejectedExecutionException
+ *
+ * 요청(Tomcat) 스레드는 해시 결과를 받을 때까지 이 실행기를 기다리며 막혀 있습니다.
+ * 다만 기다릴 수 있는 요청은 threads + queue-capacity개뿐이고 각각 timeout-ms를 넘지 않으므로,
+ * 로그인 폭주가 붙잡을 수 있는 Tomcat 스레드 수와 시간에는 상한이 있습니다.
+ * timeout-ms는 대기열이 가득 찼을 때 마지막 작업이 끝나는 시간(대략 queue-capacity / threads × 해시 1회 시간)에 맞춥니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+
+    @Value("${auth.hashing.threads:0}")
+    private int threads;
+
+    @Value("${auth.hashing.queue-capacity:64}")
+    private int queueCapacity;
+
+    // 기본값: 비용 10 기준 해시 1회 약 80ms × (64 / 4스레드) ≈ 1.3초에 여유를 둔 값
+    @Value("${auth.hashing.timeout-ms:2000}")
+    private long timeoutMs;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        int size = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread thread = new Thread(r, "password-hashing-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public String encode(String rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 해시의 비용(cost)이 현재 설정보다 낮으면 true (로그인 성공 시 다시 해시해 저장)
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future = executor.submit(task); // 가득 차면 RejectedExecutionException
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new RejectedExecutionException("비밀번호 처리 대기 시간 초과");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("비밀번호 처리 중 인터럽트");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,78 @@
+package com.musicCommunity.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RMap;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 결제는 끝났는데 예약으로 전환하지 못한 건을 모아 두는 곳
+ * PG 취소 API를 아직 쓰지 않으므로, 여기 남은 건은 운영자가 환불하거나 수동으로 예약을 확정합니다.
+ * DB 오류로 실패한 건(CONFIRM_FAILED)은 좌석 비트를 잡아 둔 채로 SeatHoldService가 주기적으로 다시 저장을 시도합니다.
+ *
+ * Redis 구조
+ * - payment:deadletter : 결제 ID → "사유:eventId:seatId:userId:기록 시각(ms)"
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentDeadLetterService {
+
+    private static final String DEAD_LETTER_KEY = "payment:deadletter";
+
+    public enum Reason {
+        // 결제 확인 전에 홀드가 만료됨 (좌석은 이미 풀렸을 수 있으므로 환불 대상)
+        HOLD_EXPIRED,
+        // 결제 금액과 좌석 가격이 다름
+        AMOUNT_MISMATCH,
+        // 홀드는 지웠지만 예약 저장이 실패함 (좌석 비트는 유지, 재시도 대상)
+        CONFIRM_FAILED,
+        // 재시도했지만 DB상 좌석을 예약할 수 없음 (환불 대상)
+        SEAT_UNAVAILABLE
+    }
+
+    public record DeadLetter(String paymentId, Reason reason, Long eventId, Long seatId, Long userId, long recordedAt) {}
+
+    private final RedissonClient redissonClient;
+
+    /**
+     * 전환하지 못한 결제를 기록합니다. 같은 결제 ID는 마지막 사유로 덮어씁니다.
+     */
+    public void record(SeatHoldService.PaymentHold hold, Reason reason) {
+        deadLetters().fastPut(hold.paymentId(), reason + ":" + hold.eventId() + ":" + hold.seatId() + ":"
+                + hold.userId() + ":" + System.currentTimeMillis());
+        log.error("결제 후 예약 전환 실패 기록 - paymentId: {}, 사유: {}, Event: {}, Seat: {}, User: {}",
+                hold.paymentId(), reason, hold.eventId(), hold.seatId(), hold.userId());
+    }
+
+    /**
+     * 사유가 같은 기록을 모두 돌려줍니다.
+     */
+    public List<DeadLetter> findAll(Reason reason) {
+        List<DeadLetter> found = new ArrayList<>();
+        deadLetters().readAllMap().forEach((paymentId, value) -> {
+            String[] parts = value.split(":");
+            if (parts[0].equals(reason.name())) {
+                found.add(new DeadLetter(paymentId, reason, Long.valueOf(parts[1]), Long.valueOf(parts[2]),
+                        Long.valueOf(parts[3]), Long.parseLong(parts[4])));
+            }
+        });
+        return found;
+    }
+
+    /**
+     * 처리(환불 또는 예약 확정)가 끝난 기록을 지웁니다.
+     */
+    public void remove(String paymentId) {
+        deadLetters().fastRemove(paymentId);
+    }
+
+    private RMap<String, String> deadLetters() {
+        return redissonClient.getMap(DEAD_LETTER_KEY, StringCodec.INSTANCE);
+    }
+}
@@ -0,0 +1,57 @@
+package com.musicCommunity.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 결제 검증 전용 실행기
+ * PortOne 응답 뒤의 검증(좌석 조회, 홀드 확정 등 DB 작업)을 PortOne 클라이언트 스레드에서 돌리면
+ * DB가 느려질 때 HTTP 응답 처리까지 밀리므로, 검증은 이 풀에서 따로 실행합니다.
+ *
+ * - threads: 동시에 검증하는 스레드 수
+ * - queue-capacity: 대기 가능한 검증 작업 수. 넘치면 RejectedExecutionException (503으로 응답)
+ */
+@Slf4j
+@Component
+public class PaymentVerificationExecutor implements Executor {
+
+    @Value("${portone.verify.threads:8}")
+    private int threads;
+
+    @Value("${portone.verify.queue-capacity:256}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread thread = new Thread(r, "payment-verify-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        executor.execute(command);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,333 @@
+package com.musicCommunity.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musicCommunity.domain.Reservation;
+import com.musicCommunity.domain.Seat;
+import com.musicCommunity.dto.PaymentResponseDto;
+import com.musicCommunity.exception.PaymentGatewayUnavailableException;
+import com.musicCommunity.exception.ReservationPendingException;
+import com.musicCommunity.mapper.SeatMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * PortOne 결제 웹훅 처리
+ * 브라우저가 /api/payment/complete를 호출하지 못해도(창 닫힘, 네트워크 끊김) 결제된 좌석이 예약으로 전환되도록,
+ * PortOne이 보내는 결제 이벤트를 받아 큐에 넣고 워커가 묶음으로 반영합니다.
+ *
+ * - 수신: 서명(Standard Webhooks, HMAC-SHA256)과 시각을 검증한 뒤 결제 ID만 Redis 큐에 넣고 바로 200으로 응답
+ * - 반영: 워커가 batch-interval-ms마다 최대 batch-size개를 꺼내 결제 ID로 중복을 제거하고,
+ *         PortOne에서 결제를 다시 조회(동시 호출)해 금액을 확인한 뒤 홀드를 한꺼번에 예약으로 전환
+ * - 웹훅 본문은 알림으로만 쓰고, 결제 상태와 금액은 항상 PortOne 조회 결과를 기준으로 합니다.
+ *
+ * 꺼낸 결제 ID는 처리 중 목록에 꺼낸 시각과 함께 옮겨 두고, 처리가 끝나면(실패 시 큐에 되돌리며) 지웁니다.
+ * 처리하던 노드가 죽어 processing-timeout-ms가 지나도록 남은 항목은 다음 워커가 큐에 되돌립니다.
+ * 큐 넣기/꺼내기/정리는 모두 Lua 스크립트 하나로 처리하므로 중간에 끊겨도 결제 ID가 사라지지 않습니다.
+ *
+ * Redis 구조 (같은 슬롯에 두기 위해 {queue} 해시 태그 사용)
+ * - payment:webhook:{queue}            : 처리할 결제 ID 큐 (여러 노드가 나눠서 꺼냄)
+ * - payment:webhook:queued:{queue}     : 큐 또는 처리 중 목록에 있는 결제 ID (같은 결제의 중복 웹훅은 한 번만 큐에 넣음)
+ * - payment:webhook:processing:{queue} : 처리 중인 결제 ID → 꺼낸 시각(ms)
+ * - payment:done:{paymentId}           : 전환된 예약 ID (전환 중에는 "pending", SeatHoldService가 기록)
+ *
+ * 결제는 끝났는데 예약으로 전환하지 못한 건(금액 불일치, 홀드 만료, 저장 실패)은 PaymentDeadLetterService에 남깁니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentWebhookService {
+
+    private static final String QUEUE_KEY = "payment:webhook:{queue}";
+    private static final String QUEUED_KEY = "payment:webhook:queued:{queue}";
+    private static final String PROCESSING_KEY = "payment:webhook:processing:{queue}";
+    private static final List<Object> QUEUE_KEYS = List.of(QUEUE_KEY, QUEUED_KEY, PROCESSING_KEY);
+    private static final String PAID_TYPE = "Transaction.Paid";
+
+    // ARGV[1] = 결제 ID / 처음 들어온 결제만 큐에 넣습니다.
+    private static final String ENQUEUE_SCRIPT =
+            "if redis.call('SADD', KEYS[2], ARGV[1]) == 1 then " +
+            "  redis.call('RPUSH', KEYS[1], ARGV[1]) " +
+            "  return 1 " +
+            "end " +
+            "return 0";
+
+    // ARGV[1] = 현재 시각(ms), ARGV[2] = 이 시각 이전에 꺼낸 처리 중 항목은 큐에 되돌림, ARGV[3] = 꺼낼 개수
+    // 반환: 꺼낸 결제 ID (처리 중 목록에 현재 시각으로 기록)
+    private static final String CLAIM_SCRIPT =
+            "for _, id in ipairs(redis.call('ZRANGEBYSCORE', KEYS[3], '-inf', ARGV[2])) do " +
+            "  redis.call('ZREM', KEYS[3], id) " +
+            "  redis.call('RPUSH', KEYS[1], id) " +
+            "end " +
+            "local claimed = {} " +
+            "for i = 1, tonumber(ARGV[3]) do " +
+            "  local id = redis.call('LPOP', KEYS[1]) " +
+            "  if not id then break end " +
+            "  redis.call('ZADD', KEYS[3], ARGV[1], id) " +
+            "  table.insert(claimed, id) " +
+            "end " +
+            "return claimed";
+
+    // ARGV[1] = 꺼낸 시각(ms), ARGV[2] = 재시도 개수 n, ARGV[3..] = 재시도할 결제 ID n개 + 끝난 결제 ID
+    // 이 워커가 꺼낸 그대로인 항목만 정리합니다. (제한 시간이 지나 다른 워커가 다시 꺼냈으면 그쪽에 맡김)
+    private static final String FINISH_SCRIPT =
+            "local retry = tonumber(ARGV[2]) " +
+            "for i = 3, #ARGV do " +
+            "  local score = redis.call('ZSCORE', KEYS[3], ARGV[i]) " +
+            "  if score and tonumber(score) == tonumber(ARGV[1]) then " +
+            "    redis.call('ZREM', KEYS[3], ARGV[i]) " +
+            "    if i < 3 + retry then redis.call('RPUSH', KEYS[1], ARGV[i]) " +
+            "    else redis.call('SREM', KEYS[2], ARGV[i]) end " +
+            "  end " +
+            "end " +
+            "return 0";
+
+    private final RedissonClient redissonClient;
+    private final ObjectMapper objectMapper;
+    private final PortOneClient portOneClient;
+    private final SeatHoldService seatHoldService;
+    private final SeatMapper seatMapper;
+    private final PaymentDeadLetterService deadLetterService;
+
+    @Value("${portone.webhook.secret:}")
+    private String webhookSecret;
+
+    @Value("${portone.webhook.tolerance-seconds:300}")
+    private long toleranceSeconds;
+
+    @Value("${portone.webhook.batch-size:100}")
+    private int batchSize;
+
+    @Value("${portone.webhook.processing-timeout-ms:60000}")
+    private long processingTimeoutMs;
+
+    @Value("${portone.webhook.batch-interval-ms:500}")
+    private long batchIntervalMs;
+
+    private ScheduledExecutorService drainer;
+
+    /**
+     * 웹훅을 검증하고 결제 완료 이벤트면 큐에 넣습니다.
+     * @return 큐에 넣었으면 true, 처리하지 않는 이벤트 종류면 false
+     * @throws SecurityException 서명이 맞지 않거나 시각이 허용 범위를 벗어난 경우
+     * @throws IllegalArgumentException 본문 형식이 잘못된 경우
+     */
+    public boolean accept(String webhookId, String timestamp, String signature, String body) {
+        verifySignature(webhookId, timestamp, signature, body);
+
+        JsonNode event;
+        try {
+            event = objectMapper.readTree(body);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("웹훅 본문을 읽을 수 없습니다.");
+        }
+
+        String type = event.path("type").asText();
+        String paymentId = event.path("data").path("paymentId").asText(null);
+        if (!PAID_TYPE.equals(type)) {
+            return false;
+        }
+        if (paymentId == null || paymentId.isBlank()) {
+            throw new IllegalArgumentException("웹훅에 결제 ID가 없습니다.");
+        }
+
+        redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, ENQUEUE_SCRIPT,
+                RScript.ReturnType.INTEGER, QUEUE_KEYS, paymentId);
+        log.info("결제 웹훅 수신 - paymentId: {}", paymentId);
+        return true;
+    }
+
+    /**
+     * 웹훅으로 이미 예약 전환된 결제면 예약 ID를 돌려줍니다. (브라우저의 결제 완료 호출과 겹친 경우)
+     * 전환이 아직 끝나지 않았으면 기다리지 않고 바로 처리 중으로 알립니다. (결제 검증 실행기 스레드를 붙잡지 않음)
+     * @throws ReservationPendingException 웹훅이 홀드를 예약으로 전환하는 중인 경우
+     */
+    public Long findConfirmedReservationId(String paymentId) {
+        String value = redissonClient.<String>getBucket(SeatHoldService.paymentDoneKey(paymentId), StringCodec.INSTANCE).get();
+        if (SeatHoldService.PAYMENT_PENDING.equals(value)) {
+            throw new ReservationPendingException("결제가 완료되어 예매를 확정하는 중입니다. 잠시 후 예매 내역을 확인해주세요.");
+        }
+        return value == null ? null : Long.valueOf(value);
+    }
+
+    @PostConstruct
+    public void init() {
+        // PortOne 응답을 기다리고 DB에 저장하는 동안 공용 스케줄러 스레드(입장 대기열, 홀드 정리 등)를 막지 않도록 전용 스레드에서 돌립니다.
+        drainer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "payment-webhook-drain");
+            thread.setDaemon(true);
+            return thread;
+        });
+        drainer.scheduleWithFixedDelay(() -> {
+            try {
+                drain();
+            } catch (RuntimeException e) {
+                log.error("결제 웹훅 워커 오류", e);
+            }
+        }, batchIntervalMs, batchIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (drainer != null) {
+            drainer.shutdownNow();
+        }
+    }
+
+    /**
+     * 큐에 쌓인 결제를 묶음으로 반영합니다. (전용 스레드에서 batch-interval-ms마다 실행)
+     */
+    void drain() {
+        RScript script = redissonClient.getScript(StringCodec.INSTANCE);
+        long claimedAt = System.currentTimeMillis();
+        List<String> polled = script.eval(RScript.Mode.READ_WRITE, CLAIM_SCRIPT, RScript.ReturnType.MULTI, QUEUE_KEYS,
+                String.valueOf(claimedAt), String.valueOf(claimedAt - processingTimeoutMs), String.valueOf(batchSize));
+        if (polled == null || polled.isEmpty()) {
+            return;
+        }
+        Set<String> paymentIds = new LinkedHashSet<>(polled);
+
+        List<String> retry = new ArrayList<>();
+        try {
+            process(paymentIds, retry);
+        } catch (RuntimeException e) {
+            log.error("결제 웹훅 반영 실패, {}건을 큐에 되돌립니다.", paymentIds.size(), e);
+            retry.clear();
+            retry.addAll(paymentIds);
+        } finally {
+            List<String> finished = paymentIds.stream().filter(paymentId -> !retry.contains(paymentId)).toList();
+            Object[] args = Stream.of(Stream.of(String.valueOf(claimedAt), String.valueOf(retry.size())),
+                    retry.stream(), finished.stream()).flatMap(Function.identity()).toArray();
+            script.eval(RScript.Mode.READ_WRITE, FINISH_SCRIPT, RScript.ReturnType.INTEGER, QUEUE_KEYS, args);
+        }
+    }
+
+    /**
+     * 꺼낸 결제 ID 묶음을 반영합니다. PortOne을 지금 호출할 수 없는 결제는 retry에 담아 큐에 되돌립니다.
+     */
+    private void process(Set<String> paymentIds, List<String> retry) {
+        // 1. PortOne에서 결제를 동시에 조회 (PortOneClient의 벌크헤드 안에서)
+        Map<String, CompletableFuture<PaymentResponseDto>> lookups = paymentIds.stream()
+                .collect(Collectors.toMap(Function.identity(), portOneClient::getPayment));
+        CompletableFuture.allOf(lookups.values().toArray(CompletableFuture[]::new))
+                .exceptionally(error -> null)
+                .join();
+
+        Map<String, PaymentResponseDto> paid = new HashMap<>();
+        lookups.forEach((paymentId, lookup) -> {
+            try {
+                PaymentResponseDto payment = lookup.join();
+                if ("PAID".equals(payment.getStatus())) {
+                    paid.put(paymentId, payment);
+                }
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof PaymentGatewayUnavailableException) {
+                    retry.add(paymentId);
+                } else {
+                    log.warn("웹훅 결제 조회 실패 - paymentId: {}: {}", paymentId, e.getCause().getMessage());
+                }
+            }
+        });
+
+        // 2. 결제 ID로 홀드를 찾고 좌석 가격과 결제 금액을 교차 검증
+        List<SeatHoldService.PaymentHold> verified = new ArrayList<>();
+        if (!paid.isEmpty()) {
+            Map<String, SeatHoldService.PaymentHold> holds = seatHoldService.findHoldsByPayment(paid.keySet());
+            Map<Long, BigDecimal> prices = holds.isEmpty() ? Map.of()
+                    : seatMapper.selectSeatsByIds(holds.values().stream().map(SeatHoldService.PaymentHold::seatId).toList())
+                            .stream().collect(Collectors.toMap(Seat::getId, Seat::getPrice));
+
+            holds.forEach((paymentId, hold) -> {
+                BigDecimal paidAmount = BigDecimal.valueOf(paid.get(paymentId).getAmount().getTotal());
+                BigDecimal seatPrice = prices.get(hold.seatId());
+                if (seatPrice != null && seatPrice.compareTo(paidAmount) == 0) {
+                    verified.add(hold);
+                } else {
+                    log.error("웹훅 결제 금액 불일치 - paymentId: {}, 결제: {}, 좌석: {}", paymentId, paidAmount, seatPrice);
+                    deadLetterService.record(hold, PaymentDeadLetterService.Reason.AMOUNT_MISMATCH);
+                }
+            });
+        }
+
+        // 3. 홀드를 한꺼번에 예약으로 전환 (전환 결과와 실패 건 기록은 SeatHoldService가 처리)
+        Map<String, Reservation> reservations = seatHoldService.confirmAll(verified);
+
+        log.info("결제 웹훅 반영 - {}건 중 예약 전환 {}건, 재시도 {}건", paymentIds.size(), reservations.size(), retry.size());
+    }
+
+    private void verifySignature(String webhookId, String timestamp, String signature, String body) {
+        if (webhookSecret.isBlank()) {
+            // 비밀 키가 없으면 서명 검증을 건너뜁니다. (로컬 개발용. 결제 상태는 어차피 PortOne 조회로 확인)
+            return;
+        }
+        if (webhookId == null || timestamp == null || signature == null) {
+            throw new SecurityException("웹훅 서명 헤더가 없습니다.");
+        }
+
+        long sentAt;
+        try {
+            sentAt = Long.parseLong(timestamp);
+        } catch (NumberFormatException e) {
+            throw new SecurityException("웹훅 시각 형식이 잘못되었습니다.");
+        }
+        if (Math.abs(System.currentTimeMillis() / 1000 - sentAt) > toleranceSeconds) {
+            throw new SecurityException("웹훅 시각이 허용 범위를 벗어났습니다.");
+        }
+
+        byte[] expected;
+        try {
+            String secret = webhookSecret.startsWith("whsec_") ? webhookSecret.substring(6) : webhookSecret;
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(Base64.getDecoder().decode(secret), "HmacSHA256"));
+            expected = mac.doFinal((webhookId + "." + timestamp + "." + body).getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("웹훅 비밀 키 설정이 잘못되었습니다.", e);
+        }
+
+        // 헤더에는 "v1,<base64>" 서명이 공백으로 여러 개 올 수 있습니다. (키 교체 중)
+        for (String candidate : signature.split(" ")) {
+            int comma = candidate.indexOf(',');
+            if (comma < 0) continue;
+            try {
+                byte[] actual = Base64.getDecoder().decode(candidate.substring(comma + 1));
+                if (MessageDigest.isEqual(expected, actual)) {
+                    return;
+                }
+            } catch (IllegalArgumentException ignored) {
+                // 잘못된 Base64는 불일치로 처리
+            }
+        }
+        throw new SecurityException("웹훅 서명이 일치하지 않습니다.");
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.musicCommunity.service;
+
+import com.musicCommunity.domain.Reservation;
+import com.musicCommunity.dto.ReservationRequestDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비관적 락 전략
+ * Redis 없이 SELECT ... FOR UPDATE로 좌석 행을 잠근 채 예약합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PessimisticLockSeatStrategy implements SeatConcurrencyStrategy {
+
+    private final ReservationServiceExecutor reservationExecutor;
+
+    @Override
+    public SeatConcurrencyMode mode() {
+        return SeatConcurrencyMode.PESSIMISTIC_LOCK;
+    }
+
+    @Override
+    public Reservation reserve(ReservationRequestDto requestDto) {
+        return reservationExecutor.proceedForUpdate(requestDto);
+    }
+}
@@ -0,0 +1,164 @@
+package com.musicCommunity.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musicCommunity.dto.PaymentResponseDto;
+import com.musicCommunity.exception.PaymentGatewayUnavailableException;
+import com.musicCommunity.exception.PaymentVerificationException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PortOne 결제 조회 클라이언트
+ * 요청마다 HttpURLConnection을 새로 열던 방식 대신, 커넥션을 재사용하는 HttpClient 하나로 비동기 호출합니다.
+ * 응답을 기다리는 동안 Tomcat 스레드를 붙잡지 않으므로, PortOne이 느려져도 서블릿 스레드가 고갈되지 않습니다.
+ *
+ * - 타임아웃: connect-timeout-ms, read-timeout-ms (요청 전체)
+ * - 벌크헤드: 동시에 나가 있는 호출은 max-concurrent개까지. 넘치면 기다리지 않고 바로 거절
+ * - 서킷 브레이커: 타임아웃/5xx가 연속으로 쌓이면 잠시 호출 자체를 막음
+ *
+ * 로컬/부하 테스트에서는 portone.base-url을 스텁 서버(PortOneStubController)로 돌릴 수 있습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PortOneClient {
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${imp.secretKey}")
+    private String apiSecret;
+
+    @Value("${portone.base-url:https://api.portone.io}")
+    private String baseUrl;
+
+    @Value("${portone.client.connect-timeout-ms:1000}")
+    private long connectTimeoutMs;
+
+    @Value("${portone.client.read-timeout-ms:3000}")
+    private long readTimeoutMs;
+
+    @Value("${portone.client.threads:8}")
+    private int threads;
+
+    @Value("${portone.client.max-concurrent:50}")
+    private int maxConcurrent;
+
+    @Value("${portone.circuit.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${portone.circuit.open-ms:10000}")
+    private long openMs;
+
+    private ExecutorService executor;
+    private HttpClient httpClient;
+    private Semaphore bulkhead;
+    private CircuitBreaker circuitBreaker;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "portone-client-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .executor(executor)
+                .build();
+        bulkhead = new Semaphore(maxConcurrent);
+        circuitBreaker = new CircuitBreaker("portone", failureThreshold, openMs);
+    }
+
+    /**
+     * 결제 단건을 조회합니다. 결과와 이후 처리(thenApply 등)는 portone-client 스레드에서 실행됩니다.
+     *
+     * @return 조회 결과. 실패 시 PaymentVerificationException(결제 없음/거절) 또는
+     *         PaymentGatewayUnavailableException(지금 호출 불가)으로 완료됩니다.
+     */
+    public CompletableFuture<PaymentResponseDto> getPayment(String paymentId) {
+        if (paymentId == null || paymentId.isBlank()) {
+            return CompletableFuture.failedFuture(new PaymentVerificationException("결제 ID가 없습니다."));
+        }
+        if (!bulkhead.tryAcquire()) {
+            return CompletableFuture.failedFuture(
+                    new PaymentGatewayUnavailableException("결제 조회 요청이 많습니다. 잠시 후 다시 시도해주세요."));
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            bulkhead.release();
+            return CompletableFuture.failedFuture(
+                    new PaymentGatewayUnavailableException("결제 조회가 일시적으로 중단되었습니다. 잠시 후 다시 시도해주세요."));
+        }
+
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/payments/" + URLEncoder.encode(paymentId, StandardCharsets.UTF_8)))
+                .timeout(Duration.ofMillis(readTimeoutMs))
+                .header("Authorization", "PortOne " + apiSecret)
+                .header("Content-Type", "application/json")
+                .GET()
+                .build();
+
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .handle((response, error) -> {
+                    bulkhead.release();
+                    return toPayment(paymentId, response, error);
+                });
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private PaymentResponseDto toPayment(String paymentId, HttpResponse<byte[]> response, Throwable error) {
+        if (error != null) {
+            circuitBreaker.onFailure();
+            log.warn("PortOne 결제 조회 실패 - paymentId: {}, 원인: {}", paymentId, error.toString());
+            throw new PaymentGatewayUnavailableException("결제 조회에 실패했습니다. 잠시 후 다시 시도해주세요.", error);
+        }
+
+        int status = response.statusCode();
+        if (status >= 500 || status == 429) {
+            circuitBreaker.onFailure();
+            log.warn("PortOne 결제 조회 오류 응답 - paymentId: {}, HTTP {}", paymentId, status);
+            throw new PaymentGatewayUnavailableException("결제 조회에 실패했습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        // 4xx는 PortOne이 정상적으로 응답한 것이므로 서킷에는 성공으로 기록합니다.
+        circuitBreaker.onSuccess();
+        if (status != 200) {
+            log.warn("PortOne 결제 조회 거절 - paymentId: {}, HTTP {}", paymentId, status);
+            throw new PaymentVerificationException("PortOne 결제 조회 실패");
+        }
+
+        try {
+            return objectMapper.readValue(response.body(), PaymentResponseDto.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("PortOne 응답 파싱 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,56 @@
+package com.musicCommunity.service;
+
+import com.musicCommunity.domain.Reservation;
+import com.musicCommunity.dto.ReservationRequestDto;
+import com.musicCommunity.exception.ReservationPendingException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 비트맵 선점 전략 (기본값)
+ * 스크립트 1회로 좌석을 선점하고, 선점에 성공한 요청만 DB에 접근합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisBitmapSeatStrategy implements SeatConcurrencyStrategy {
+
+    private final SeatClaimService seatClaimService;
+    private final ReservationServiceExecutor reservationExecutor;
+    private final ReservationWriteBehindService writeBehindService;
+
+    @Override
+    public SeatConcurrencyMode mode() {
+        return SeatConcurrencyMode.REDIS_BITMAP;
+    }
+
+    @Override
+    public Reservation reserve(ReservationRequestDto requestDto) {
+        Long eventId = requestDto.getEventId();
+        Long seatId = requestDto.getSeatId();
+
+        // 1. Redis 비트맵에서 좌석을 원자적으로 선점 (스크립트 1회 호출, 패자는 여기서 종료)
+        SeatClaimService.ClaimResult result = seatClaimService.claim(eventId, seatId);
+
+        if (result == SeatClaimService.ClaimResult.NOT_FOUND) {
+            throw new IllegalArgumentException("존재하지 않는 좌석입니다.");
+        }
+        if (result == SeatClaimService.ClaimResult.ALREADY_TAKEN) {
+            throw new IllegalStateException("이미 예약된 좌석입니다.");
+        }
+
+        // 2. 선점에 성공한 요청만 DB 로직 실행 (reservation.write-behind.enabled 시 그룹 커밋)
+        try {
+            if (writeBehindService.isEnabled()) {
+                return writeBehindService.submit(requestDto, () -> seatClaimService.release(eventId, seatId));
+            }
+            return reservationExecutor.proceed(requestDto);
+        } catch (IllegalStateException | ReservationPendingException e) {
+            // DB 기준으로도 이미 예약된 좌석이거나 아직 저장 중인 예약이므로 선점 비트는 그대로 둡니다.
+            throw e;
+        } catch (RuntimeException e) {
+            // 3. DB 저장 실패 시 선점 해제
+            seatClaimService.release(eventId, seatId);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.musicCommunity.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musicCommunity.domain.Reservation;
+import com.musicCommunity.dto.ReservationCommandDto;
+import com.musicCommunity.dto.ReservationRequestDto;
+import com.musicCommunity.dto.ReservationResponseDto;
+import com.musicCommunity.exception.PartitionOwnershipException;
+import com.musicCommunity.exception.ReservationOverloadedException;
+import com.musicCommunity.exception.ReservationPendingException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기 예약 명령 처리
+ * 예약 요청을 접수만 하고 바로 commandId를 돌려준 뒤, 고정 크기 워커 풀에서 기존 예약 경로(ReservationService)로 처리합니다.
+ * 좌석 경합으로 락을 기다리는 동안 붙잡히는 것은 워커 스레드뿐이므로, Tomcat 스레드는 조회 트래픽을 계속 처리할 수 있습니다.
+ *
+ * - 워커 풀/대기열이 모두 차면 접수를 거절합니다. (RejectedExecutionException → 429)
+ * - 명령 상태는 Redis(reservation:command:{commandId})에 저장하므로 어느 노드에서든 조회할 수 있습니다.
+ * - 명령을 접수한 노드에서는 완료 시점을 future로도 알려 주어, 상태 조회를 잠시 대기(long polling)시킬 수 있습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationCommandService {
+
+    private final ReservationService reservationService;
+    private final RedissonClient redissonClient;
+    private final ObjectMapper objectMapper;
+
+    @Value("${reservation.command.workers:16}")
+    private int workers;
+
+    @Value("${reservation.command.queue-capacity:2000}")
+    private int queueCapacity;
+
+    @Value("${reservation.command.result-ttl-seconds:600}")
+    private long resultTtlSeconds;
+
+    private ThreadPoolExecutor executor;
+
+    // 이 노드에서 처리 중인 명령의 완료 알림
+    private final Map<String, CompletableFuture<ReservationCommandDto>> inFlight = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread thread = new Thread(r, "reservation-command-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 예약 명령을 접수합니다.
+     * @throws RejectedExecutionException 워커 풀이 가득 찬 경우
+     */
+    public ReservationCommandDto submit(ReservationRequestDto requestDto) {
+        ReservationCommandDto command = ReservationCommandDto.builder()
+                .commandId(UUID.randomUUID().toString())
+                .userId(requestDto.getUserId())
+                .eventId(requestDto.getEventId())
+                .seatId(requestDto.getSeatId())
+                .status(ReservationCommandDto.PENDING)
+                .build();
+
+        save(command);
+        CompletableFuture<ReservationCommandDto> completion = new CompletableFuture<>();
+        inFlight.put(command.getCommandId(), completion);
+
+        try {
+            executor.execute(() -> process(command, requestDto, completion));
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(command.getCommandId());
+            bucket(command.getCommandId()).delete();
+            throw e;
+        }
+        return command;
+    }
+
+    /**
+     * 명령 상태를 조회합니다. 다른 사용자의 명령이면 null
+     */
+    public ReservationCommandDto find(String commandId, Long userId) {
+        String raw = bucket(commandId).get();
+        if (raw == null) {
+            return null;
+        }
+        ReservationCommandDto command = read(raw);
+        return userId.equals(command.getUserId()) ? command : null;
+    }
+
+    /**
+     * 이 노드에서 처리 중인 명령이면 완료 알림 future를, 아니면 null을 돌려줍니다.
+     */
+    public CompletableFuture<ReservationCommandDto> completionOf(String commandId) {
+        return inFlight.get(commandId);
+    }
+
+    private void process(ReservationCommandDto command, ReservationRequestDto requestDto,
+                         CompletableFuture<ReservationCommandDto> completion) {
+        ReservationCommandDto result;
+        try {
+            Reservation reservation = reservationService.reserveSeat(requestDto);
+            result = command.toBuilder()
+                    .status(ReservationCommandDto.SUCCEEDED)
+                    .message("좌석 예약 성공!")
+                    .reservation(ReservationResponseDto.from(reservation, "좌석 예약 성공!"))
+                    .build();
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            result = command.toBuilder().status(ReservationCommandDto.REJECTED).message(e.getMessage()).build();
+        } catch (PartitionOwnershipException e) {
+            // 워커에서는 리다이렉트할 수 없으므로 파티션 소유 노드 주소를 알려줍니다.
+            result = command.toBuilder().status(ReservationCommandDto.FAILED)
+                    .message("이 이벤트는 " + e.getOwnerUrl() + " 에서 처리됩니다.").build();
+        } catch (ReservationPendingException e) {
+            result = command.toBuilder().status(ReservationCommandDto.UNKNOWN).message(e.getMessage()).build();
+        } catch (ReservationOverloadedException e) {
+            result = command.toBuilder().status(ReservationCommandDto.FAILED).message(e.getMessage()).build();
+        } catch (RuntimeException e) {
+            log.error("예약 명령 처리 중 오류 - Command: {}", command.getCommandId(), e);
+            result = command.toBuilder().status(ReservationCommandDto.FAILED).message("예약 처리 중 서버 오류가 발생했습니다.").build();
+        }
+
+        try {
+            save(result);
+        } finally {
+            inFlight.remove(command.getCommandId());
+            completion.complete(result);
+        }
+    }
+
+    private void save(ReservationCommandDto command) {
+        try {
+            bucket(command.getCommandId()).set(objectMapper.writeValueAsString(command), Duration.ofSeconds(resultTtlSeconds));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("예약 명령 상태 저장 실패", e);
+        }
+    }
+
+    private ReservationCommandDto read(String raw) {
+        try {
+            return objectMapper.readValue(raw, ReservationCommandDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("예약 명령 상태 읽기 실패", e);
+        }
+    }
+
+    private RBucket<String> bucket(String commandId) {
+        return redissonClient.getBucket("reservation:command:{" + commandId + "}", StringCodec.INSTANCE);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
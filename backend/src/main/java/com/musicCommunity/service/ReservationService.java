@@ -1,56 +1,151 @@
 package com.musicCommunity.service;
 
 import com.musicCommunity.domain.Reservation;
+import com.musicCommunity.domain.Seat;
+import com.musicCommunity.dto.BatchReservationRequestDto;
 import com.musicCommunity.dto.ReservationDto;
 import com.musicCommunity.dto.ReservationRequestDto;
+import com.musicCommunity.exception.PartitionOwnershipException;
+import com.musicCommunity.exception.ReservationOverloadedException;
 import com.musicCommunity.mapper.ReservationMapper;
+import com.musicCommunity.mapper.SeatMapper;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ReservationService {
 
-    private final RedissonClient redissonClient;
+    private final SeatClaimService seatClaimService;
+    private final SeatConcurrencyStrategyResolver strategyResolver;
     private final ReservationServiceExecutor reservationExecutor;
     private final ReservationMapper reservationMapper;
+    private final SeatMapper seatMapper;
+
+    @Value("${reservation.batch.max-seats:10}")
+    private int maxSeatsPerRequest;
+
+    @Value("${reservation.limiter.enabled:true}")
+    private boolean limiterEnabled;
+
+    @Value("${reservation.limiter.initial-limit:20}")
+    private int initialLimit;
+
+    @Value("${reservation.limiter.min-limit:4}")
+    private int minLimit;
+
+    @Value("${reservation.limiter.max-limit:200}")
+    private int maxLimit;
+
+    @Value("${reservation.limiter.smoothing:0.2}")
+    private double smoothing;
+
+    @Value("${reservation.limiter.rtt-tolerance:1.5}")
+    private double rttTolerance;
+
+    @Value("${reservation.limiter.long-window:600}")
+    private int longWindow;
+
+    @Value("${reservation.limiter.retry-after-seconds:1}")
+    private long retryAfterSeconds;
+
+    // MySQL/Redis 처리 능력에 맞춰 동시에 처리할 단건 예약 수를 자동으로 조절합니다.
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @PostConstruct
+    public void initLimiter() {
+        limiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, smoothing, rttTolerance, longWindow);
+    }
 
-    @CacheEvict(value = "events", key = "'all_list'")
     public Reservation reserveSeat(ReservationRequestDto requestDto) {
         // 로그를 찍어 메서드 진입 여부를 확인합니다.
         log.info("예약 요청 진입 - User: {}, Seat: {}", requestDto.getUserId(), requestDto.getSeatId());
 
-        RLock lock = redissonClient.getLock("lock:seat:" + requestDto.getSeatId());
+        Long eventId = requestDto.getEventId();
+
+        if (eventId == null || requestDto.getSeatId() == null) {
+            throw new IllegalArgumentException("이벤트 ID와 좌석 ID는 필수입니다.");
+        }
+
+        if (!limiterEnabled) {
+            return strategyResolver.resolve(eventId).reserve(requestDto);
+        }
+
+        // 한도를 넘으면 기다리지 않고 바로 거절 (대기하는 동안 이미 처리 중인 요청까지 느려지지 않도록)
+        if (!limiter.tryAcquire()) {
+            log.warn("예약 동시 처리 한도 초과 - 한도: {}, 처리 중: {}", limiter.getLimit(), limiter.getInFlight());
+            throw new ReservationOverloadedException("예약 요청이 많습니다. 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+        }
 
+        long startNanos = System.nanoTime();
         try {
-            // waitTime: 3~5초 정도로 넉넉히 (줄은 서되 너무 오래는 안 기다림)
-            // leaseTime: -1로 설정하여 Watchdog이 트랜잭션 종료 시까지 락을 유지하게 함 (핵심!)
-            boolean available = lock.tryLock(100, -1, TimeUnit.MILLISECONDS);
+            // 이벤트별로 설정된 동시성 전략(기본: Redis 비트맵 선점)으로 예약
+            Reservation reservation = strategyResolver.resolve(eventId).reserve(requestDto);
+            limiter.onSuccess(System.nanoTime() - startNanos);
+            return reservation;
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            // 좌석 없음/이미 예약됨은 정상 처리 결과이므로 응답 시간으로 반영
+            limiter.onSuccess(System.nanoTime() - startNanos);
+            throw e;
+        } catch (PartitionOwnershipException e) {
+            limiter.onIgnore();
+            throw e;
+        } catch (RuntimeException e) {
+            limiter.onDropped();
+            throw e;
+        }
+    }
 
-            if (!available) {
-                log.error("락 획득 실패 - 대기 시간 초과");
-                throw new RuntimeException("접속자가 많아 처리에 실패했습니다. 다시 시도해주세요.");
-            }
+    /**
+     * 다중 좌석 예매 (전부 아니면 전무)
+     * 모든 좌석을 스크립트 1회로 한꺼번에 선점한 뒤, 하나의 트랜잭션에서 묶음 쿼리로 저장합니다.
+     * 좌석별 락을 순서대로 잡을 필요가 없으므로 교착 상태나 일부만 예약되는 상황이 생기지 않습니다.
+     */
+    public List<Reservation> reserveSeats(BatchReservationRequestDto requestDto) {
+        log.info("다중 예약 요청 진입 - User: {}, Seats: {}", requestDto.getUserId(), requestDto.getSeatIds());
+
+        Long eventId = requestDto.getEventId();
+        if (eventId == null || requestDto.getSeatIds() == null || requestDto.getSeatIds().isEmpty()) {
+            throw new IllegalArgumentException("이벤트 ID와 좌석 ID 목록은 필수입니다.");
+        }
+        strategyResolver.requireSeatBitmap(eventId);
 
-            // 2. 실제 DB 로직 실행 (트랜잭션 보장됨)
-            return reservationExecutor.proceed(requestDto);
-
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new RuntimeException("시스템 오류가 발생했습니다.");
-        } finally {
-            // 3. 반드시 락 해제
-            if (lock.isHeldByCurrentThread()) {
-                lock.unlock();
-                log.info("락 해제 완료");
+        // 중복 제거 + 정렬 (스크립트와 쿼리 모두 같은 순서로 처리)
+        List<Long> seatIds = requestDto.getSeatIds().stream().distinct().sorted().toList();
+        if (seatIds.size() > maxSeatsPerRequest) {
+            throw new IllegalArgumentException("한 번에 최대 " + maxSeatsPerRequest + "석까지 예매할 수 있습니다.");
+        }
+
+        SeatClaimService.ClaimResult result = seatClaimService.claimAll(eventId, seatIds);
+
+        if (result == SeatClaimService.ClaimResult.NOT_FOUND) {
+            throw new IllegalArgumentException("존재하지 않는 좌석이 포함되어 있습니다.");
+        }
+        if (result == SeatClaimService.ClaimResult.ALREADY_TAKEN) {
+            throw new IllegalStateException("이미 예약된 좌석이 포함되어 있습니다.");
+        }
+
+        try {
+            return reservationExecutor.proceedBatch(requestDto.getUserId(), eventId, seatIds);
+        } catch (IllegalStateException e) {
+            // DB상 이미 예약된 좌석의 비트는 실제로 팔린 좌석이므로 되돌리지 않고, 나머지 좌석만 되돌립니다.
+            List<Long> openSeatIds = seatMapper.selectSeatsByIds(seatIds).stream()
+                    .filter(seat -> !seat.getIsReserved())
+                    .map(Seat::getId)
+                    .toList();
+            if (!openSeatIds.isEmpty()) {
+                seatClaimService.releaseAll(eventId, openSeatIds);
             }
+            throw e;
+        } catch (RuntimeException e) {
+            // 전체 롤백되었으므로 이번 요청이 선점한 좌석을 모두 되돌립니다.
+            seatClaimService.releaseAll(eventId, seatIds);
+            throw e;
         }
     }
 
@@ -61,4 +156,4 @@ public class ReservationService {
     public List<ReservationDto> getReservationsByUserId(Long userId) {
         return reservationMapper.findByUserId(userId);
     }
-}
\ No newline at end of file
+}
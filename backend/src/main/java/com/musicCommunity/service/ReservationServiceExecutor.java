@@ -3,13 +3,20 @@ package com.musicCommunity.service;
 import com.musicCommunity.domain.Reservation;
 import com.musicCommunity.domain.Seat;
 import com.musicCommunity.dto.ReservationRequestDto;
+import com.musicCommunity.exception.SeatConstraintViolationException;
 import com.musicCommunity.mapper.ReservationMapper;
 import com.musicCommunity.mapper.SeatMapper;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -17,15 +24,49 @@ public class ReservationServiceExecutor {
 
     private final ReservationMapper reservationMapper;
     private final SeatMapper seatMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional // 여기서 실제 DB 커밋을 담당
     public Reservation proceed(ReservationRequestDto requestDto) {
-        Long seatId = requestDto.getSeatId();
+        // 1. 일반 조회 (Redis 선점/락이 이미 입구를 막았으므로 for update가 필요 없습니다)
+        Seat seat = seatMapper.selectSeatById(requestDto.getSeatId());
+
+        return reserveLoadedSeat(requestDto, seat);
+    }
+
+    /**
+     * 비관적 락 방식: SELECT ... FOR UPDATE로 좌석 행을 잠근 채 예약합니다.
+     * 같은 좌석을 노리는 다른 트랜잭션은 커밋될 때까지 대기합니다.
+     */
+    @Transactional
+    public Reservation proceedForUpdate(ReservationRequestDto requestDto) {
+        Seat seat = seatMapper.findByIdForUpdate(requestDto.getSeatId()).orElse(null);
+
+        return reserveLoadedSeat(requestDto, seat);
+    }
 
-        // 1. 일반 조회 (Redis 락이 이미 입구를 막았으므로 for update가 필요 없습니다)
+    /**
+     * 조건부 UPDATE 방식: is_reserved = FALSE 조건으로 먼저 좌석을 선점하고,
+     * 영향받은 행이 없으면 다른 요청이 이미 가져간 것으로 판단합니다.
+     */
+    @Transactional
+    public Reservation proceedConditional(ReservationRequestDto requestDto) {
+        Long seatId = requestDto.getSeatId();
         Seat seat = seatMapper.selectSeatById(seatId);
 
-        if (seat == null) {
+        if (seat == null || !seat.getEventId().equals(requestDto.getEventId())) {
+            throw new IllegalArgumentException("존재하지 않는 좌석입니다.");
+        }
+
+        if (seat.getIsReserved() || seatMapper.reserveSeatIfAvailable(seatId) == 0) {
+            throw new IllegalStateException("이미 예약된 좌석입니다.");
+        }
+
+        return reserveLoadedSeat(requestDto, seat);
+    }
+
+    private Reservation reserveLoadedSeat(ReservationRequestDto requestDto, Seat seat) {
+        if (seat == null || !seat.getEventId().equals(requestDto.getEventId())) {
             throw new IllegalArgumentException("존재하지 않는 좌석입니다.");
         }
 
@@ -38,18 +79,128 @@ public class ReservationServiceExecutor {
         Reservation reservation = Reservation.builder()
                 .userId(requestDto.getUserId())
                 .eventId(seat.getEventId())
-                .seatId(seatId)
+                .seatId(seat.getId())
                 .reservationDate(LocalDateTime.now())
                 .status("COMPLETE")
                 .totalPrice(seat.getPrice())
                 .build();
 
-        reservationMapper.insertReservation(reservation);
+        try {
+            reservationMapper.insertReservation(reservation);
+        } catch (DuplicateKeyException e) {
+            // uk_seat_id 제약: 선점 정보가 DB와 어긋났더라도 중복 예약은 DB에서 최종 차단됩니다.
+            throw new SeatConstraintViolationException("이미 예약된 좌석입니다.");
+        }
 
         // 4. 좌석 상태 업데이트
         Seat newSeat = seat.reserve(reservation.getId());
         seatMapper.updateSeat(newSeat);
 
+        // 5. 커밋 후 좌석 변경 스트림으로 전달
+        eventPublisher.publishEvent(new SeatStateChange(seat.getEventId(), List.of(seat.getId()), true));
+
         return reservation;
     }
-}
\ No newline at end of file
+
+    /**
+     * 다중 좌석 예매: 모든 좌석을 하나의 트랜잭션에서 묶음 쿼리로 처리합니다.
+     * 좌석 조회 1회 + multi-row INSERT 1회 + CASE UPDATE 1회로 끝나며,
+     * 하나라도 실패하면 전체가 롤백됩니다.
+     */
+    @Transactional
+    public List<Reservation> proceedBatch(Long userId, Long eventId, List<Long> seatIds) {
+        List<Seat> seats = seatMapper.selectSeatsByIds(seatIds);
+
+        if (seats.size() != seatIds.size()
+                || seats.stream().anyMatch(seat -> !seat.getEventId().equals(eventId))) {
+            throw new IllegalArgumentException("존재하지 않는 좌석이 포함되어 있습니다.");
+        }
+        if (seats.stream().anyMatch(Seat::getIsReserved)) {
+            throw new IllegalStateException("이미 예약된 좌석이 포함되어 있습니다.");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Reservation> reservations = new ArrayList<>();
+        for (Seat seat : seats) {
+            reservations.add(Reservation.builder()
+                    .userId(userId)
+                    .eventId(eventId)
+                    .seatId(seat.getId())
+                    .reservationDate(now)
+                    .status("COMPLETE")
+                    .totalPrice(seat.getPrice())
+                    .build());
+        }
+
+        try {
+            reservationMapper.insertReservations(reservations);
+        } catch (DuplicateKeyException e) {
+            throw new SeatConstraintViolationException("이미 예약된 좌석이 포함되어 있습니다.");
+        }
+
+        List<Seat> reservedSeats = new ArrayList<>();
+        for (int i = 0; i < seats.size(); i++) {
+            reservedSeats.add(seats.get(i).reserve(reservations.get(i).getId()));
+        }
+
+        if (seatMapper.updateSeatsReserved(reservedSeats) != reservedSeats.size()) {
+            throw new IllegalStateException("이미 예약된 좌석이 포함되어 있습니다.");
+        }
+
+        eventPublisher.publishEvent(new SeatStateChange(eventId, seatIds, true));
+
+        return reservations;
+    }
+
+    /**
+     * 그룹 커밋: 여러 사용자의 단일 좌석 예약을 하나의 트랜잭션에서 묶음 쿼리로 저장합니다.
+     * 하나라도 문제가 있으면 전체를 롤백하므로, 호출하는 쪽에서 건별 처리로 되돌아가야 합니다.
+     * @return 요청 순서와 같은 순서의 Reservation 리스트
+     */
+    @Transactional
+    public List<Reservation> proceedGroup(List<ReservationRequestDto> requests) {
+        List<Long> seatIds = requests.stream().map(ReservationRequestDto::getSeatId).toList();
+        Map<Long, Seat> seats = seatMapper.selectSeatsByIds(seatIds).stream()
+                .collect(Collectors.toMap(Seat::getId, Function.identity()));
+
+        if (seats.size() != requests.size()) {
+            throw new IllegalStateException("그룹 내에 존재하지 않거나 중복된 좌석이 있습니다.");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Reservation> reservations = new ArrayList<>();
+        for (ReservationRequestDto request : requests) {
+            Seat seat = seats.get(request.getSeatId());
+            if (!seat.getEventId().equals(request.getEventId()) || seat.getIsReserved()) {
+                throw new IllegalStateException("그룹 내에 예약할 수 없는 좌석이 있습니다: " + seat.getId());
+            }
+            reservations.add(Reservation.builder()
+                    .userId(request.getUserId())
+                    .eventId(seat.getEventId())
+                    .seatId(seat.getId())
+                    .reservationDate(now)
+                    .status("COMPLETE")
+                    .totalPrice(seat.getPrice())
+                    .build());
+        }
+
+        reservationMapper.insertReservations(reservations);
+
+        List<Seat> reservedSeats = new ArrayList<>();
+        for (Reservation reservation : reservations) {
+            reservedSeats.add(seats.get(reservation.getSeatId()).reserve(reservation.getId()));
+        }
+
+        if (seatMapper.updateSeatsReserved(reservedSeats) != reservedSeats.size()) {
+            throw new IllegalStateException("그룹 내에 이미 예약된 좌석이 있습니다.");
+        }
+
+        reservations.stream()
+                .collect(Collectors.groupingBy(Reservation::getEventId,
+                        Collectors.mapping(Reservation::getSeatId, Collectors.toList())))
+                .forEach((eventId, reservedSeatIds) ->
+                        eventPublisher.publishEvent(new SeatStateChange(eventId, reservedSeatIds, true)));
+
+        return reservations;
+    }
+}
@@ -0,0 +1,181 @@
+package com.musicCommunity.service;
+
+import com.musicCommunity.domain.Reservation;
+import com.musicCommunity.dto.ReservationRequestDto;
+import com.musicCommunity.exception.ReservationPendingException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 예약 그룹 커밋
+ * Redis에서 선점이 확정된 예약을 큐에 모아 두고, 단일 writer 스레드가 몇 ms마다
+ * 묶음(multi-row INSERT + CASE UPDATE) 트랜잭션 하나로 DB에 반영합니다.
+ * 수천 건의 작은 커밋이 수십 건의 큰 커밋으로 줄어듭니다.
+ *
+ * 요청 스레드는 자기 예약이 커밋될 때까지 기다리므로, 성공 응답은 항상 DB 커밋 뒤에 나갑니다.
+ * 별도의 저널은 두지 않습니다. 커밋 전에 노드가 죽으면 요청은 실패로 끝나고,
+ * 남은 선점 비트는 SeatClaimService의 주기적 대조가 DB 기준으로 되돌립니다.
+ *
+ * reservation.write-behind.enabled=true 일 때만 동작하며, Redis 비트맵 전략과 이벤트 파티션 전략에서 사용됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationWriteBehindService {
+
+    private final ReservationServiceExecutor reservationExecutor;
+
+    @Value("${reservation.write-behind.enabled:false}")
+    private boolean enabled;
+
+    @Value("${reservation.write-behind.flush-interval-ms:5}")
+    private long flushIntervalMs;
+
+    @Value("${reservation.write-behind.max-batch-size:500}")
+    private int maxBatchSize;
+
+    @Value("${reservation.write-behind.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${reservation.write-behind.ack-timeout-ms:5000}")
+    private long ackTimeoutMs;
+
+    private BlockingQueue<PendingReservation> queue;
+    private Thread writer;
+    private volatile boolean running;
+
+    private record PendingReservation(ReservationRequestDto request, CompletableFuture<Reservation> result) {}
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        queue = new LinkedBlockingQueue<>(queueCapacity);
+
+        running = true;
+        writer = new Thread(this::writeLoop, "reservation-write-behind");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 선점이 끝난 예약을 큐에 넣고, 묶음 커밋이 끝날 때까지 기다립니다.
+     * 큐가 가득 차면 기존처럼 단건 트랜잭션으로 바로 저장합니다.
+     *
+     * 기다리다 시간이 초과되면 예약은 아직 저장 중일 수 있으므로 ReservationPendingException을 던지고,
+     * 이후 저장이 실패로 끝났을 때만 releaseOnLateFailure로 선점을 되돌립니다.
+     */
+    public Reservation submit(ReservationRequestDto requestDto, Runnable releaseOnLateFailure) {
+        PendingReservation pending = new PendingReservation(requestDto, new CompletableFuture<>());
+
+        if (!queue.offer(pending)) {
+            return reservationExecutor.proceed(requestDto);
+        }
+
+        try {
+            return pending.result().get(ackTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RuntimeException("예약 저장 중 오류가 발생했습니다.", e.getCause());
+        } catch (TimeoutException e) {
+            log.error("그룹 커밋 대기 시간 초과 - Seat: {}", requestDto.getSeatId());
+            pending.result().whenComplete((reservation, error) -> {
+                // 이미 예약된 좌석(IllegalStateException)이면 비트는 실제로 팔린 좌석이므로 그대로 둡니다.
+                if (error != null && !(error instanceof IllegalStateException)) {
+                    log.warn("지연된 그룹 커밋 저장 실패, 선점 해제 - Seat: {}", requestDto.getSeatId());
+                    releaseOnLateFailure.run();
+                }
+            });
+            throw new ReservationPendingException("예약 저장이 지연되고 있습니다. 잠시 후 예매 내역을 확인해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("시스템 오류가 발생했습니다.");
+        }
+    }
+
+    private void writeLoop() {
+        List<PendingReservation> batch = new ArrayList<>(maxBatchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingReservation first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                // 잠깐 기다렸다가 그 사이 쌓인 요청을 한 묶음으로 가져옵니다.
+                batch.add(first);
+                if (flushIntervalMs > 0) {
+                    Thread.sleep(flushIntervalMs);
+                }
+                queue.drainTo(batch, maxBatchSize - 1);
+
+                flush(batch);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    break;
+                }
+            } catch (RuntimeException e) {
+                log.error("그룹 커밋 묶음 처리 실패", e);
+                batch.forEach(pending -> pending.result().completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 묶음 트랜잭션 1회로 저장하고, 실패하면 문제 있는 건을 가려내기 위해 건별로 저장합니다.
+     */
+    private void flush(List<PendingReservation> batch) {
+        List<ReservationRequestDto> requests = batch.stream().map(PendingReservation::request).toList();
+        try {
+            List<Reservation> reservations = reservationExecutor.proceedGroup(requests);
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(reservations.get(i));
+            }
+            log.info("그룹 커밋 - {}건", requests.size());
+            return;
+        } catch (RuntimeException e) {
+            log.warn("그룹 커밋 실패, 건별 저장으로 전환 - {}건: {}", requests.size(), e.getMessage());
+        }
+
+        for (PendingReservation pending : batch) {
+            try {
+                pending.result().complete(reservationExecutor.proceed(pending.request()));
+            } catch (RuntimeException e) {
+                pending.result().completeExceptionally(e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (!enabled) {
+            return;
+        }
+        running = false;
+        writer.join(ackTimeoutMs);
+    }
+}
@@ -0,0 +1,150 @@
+package com.musicCommunity.service;
+
+import com.musicCommunity.dto.SeatDeltaDto;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 좌석 변경 스트림 (SSE)
+ * 클라이언트는 접속 시 좌석 스냅샷(압축 좌석 맵)을 한 번 받고, 이후에는 바뀐 좌석(delta)만 받습니다.
+ * N명의 클라이언트가 전체 좌석 목록을 폴링하는 대신, 하나의 변경 피드를 공유합니다.
+ *
+ * 예약 커밋 → Redis 토픽(seat:changes) 발행 → 모든 노드가 수신해 자신의 구독자에게 전달
+ * 짧은 시간(coalesce-ms) 동안 들어온 변경은 이벤트별로 모아서 한 프레임으로 보냅니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatChangeStreamService {
+
+    // 좌석 변경 토픽 (다른 서비스도 같은 변경 피드를 구독할 수 있습니다)
+    public static final String TOPIC = "seat:changes";
+
+    private final RedissonClient redissonClient;
+    private final SeatMapService seatMapService;
+
+    @Value("${reservation.seat-stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    // 이벤트별 구독자
+    private final Map<Long, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    // 이벤트별로 아직 보내지 않은 변경 (seatId → reserved), 같은 좌석의 변경은 마지막 상태만 남습니다.
+    private final Map<Long, Map<Long, Boolean>> pending = new ConcurrentHashMap<>();
+
+    private RTopic topic;
+
+    @PostConstruct
+    public void init() {
+        topic = redissonClient.getTopic(TOPIC, StringCodec.INSTANCE);
+        topic.addListener(String.class, (channel, message) -> onMessage(message));
+    }
+
+    /**
+     * 구독을 등록하고 현재 좌석 스냅샷을 보냅니다.
+     * 스냅샷을 읽기 전에 먼저 등록하므로, 그 사이의 변경은 delta로 다시 전달됩니다. (같은 상태를 다시 받아도 무해)
+     */
+    public SseEmitter subscribe(Long eventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        subscribers.computeIfAbsent(eventId, id -> ConcurrentHashMap.newKeySet()).add(emitter);
+
+        emitter.onCompletion(() -> unsubscribe(eventId, emitter));
+        emitter.onTimeout(() -> unsubscribe(eventId, emitter));
+        emitter.onError(e -> unsubscribe(eventId, emitter));
+
+        try {
+            emitter.send(SseEmitter.event().name("snapshot").data(seatMapService.getSeatMap(eventId)));
+        } catch (IOException e) {
+            unsubscribe(eventId, emitter);
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    /**
+     * 예약 트랜잭션이 커밋된 뒤에만 변경을 발행합니다. (롤백된 예약은 전달되지 않음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSeatStateChanged(SeatStateChange change) {
+        // 형식: eventId|reserved|seatId,seatId,...
+        String message = change.eventId() + "|" + change.reserved() + "|"
+                + change.seatIds().stream().map(String::valueOf).collect(Collectors.joining(","));
+        topic.publishAsync(message);
+    }
+
+    /**
+     * 토픽 메시지(eventId|reserved|seatId,seatId,...)를 SeatStateChange로 되돌립니다.
+     */
+    public static SeatStateChange decode(String message) {
+        String[] parts = message.split("\\|");
+        List<Long> seatIds = parts.length < 3 || parts[2].isEmpty()
+                ? List.of()
+                : Arrays.stream(parts[2].split(",")).map(Long::valueOf).toList();
+        return new SeatStateChange(Long.valueOf(parts[0]), seatIds, Boolean.parseBoolean(parts[1]));
+    }
+
+    private void onMessage(String message) {
+        SeatStateChange change = decode(message);
+        if (!subscribers.containsKey(change.eventId())) {
+            return; // 이 노드에 구독자가 없는 이벤트
+        }
+
+        pending.compute(change.eventId(), (id, changes) -> {
+            Map<Long, Boolean> merged = changes != null ? changes : new HashMap<>();
+            change.seatIds().forEach(seatId -> merged.put(seatId, change.reserved()));
+            return merged;
+        });
+    }
+
+    /**
+     * 모아 둔 변경을 이벤트별 delta 프레임 하나로 보냅니다.
+     */
+    @Scheduled(fixedDelayString = "${reservation.seat-stream.coalesce-ms:200}")
+    public void flush() {
+        for (Long eventId : pending.keySet()) {
+            Map<Long, Boolean> changes = pending.remove(eventId);
+            Set<SseEmitter> emitters = subscribers.get(eventId);
+            if (changes == null || emitters == null) {
+                continue;
+            }
+
+            List<SeatDeltaDto> delta = new ArrayList<>(changes.size());
+            changes.forEach((seatId, reserved) -> delta.add(new SeatDeltaDto(seatId, reserved)));
+
+            for (SseEmitter emitter : emitters) {
+                try {
+                    emitter.send(SseEmitter.event().name("delta").data(delta));
+                } catch (IOException | IllegalStateException e) {
+                    // 연결이 끊긴 구독자
+                    unsubscribe(eventId, emitter);
+                }
+            }
+        }
+    }
+
+    private void unsubscribe(Long eventId, SseEmitter emitter) {
+        subscribers.computeIfPresent(eventId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
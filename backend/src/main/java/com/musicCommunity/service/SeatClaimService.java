@@ -0,0 +1,360 @@
+package com.musicCommunity.service;
+
+import com.musicCommunity.domain.Seat;
+import com.musicCommunity.mapper.EventMapper;
+import com.musicCommunity.mapper.SeatMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RLock;
+import org.redisson.api.RMap;
+import org.redisson.api.RScript;
+import org.redisson.api.RSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Redis 비트맵 기반 좌석 선점 엔진
+ * 이벤트별 좌석 상태를 비트맵(seat:bitmap:{eventId})으로 Redis에 보관하고,
+ * Lua 스크립트 한 번의 호출로 좌석을 원자적으로 선점합니다.
+ * 선점에 성공한 요청만 MySQL에 접근하므로, 실패한 요청은 Redis 왕복 1회로 끝납니다.
+ *
+ * 비트 오프셋 = seatId - base (base: 해당 이벤트의 가장 작은 좌석 ID)
+ * 비트 값 1 = 예약됨/선점됨 (다른 이벤트의 좌석 ID가 끼어 있는 구간도 1로 막아둡니다)
+ *
+ * 선점 후 DB에 저장하기 전에 노드가 죽으면 비트가 1로 남습니다.
+ * 주기적 대조(reconcile)가 DB에서 빈 좌석인데 비트가 1이고 홀드도 없는 좌석을 찾아,
+ * 유예 시간(reconcile-grace-ms)이 지나도록 그대로면 0으로 되돌립니다.
+ * (저장 중인 선점을 잘못 되돌리더라도 DB의 조건부 UPDATE/유니크 제약이 이중 예약을 막으므로, 대조는 가용성만 복구합니다)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatClaimService {
+
+    public enum ClaimResult { CLAIMED, ALREADY_TAKEN, NOT_FOUND }
+
+    /**
+     * 비트맵 스냅샷 (홀드/선점 중인 좌석까지 포함한 현재 상태)
+     */
+    public record BitmapSnapshot(long base, int size, byte[] bits) {
+        public boolean isTaken(long seatId) {
+            long offset = seatId - base;
+            if (offset < 0 || offset >= size) {
+                return true;
+            }
+            int index = (int) (offset >> 3);
+            return index < bits.length && (bits[index] & (0x80 >>> (offset & 7))) != 0;
+        }
+    }
+
+    private static final long NOT_LOADED = -1L;
+
+    // KEYS[1] = 비트맵, KEYS[2] = 메타(base, size) / ARGV = seatId 목록
+    // 모든 좌석이 비어 있을 때만 한꺼번에 선점합니다. (전부 아니면 전무)
+    // 반환: 1 선점 성공, 0 이미 선점된 좌석 있음, -1 비트맵 미적재, -2 범위 밖 좌석
+    private static final String CLAIM_SCRIPT =
+            "local base = redis.call('HGET', KEYS[2], 'base') " +
+            "if not base then return -1 end " +
+            "base = tonumber(base) " +
+            "local size = tonumber(redis.call('HGET', KEYS[2], 'size')) " +
+            "for i = 1, #ARGV do " +
+            "  local offset = tonumber(ARGV[i]) - base " +
+            "  if offset < 0 or offset >= size then return -2 end " +
+            "  if redis.call('GETBIT', KEYS[1], offset) == 1 then return 0 end " +
+            "end " +
+            "for i = 1, #ARGV do redis.call('SETBIT', KEYS[1], tonumber(ARGV[i]) - base, 1) end " +
+            "return 1";
+
+    // 반환: 해제된 좌석 수, -1 비트맵 미적재
+    private static final String RELEASE_SCRIPT =
+            "local base = redis.call('HGET', KEYS[2], 'base') " +
+            "if not base then return -1 end " +
+            "base = tonumber(base) " +
+            "local size = tonumber(redis.call('HGET', KEYS[2], 'size')) " +
+            "local released = 0 " +
+            "for i = 1, #ARGV do " +
+            "  local offset = tonumber(ARGV[i]) - base " +
+            "  if offset >= 0 and offset < size then released = released + redis.call('SETBIT', KEYS[1], offset, 0) end " +
+            "end " +
+            "return released";
+
+    // 여러 노드가 동시에 적재를 시도해도 먼저 올라간 비트맵만 유지합니다.
+    // DB에는 홀드가 없으므로, 아직 만료되지 않은 홀드(KEYS[3])의 좌석도 같은 스크립트 안에서 1로 막습니다.
+    // (비트맵이 만료/축출된 뒤 다시 적재해도 결제 중인 좌석이 빈 좌석으로 보이지 않도록)
+    // KEYS[3] = 홀드 해시 / ARGV[1] = 비트맵 바이트, ARGV[2] = base, ARGV[3] = size, ARGV[4] = TTL(ms), ARGV[5] = 현재 시각(ms)
+    private static final String LOAD_SCRIPT =
+            "if redis.call('EXISTS', KEYS[2]) == 1 then return 0 end " +
+            "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[4]) " +
+            "redis.call('HSET', KEYS[2], 'base', ARGV[2], 'size', ARGV[3]) " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[4]) " +
+            "local base = tonumber(ARGV[2]) " +
+            "local size = tonumber(ARGV[3]) " +
+            "local now = tonumber(ARGV[5]) " +
+            "local holds = redis.call('HGETALL', KEYS[3]) " +
+            "for i = 1, #holds, 2 do " +
+            "  local v = holds[i + 1] " +
+            "  local offset = tonumber(holds[i]) - base " +
+            "  if tonumber(string.sub(v, string.find(v, ':') + 1)) > now and offset >= 0 and offset < size then " +
+            "    redis.call('SETBIT', KEYS[1], offset, 1) " +
+            "  end " +
+            "end " +
+            "return 1";
+
+    // KEYS[1] = 비트맵, KEYS[2] = 메타, KEYS[3] = 홀드 해시 / ARGV = 되돌릴 seatId 목록
+    // 그 사이 홀드가 잡힌 좌석은 건너뜁니다. 반환: 되돌린 좌석 수, -1 비트맵 미적재
+    private static final String RECONCILE_SCRIPT =
+            "local base = redis.call('HGET', KEYS[2], 'base') " +
+            "if not base then return -1 end " +
+            "base = tonumber(base) " +
+            "local size = tonumber(redis.call('HGET', KEYS[2], 'size')) " +
+            "local cleared = 0 " +
+            "for i = 1, #ARGV do " +
+            "  local offset = tonumber(ARGV[i]) - base " +
+            "  if offset >= 0 and offset < size and redis.call('HEXISTS', KEYS[3], ARGV[i]) == 0 then " +
+            "    cleared = cleared + redis.call('SETBIT', KEYS[1], offset, 0) " +
+            "  end " +
+            "end " +
+            "return cleared";
+
+    // 비트맵이 적재된 이벤트 ID 목록 (대조 대상)
+    private static final String LOADED_EVENTS_KEY = "seat:bitmap:events";
+    private static final String RECONCILE_LOCK_KEY = "lock:seat:reconcile";
+
+    private final RedissonClient redissonClient;
+    private final SeatMapper seatMapper;
+    private final EventMapper eventMapper;
+    private final PaymentDeadLetterService deadLetterService;
+
+    @Value("${reservation.claim.bitmap-ttl-minutes:360}")
+    private long bitmapTtlMinutes;
+
+    // DB와 어긋난 비트를 몇 ms 동안 지켜본 뒤 되돌릴지 (그룹 커밋 대기 시간보다 충분히 길게)
+    @Value("${reservation.claim.reconcile-grace-ms:60000}")
+    private long reconcileGraceMs;
+
+    /**
+     * 좌석을 원자적으로 선점합니다.
+     */
+    public ClaimResult claim(Long eventId, Long seatId) {
+        return claimAll(eventId, List.of(seatId));
+    }
+
+    /**
+     * 여러 좌석을 한 번의 스크립트 호출로 전부 선점하거나, 하나도 선점하지 않습니다.
+     * 비트맵이 아직 없으면 DB에서 한 번 적재한 뒤 다시 시도합니다.
+     */
+    public ClaimResult claimAll(Long eventId, List<Long> seatIds) {
+        long result = evalSeatScript(CLAIM_SCRIPT, eventId, seatIds);
+
+        if (result == NOT_LOADED) {
+            if (!loadBitmap(eventId)) {
+                return ClaimResult.NOT_FOUND;
+            }
+            result = evalSeatScript(CLAIM_SCRIPT, eventId, seatIds);
+        }
+
+        if (result == 1L) return ClaimResult.CLAIMED;
+        if (result == 0L) return ClaimResult.ALREADY_TAKEN;
+        return ClaimResult.NOT_FOUND;
+    }
+
+    /**
+     * 선점한 좌석을 되돌립니다. (DB 저장 실패, 홀드 만료 등)
+     */
+    public void release(Long eventId, Long seatId) {
+        releaseAll(eventId, List.of(seatId));
+    }
+
+    public void releaseAll(Long eventId, List<Long> seatIds) {
+        long result = evalSeatScript(RELEASE_SCRIPT, eventId, seatIds);
+        log.info("좌석 선점 해제 - Event: {}, Seats: {}, 결과: {}", eventId, seatIds, result);
+    }
+
+    /**
+     * 이벤트의 비트맵을 한 번의 왕복으로 읽어옵니다. (자동 배정 인덱스가 DB에 없는 홀드/선점을 반영할 때 사용)
+     * @return 스냅샷, 비트맵이 아직 적재되지 않았으면 null
+     */
+    public BitmapSnapshot snapshot(Long eventId) {
+        RBatch batch = redissonClient.createBatch();
+        RFuture<byte[]> bits = batch.<byte[]>getBucket(bitmapKey(eventId), ByteArrayCodec.INSTANCE).getAsync();
+        RFuture<Map<String, String>> meta = batch.<String, String>getMap(metaKey(eventId), StringCodec.INSTANCE).readAllMapAsync();
+        batch.execute();
+
+        Map<String, String> values = meta.toCompletableFuture().join();
+        if (values.get("base") == null || values.get("size") == null) {
+            return null;
+        }
+        byte[] bytes = bits.toCompletableFuture().join();
+        return new BitmapSnapshot(Long.parseLong(values.get("base")), Integer.parseInt(values.get("size")),
+                bytes == null ? new byte[0] : bytes);
+    }
+
+    /**
+     * 이벤트의 비트맵을 삭제합니다. 다음 선점 시 DB 기준으로 다시 적재됩니다.
+     */
+    public void evict(Long eventId) {
+        redissonClient.getKeys().delete(bitmapKey(eventId), metaKey(eventId));
+    }
+
+    /**
+     * 적재된 비트맵을 DB 좌석 상태와 대조해, 저장되지 못하고 남은 선점 비트를 되돌립니다.
+     * 한 번 본 어긋남은 seat:suspect:{eventId}에 처음 본 시각과 함께 적어 두고,
+     * 다음 대조에서도 여전히 어긋나 있고 유예 시간이 지났을 때만 되돌립니다.
+     * 진행 중인 홀드와, 재저장을 기다리는 결제(CONFIRM_FAILED)의 좌석은 건드리지 않습니다.
+     * 여러 노드가 떠 있어도 한 노드만 대조하도록 락을 겁니다.
+     */
+    @Scheduled(fixedDelayString = "${reservation.claim.reconcile-interval-ms:60000}",
+            initialDelayString = "${reservation.claim.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        RLock lock = redissonClient.getLock(RECONCILE_LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+
+        try {
+            Set<String> pendingPayments = new HashSet<>();
+            for (PaymentDeadLetterService.DeadLetter failed : deadLetterService.findAll(PaymentDeadLetterService.Reason.CONFIRM_FAILED)) {
+                pendingPayments.add(failed.eventId() + ":" + failed.seatId());
+            }
+
+            for (String eventIdStr : loadedEvents().readAll()) {
+                try {
+                    reconcile(Long.valueOf(eventIdStr), pendingPayments);
+                } catch (RuntimeException e) {
+                    log.warn("좌석 비트맵 대조 실패 - Event: {}: {}", eventIdStr, e.getMessage());
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void reconcile(Long eventId, Set<String> pendingPayments) {
+        RMap<String, String> suspects = redissonClient.getMap(suspectKey(eventId), StringCodec.INSTANCE);
+
+        // 비트맵을 먼저 읽고 DB를 읽으므로, 그 사이 커밋된 예약은 DB에서 예약됨으로 보여 대상에서 빠집니다.
+        BitmapSnapshot snapshot = snapshot(eventId);
+        if (snapshot == null) {
+            loadedEvents().remove(String.valueOf(eventId));
+            suspects.delete();
+            return;
+        }
+        Map<String, String> holds = redissonClient.<String, String>getMap(SeatHoldService.holdKey(eventId), StringCodec.INSTANCE).readAllMap();
+
+        long now = System.currentTimeMillis();
+        Map<String, String> previous = suspects.readAllMap();
+        Map<String, String> stillSuspect = new HashMap<>();
+        List<Object> toClear = new ArrayList<>();
+        for (Seat seat : seatMapper.findAvailableSeatsByEventId(eventId)) {
+            String seatId = String.valueOf(seat.getId());
+            if (!snapshot.isTaken(seat.getId()) || holds.containsKey(seatId)
+                    || pendingPayments.contains(eventId + ":" + seatId)) {
+                continue;
+            }
+
+            long firstSeen = previous.containsKey(seatId) ? Long.parseLong(previous.get(seatId)) : now;
+            if (now - firstSeen >= reconcileGraceMs) {
+                toClear.add(seatId);
+            } else {
+                stillSuspect.put(seatId, String.valueOf(firstSeen));
+            }
+        }
+
+        suspects.delete();
+        if (!stillSuspect.isEmpty()) {
+            suspects.putAll(stillSuspect);
+            suspects.expire(Duration.ofMillis(reconcileGraceMs * 3));
+        }
+        if (toClear.isEmpty()) {
+            return;
+        }
+
+        Long cleared = redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, RECONCILE_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                List.of(bitmapKey(eventId), metaKey(eventId), SeatHoldService.holdKey(eventId)), toClear.toArray());
+        log.warn("좌석 비트맵 대조 - Event: {}, DB와 어긋난 선점 {}석 해제", eventId, cleared);
+    }
+
+    public static String bitmapKey(Long eventId) {
+        return "seat:bitmap:{" + eventId + "}";
+    }
+
+    public static String metaKey(Long eventId) {
+        return "seat:meta:{" + eventId + "}";
+    }
+
+    private static String suspectKey(Long eventId) {
+        return "seat:suspect:{" + eventId + "}";
+    }
+
+    private RSet<String> loadedEvents() {
+        return redissonClient.getSet(LOADED_EVENTS_KEY, StringCodec.INSTANCE);
+    }
+
+    private long evalSeatScript(String script, Long eventId, List<Long> seatIds) {
+        RScript rScript = redissonClient.getScript(StringCodec.INSTANCE);
+        Long result = rScript.eval(RScript.Mode.READ_WRITE, script, RScript.ReturnType.INTEGER,
+                List.of(bitmapKey(eventId), metaKey(eventId)),
+                seatIds.stream().map(String::valueOf).toArray());
+        return result == null ? NOT_LOADED : result;
+    }
+
+    /**
+     * DB의 좌석 상태와 진행 중인 홀드로 비트맵을 만들어 Redis에 올립니다.
+     * 좌석 생성 중이거나 취소된(ACTIVE가 아닌) 이벤트는 올리지 않으므로 선점되지 않습니다.
+     * @return 좌석이 하나라도 있으면 true
+     */
+    private boolean loadBitmap(Long eventId) {
+        if (!"ACTIVE".equals(eventMapper.findEventStatus(eventId))) {
+            return false;
+        }
+        List<Seat> seats = seatMapper.findSeatsByEventId(eventId);
+        if (seats.isEmpty()) {
+            return false;
+        }
+
+        long base = seats.stream().mapToLong(Seat::getId).min().getAsLong();
+        long max = seats.stream().mapToLong(Seat::getId).max().getAsLong();
+        int size = (int) (max - base + 1);
+
+        // 모든 비트를 1(사용 불가)로 채운 뒤, 이 이벤트의 빈 좌석만 0으로 엽니다.
+        byte[] bitmap = new byte[(size + 7) / 8];
+        Arrays.fill(bitmap, (byte) 0xFF);
+        for (Seat seat : seats) {
+            if (!seat.getIsReserved()) {
+                int offset = (int) (seat.getId() - base);
+                // Redis 비트맵은 바이트의 최상위 비트가 오프셋 0입니다.
+                bitmap[offset >> 3] &= (byte) ~(0x80 >>> (offset & 7));
+            }
+        }
+
+        RScript rScript = redissonClient.getScript(ByteArrayCodec.INSTANCE);
+        rScript.eval(RScript.Mode.READ_WRITE, LOAD_SCRIPT, RScript.ReturnType.INTEGER,
+                List.of(bitmapKey(eventId), metaKey(eventId), SeatHoldService.holdKey(eventId)),
+                bitmap, bytes(base), bytes(size), bytes(bitmapTtlMinutes * 60_000L), bytes(System.currentTimeMillis()));
+        loadedEvents().add(String.valueOf(eventId));
+
+        log.info("좌석 비트맵 적재 - Event: {}, base: {}, size: {}", eventId, base, size);
+        return true;
+    }
+
+    private static byte[] bytes(long value) {
+        return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,153 @@
+package com.musicCommunity.service;
+
+import com.musicCommunity.domain.Seat;
+import com.musicCommunity.dto.EventDto;
+import com.musicCommunity.dto.ReservationRequestDto;
+import com.musicCommunity.dto.SeatBenchmarkResultDto;
+import com.musicCommunity.exception.SeatConstraintViolationException;
+import com.musicCommunity.mapper.ReservationMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 좌석 동시성 전략 비교 벤치마크
+ * 전략마다 같은 크기의 좌석 풀을 가진 임시 이벤트를 만들고,
+ * 여러 스레드가 무작위 좌석을 동시에 노리게 하여 처리량, p99 지연, 초과 판매 수를 측정합니다.
+ * 초과 판매는 측정이 끝난 뒤 DB에서 읽은 좌석별 예약 행으로 판정하고,
+ * 선점 단계를 통과했지만 DB 유니크 제약에서 막힌 충돌은 일반 충돌과 따로 셉니다.
+ * 측정이 끝난 임시 이벤트는 CANCELED 상태로 바꿔 목록에서 구분합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatConcurrencyBenchmark {
+
+    private final SeatConcurrencyStrategyResolver strategyResolver;
+    private final EventService eventService;
+    private final ReservationMapper reservationMapper;
+
+    public List<SeatBenchmarkResultDto> runAll(Long userId, int seats, int threads, int attempts) {
+        List<SeatBenchmarkResultDto> results = new ArrayList<>();
+        for (SeatConcurrencyMode mode : SeatConcurrencyMode.values()) {
+            results.add(run(mode, userId, seats, threads, attempts));
+        }
+        return results;
+    }
+
+    public SeatBenchmarkResultDto run(SeatConcurrencyMode mode, Long userId, int seats, int threads, int attempts) {
+        SeatConcurrencyStrategy strategy = strategyResolver.get(mode);
+
+        EventDto event = eventService.createEvent(EventDto.builder()
+                .title("[BENCHMARK] " + mode)
+                .venue("benchmark")
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now())
+                .totalSeats(seats)
+                .build());
+        Long eventId = event.getId();
+        List<Long> seatIds = eventService.findSeatsByEventId(eventId).stream().map(Seat::getId).toList();
+
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger successes = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        AtomicInteger constraintConflicts = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        long[] latencies = new long[attempts];
+
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+
+        for (int t = 0; t < threads; t++) {
+            pool.execute(() -> {
+                try {
+                    start.await();
+                    int i;
+                    while ((i = next.getAndIncrement()) < attempts) {
+                        Long seatId = seatIds.get(ThreadLocalRandom.current().nextInt(seatIds.size()));
+                        long begin = System.nanoTime();
+                        try {
+                            strategy.reserve(new ReservationRequestDto(userId, eventId, seatId));
+                            successes.incrementAndGet();
+                        } catch (SeatConstraintViolationException e) {
+                            constraintConflicts.incrementAndGet();
+                        } catch (IllegalStateException e) {
+                            conflicts.incrementAndGet();
+                        } catch (RuntimeException e) {
+                            errors.incrementAndGet();
+                        } finally {
+                            latencies[i] = System.nanoTime() - begin;
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            pool.shutdownNow();
+        }
+        long elapsedNanos = System.nanoTime() - begin;
+
+        eventService.updateEventStatus(eventId, "CANCELED");
+
+        // 클라이언트가 받은 응답이 아니라 실제로 커밋된 예약 행으로 초과 판매를 판정합니다.
+        Map<String, Object> committed = reservationMapper.countReservationsByEventId(eventId);
+        int reservations = ((Number) committed.get("reservations")).intValue();
+        int reservedSeats = ((Number) committed.get("reservedSeats")).intValue();
+
+        Arrays.sort(latencies);
+        SeatBenchmarkResultDto result = SeatBenchmarkResultDto.builder()
+                .mode(mode.name())
+                .eventId(eventId)
+                .seats(seats)
+                .threads(threads)
+                .attempts(attempts)
+                .successes(successes.get())
+                .conflicts(conflicts.get())
+                .constraintConflicts(constraintConflicts.get())
+                .errors(errors.get())
+                .reservations(reservations)
+                .oversold(reservations - reservedSeats)
+                .unbackedSuccesses(successes.get() - reservations)
+                .elapsedMillis(elapsedNanos / 1_000_000)
+                .throughputPerSecond(attempts / (elapsedNanos / 1_000_000_000.0))
+                .p50Millis(percentile(latencies, 0.50))
+                .p99Millis(percentile(latencies, 0.99))
+                .build();
+
+        log.info("벤치마크 완료 - {}: 성공 {}, 충돌 {}, 제약 충돌 {}, 오류 {}, 예약 행 {}, 초과판매 {}, 근거 없는 성공 {}, p99 {}ms",
+                mode, result.getSuccesses(), result.getConflicts(), result.getConstraintConflicts(), result.getErrors(),
+                result.getReservations(), result.getOversold(), result.getUnbackedSuccesses(), result.getP99Millis());
+        return result;
+    }
+
+    private static double percentile(long[] sortedNanos, double p) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
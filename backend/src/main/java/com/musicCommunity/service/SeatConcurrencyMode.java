@@ -0,0 +1,12 @@
+package com.musicCommunity.service;
+
+/**
+ * 좌석 예약 동시성 제어 방식
+ */
+public enum SeatConcurrencyMode {
+    REDIS_BITMAP,      // Redis 비트맵 스크립트로 선점 후 승자만 DB 접근 (기본값)
+    DISTRIBUTED_LOCK,  // Redisson 좌석별 분산 락
+    PESSIMISTIC_LOCK,  // SELECT ... FOR UPDATE
+    OPTIMISTIC_UPDATE, // UPDATE ... WHERE is_reserved = FALSE 조건부 갱신
+    EVENT_PARTITION    // 이벤트를 소유한 노드의 단일 스레드 워커가 메모리에서 할당 (Redis 미사용)
+}
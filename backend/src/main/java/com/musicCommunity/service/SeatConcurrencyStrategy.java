@@ -0,0 +1,19 @@
+package com.musicCommunity.service;
+
+import com.musicCommunity.domain.Reservation;
+import com.musicCommunity.dto.ReservationRequestDto;
+
+/**
+ * 단일 좌석 예약의 동시성 제어 전략
+ * 구현체는 같은 좌석에 대한 동시 요청 중 하나만 예약되도록 보장해야 합니다.
+ *
+ * 실패 규약 (컨트롤러의 HTTP 상태 매핑과 동일)
+ * - IllegalArgumentException : 존재하지 않는 좌석/이벤트 (404)
+ * - IllegalStateException    : 이미 예약된 좌석 (409)
+ */
+public interface SeatConcurrencyStrategy {
+
+    SeatConcurrencyMode mode();
+
+    Reservation reserve(ReservationRequestDto requestDto);
+}
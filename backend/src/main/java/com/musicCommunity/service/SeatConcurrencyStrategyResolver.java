@@ -0,0 +1,45 @@
+package com.musicCommunity.service;
+
+import com.musicCommunity.config.SeatConcurrencyProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이벤트별 설정에 맞는 좌석 동시성 전략을 찾아줍니다.
+ */
+@Component
+public class SeatConcurrencyStrategyResolver {
+
+    private final Map<SeatConcurrencyMode, SeatConcurrencyStrategy> strategies = new EnumMap<>(SeatConcurrencyMode.class);
+    private final SeatConcurrencyProperties properties;
+
+    public SeatConcurrencyStrategyResolver(List<SeatConcurrencyStrategy> strategies, SeatConcurrencyProperties properties) {
+        strategies.forEach(strategy -> this.strategies.put(strategy.mode(), strategy));
+        this.properties = properties;
+    }
+
+    public SeatConcurrencyStrategy resolve(Long eventId) {
+        return get(properties.modeFor(eventId));
+    }
+
+    /**
+     * 홀드, 다중 좌석 예매, 자동 배정은 Redis 좌석 비트맵으로 좌석을 선점합니다.
+     * 다른 방식의 이벤트는 비트맵을 보지 않으므로, 섞어 쓰면 홀드/결제 중인 좌석이 단건 예약으로 팔릴 수 있어 막습니다.
+     */
+    public void requireSeatBitmap(Long eventId) {
+        if (properties.modeFor(eventId) != SeatConcurrencyMode.REDIS_BITMAP) {
+            throw new IllegalStateException("이 공연은 좌석 홀드와 다중 좌석 예매를 지원하지 않습니다.");
+        }
+    }
+
+    public SeatConcurrencyStrategy get(SeatConcurrencyMode mode) {
+        SeatConcurrencyStrategy strategy = strategies.get(mode);
+        if (strategy == null) {
+            throw new IllegalStateException("등록되지 않은 동시성 전략입니다: " + mode);
+        }
+        return strategy;
+    }
+}
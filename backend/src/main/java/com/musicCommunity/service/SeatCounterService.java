@@ -0,0 +1,213 @@
+package com.musicCommunity.service;
+
+import com.musicCommunity.dto.EventDto;
+import com.musicCommunity.mapper.SeatMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RMap;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 이벤트별 잔여 좌석 카운터
+ * Redis 해시(event:available:{counters})에 eventId → 예약 가능 좌석 수를 두고,
+ * 좌석 상태가 커밋될 때마다 HINCRBY로 원자적으로 증감합니다.
+ * 이벤트 목록은 캐시된 메타데이터 + 이 카운터로 조립하므로, 예약이 일어나도 목록 캐시를 비우지 않습니다.
+ *
+ * 카운터가 없는 이벤트는 처음 조회될 때 DB에서 세어 채웁니다.
+ * DB를 세는 동안 커밋된 증감이 사라지지 않도록, 세기 전에 대기 해시(event:available:pending:{counters})에
+ * 이벤트를 표시해 두고 그 사이의 증감을 알림 시각과 함께 이벤트별 목록(event:available:pending:{counters}:eventId)에 모읍니다.
+ * 채울 때는 DB를 세기 시작한 시각 이후에 알림된 증감만 (센 값)에 더합니다.
+ * 세기 전에 커밋됐지만 알림이 늦게 도착한 증감은 이미 센 값에 들어 있으므로 버립니다. (노드 간 시계는 맞춰져 있다고 가정)
+ * 그래도 커밋과 알림 사이의 짧은 구간에서 어긋날 수 있으므로 주기적으로 같은 방식으로 다시 셉니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatCounterService {
+
+    private static final String KEY = "event:available:{counters}";
+    private static final String PENDING_KEY = "event:available:pending:{counters}";
+    private static final int RESEED_CHUNK_SIZE = 500;
+    private static final long PENDING_TTL_MS = 60_000L;
+
+    // 카운터가 있을 때만 증감합니다. (없으면 다음 조회 시 DB 기준으로 채워짐)
+    // 이벤트를 다시 세는 중이면(대기 해시에 항목이 있으면) 이벤트의 대기 목록에 "알림 시각:증감"을 모읍니다.
+    // KEYS[3] = 이벤트의 대기 목록 / ARGV[1] = eventId, ARGV[2] = 증감, ARGV[3] = 알림 시각(ms), ARGV[4] = 대기 목록 TTL(ms)
+    private static final String ADJUST_SCRIPT =
+            "if redis.call('HEXISTS', KEYS[2], ARGV[1]) == 1 then " +
+            "  redis.call('RPUSH', KEYS[3], ARGV[3] .. ':' .. ARGV[2]) " +
+            "  redis.call('PEXPIRE', KEYS[3], ARGV[4]) " +
+            "end " +
+            "if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 1 then " +
+            "  return redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2]) " +
+            "end " +
+            "return nil";
+
+    // DB를 세기 직전에 호출: KEYS[3..] = 이벤트별 대기 목록 / ARGV = eventId 목록 (KEYS[3..]와 같은 순서)
+    private static final String BEGIN_SCRIPT =
+            "for i = 1, #ARGV do " +
+            "  redis.call('HSET', KEYS[2], ARGV[i], 0) " +
+            "  redis.call('DEL', KEYS[i + 2]) " +
+            "end " +
+            "return #ARGV";
+
+    // KEYS[3..] = 이벤트별 대기 목록 (ARGV의 eventId와 같은 순서)
+    // ARGV[1] = 1이면 있는 카운터만 덮어씀(재계산, 그 사이 reset된 카운터는 되살리지 않음), 0이면 없을 때만 채움
+    // ARGV[2] = DB를 세기 시작한 시각(ms). 이보다 먼저 알림된 증감은 센 값에 이미 들어 있으므로 버립니다.
+    // ARGV[3..] = [eventId, 센 값, ...] / 반환: eventId 순서대로 최종 카운터 값 (없으면 nil)
+    private static final String SEED_SCRIPT =
+            "local result = {} " +
+            "local countedAt = tonumber(ARGV[2]) " +
+            "for i = 3, #ARGV, 2 do " +
+            "  local listKey = KEYS[(i - 3) / 2 + 3] " +
+            "  local pending = 0 " +
+            "  for _, entry in ipairs(redis.call('LRANGE', listKey, 0, -1)) do " +
+            "    local sep = string.find(entry, ':') " +
+            "    if tonumber(string.sub(entry, 1, sep - 1)) >= countedAt then " +
+            "      pending = pending + tonumber(string.sub(entry, sep + 1)) " +
+            "    end " +
+            "  end " +
+            "  redis.call('DEL', listKey) " +
+            "  redis.call('HDEL', KEYS[2], ARGV[i]) " +
+            "  if (ARGV[1] == '1') == (redis.call('HEXISTS', KEYS[1], ARGV[i]) == 1) then " +
+            "    redis.call('HSET', KEYS[1], ARGV[i], tonumber(ARGV[i + 1]) + pending) " +
+            "  end " +
+            "  table.insert(result, redis.call('HGET', KEYS[1], ARGV[i])) " +
+            "end " +
+            "return result";
+
+    private final RedissonClient redissonClient;
+    private final SeatMapper seatMapper;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSeatStateChanged(SeatStateChange change) {
+        if (change.seatIds().isEmpty()) {
+            return;
+        }
+        int delta = change.reserved() ? -change.seatIds().size() : change.seatIds().size();
+        redissonClient.getScript(StringCodec.INSTANCE).evalAsync(RScript.Mode.READ_WRITE, ADJUST_SCRIPT,
+                RScript.ReturnType.INTEGER, List.of(KEY, PENDING_KEY, pendingListKey(change.eventId())),
+                String.valueOf(change.eventId()), String.valueOf(delta),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(PENDING_TTL_MS));
+    }
+
+    /**
+     * 이벤트 목록에 잔여 좌석 수를 채워 반환합니다. (Redis 조회 1회, 카운터가 없는 이벤트만 DB 조회)
+     */
+    public List<EventDto> withAvailableSeats(List<EventDto> events) {
+        if (events.isEmpty()) {
+            return events;
+        }
+        Map<Long, Integer> available = availableSeats(events.stream().map(EventDto::getId).toList());
+        return events.stream()
+                .map(event -> event.toBuilder().availableSeats(available.getOrDefault(event.getId(), 0)).build())
+                .toList();
+    }
+
+    public Map<Long, Integer> availableSeats(List<Long> eventIds) {
+        RMap<String, String> counters = counters();
+        Set<String> keys = eventIds.stream().map(String::valueOf).collect(Collectors.toSet());
+
+        Map<Long, Integer> result = new HashMap<>();
+        counters.getAll(keys).forEach((eventId, count) -> result.put(Long.valueOf(eventId), Integer.valueOf(count)));
+
+        List<Long> missing = eventIds.stream().filter(eventId -> !result.containsKey(eventId)).toList();
+        if (!missing.isEmpty()) {
+            result.putAll(loadCounters(missing, false));
+        }
+        return result;
+    }
+
+    /**
+     * 이벤트의 카운터를 지웁니다. 다음 조회 때 DB 기준으로 다시 채워집니다.
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 지워, 커밋 전 데이터로 카운터가 채워지지 않게 합니다.
+     */
+    public void reset(Long eventId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    counters().fastRemove(String.valueOf(eventId));
+                }
+            });
+            return;
+        }
+        counters().fastRemove(String.valueOf(eventId));
+    }
+
+    /**
+     * 카운터가 있는 이벤트를 주기적으로 DB 기준으로 다시 셉니다. (적재/알림 사이에 생긴 오차 보정)
+     */
+    @Scheduled(fixedDelayString = "${reservation.counter.reseed-interval-ms:600000}",
+            initialDelayString = "${reservation.counter.reseed-interval-ms:600000}")
+    public void reseed() {
+        List<Long> eventIds = counters().readAllKeySet().stream().map(Long::valueOf).toList();
+        for (int from = 0; from < eventIds.size(); from += RESEED_CHUNK_SIZE) {
+            loadCounters(eventIds.subList(from, Math.min(from + RESEED_CHUNK_SIZE, eventIds.size())), true);
+        }
+    }
+
+    /**
+     * @param overwrite true면 있는 카운터를 새로 센 값으로 덮어쓰고, false면 다른 노드가 먼저 채운 값을 사용합니다.
+     */
+    private Map<Long, Integer> loadCounters(List<Long> eventIds, boolean overwrite) {
+        RScript script = redissonClient.getScript(StringCodec.INSTANCE);
+        List<Object> keys = new ArrayList<>(eventIds.size() + 2);
+        keys.add(KEY);
+        keys.add(PENDING_KEY);
+        eventIds.forEach(eventId -> keys.add(pendingListKey(eventId)));
+        script.eval(RScript.Mode.READ_WRITE, BEGIN_SCRIPT, RScript.ReturnType.INTEGER, keys,
+                eventIds.stream().map(String::valueOf).toArray());
+
+        Map<Long, Integer> counted = new LinkedHashMap<>();
+        eventIds.forEach(eventId -> counted.put(eventId, 0));
+        long countedAt = System.currentTimeMillis();
+        for (Map<String, Object> row : seatMapper.countAvailableSeatsByEventIds(eventIds)) {
+            counted.put(((Number) row.get("eventId")).longValue(), ((Number) row.get("available")).intValue());
+        }
+
+        List<Object> args = new ArrayList<>(counted.size() * 2 + 2);
+        args.add(overwrite ? "1" : "0");
+        args.add(String.valueOf(countedAt));
+        counted.forEach((eventId, count) -> {
+            args.add(String.valueOf(eventId));
+            args.add(String.valueOf(count));
+        });
+        List<Object> values = script.eval(RScript.Mode.READ_WRITE, SEED_SCRIPT, RScript.ReturnType.MULTI, keys, args.toArray());
+
+        Map<Long, Integer> loaded = new HashMap<>();
+        int i = 0;
+        for (Long eventId : counted.keySet()) {
+            Object value = values.get(i++);
+            if (value != null) {
+                loaded.put(eventId, Integer.valueOf(value.toString()));
+            }
+        }
+        log.info("잔여 좌석 카운터 {} - Events: {}", overwrite ? "재계산" : "적재", eventIds);
+        return loaded;
+    }
+
+    private static String pendingListKey(Long eventId) {
+        return PENDING_KEY + ":" + eventId;
+    }
+
+    private RMap<String, String> counters() {
+        return redissonClient.getMap(KEY, StringCodec.INSTANCE);
+    }
+}
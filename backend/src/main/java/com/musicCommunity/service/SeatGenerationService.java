@@ -0,0 +1,104 @@
+package com.musicCommunity.service;
+
+import com.musicCommunity.domain.Seat;
+import com.musicCommunity.dto.SeatGenerationProgressDto;
+import com.musicCommunity.mapper.SeatMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * 대용량 좌석 생성
+ * 좌석을 chunk-size 단위로 나눠 multi-row INSERT 하고, chunk마다 짧은 트랜잭션으로 커밋합니다.
+ * 5만 석 공연장도 INSERT 왕복은 수십 번이면 끝나고, 긴 트랜잭션을 잡고 있지 않습니다.
+ *
+ * chunk는 반드시 순서대로 넣습니다. 압축 좌석 맵과 좌석 배치 순서는 좌석 ID 순서 = 좌석 번호 순서를 전제로 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatGenerationService {
+
+    private final SeatMapper seatMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${reservation.seat-generation.chunk-size:1000}")
+    private int chunkSize;
+
+    // 진행 중인 좌석 생성 (eventId → 진행 상황)
+    private final Map<Long, Progress> inProgress = new ConcurrentHashMap<>();
+
+    private record Progress(int total, AtomicInteger generated) {}
+
+    /**
+     * 좌석을 생성합니다. 하나의 chunk라도 실패하면 예외를 던지며, 이미 커밋된 chunk는 남습니다.
+     * (호출하는 쪽에서 이벤트를 사용 불가 상태로 바꿔야 합니다)
+     * @param seatFactory 좌석 번호(1부터)로 Seat를 만드는 함수
+     */
+    public void generate(Long eventId, int totalSeats, IntFunction<Seat> seatFactory) {
+        Progress progress = new Progress(totalSeats, new AtomicInteger());
+        inProgress.put(eventId, progress);
+        long startedAt = System.currentTimeMillis();
+
+        try {
+            for (int from = 1; from <= totalSeats; from += chunkSize) {
+                insertChunk(eventId, from, Math.min(from + chunkSize - 1, totalSeats), seatFactory, progress);
+            }
+
+            log.info("좌석 생성 완료 - Event: {}, {}석, {}ms", eventId, totalSeats, System.currentTimeMillis() - startedAt);
+        } finally {
+            inProgress.remove(eventId);
+        }
+    }
+
+    /**
+     * 생성에 실패한 이벤트의 좌석을 chunk-size개씩 짧은 트랜잭션으로 나눠 삭제합니다.
+     * 예약된 좌석은 남깁니다. (ACTIVE가 아닌 이벤트는 비트맵/파티션 전략이 예약을 받지 않으므로 보통은 없음)
+     * @return 삭제한 좌석 수
+     */
+    public int deleteUnreserved(Long eventId) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int deleted = 0;
+        int chunk;
+        do {
+            chunk = transaction.execute(status -> seatMapper.deleteUnreservedSeatsByEventId(eventId, chunkSize));
+            deleted += chunk;
+        } while (chunk > 0);
+
+        log.info("생성 실패 좌석 삭제 - Event: {}, {}석", eventId, deleted);
+        return deleted;
+    }
+
+    /**
+     * 진행 중인 좌석 생성 상황을 반환합니다. 진행 중이 아니면 null.
+     */
+    public SeatGenerationProgressDto progressOf(Long eventId) {
+        Progress progress = inProgress.get(eventId);
+        if (progress == null) {
+            return null;
+        }
+        return new SeatGenerationProgressDto(eventId, progress.total(), progress.generated().get());
+    }
+
+    private void insertChunk(Long eventId, int from, int to, IntFunction<Seat> seatFactory, Progress progress) {
+        List<Seat> seats = new ArrayList<>(to - from + 1);
+        for (int number = from; number <= to; number++) {
+            seats.add(seatFactory.apply(number));
+        }
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> seatMapper.insertSeats(seats));
+
+        int generated = progress.generated().addAndGet(seats.size());
+        log.info("좌석 생성 진행 - Event: {}, {}/{}", eventId, generated, progress.total());
+    }
+}
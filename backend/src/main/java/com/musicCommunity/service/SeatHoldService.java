@@ -0,0 +1,472 @@
+package com.musicCommunity.service;
+
+import com.musicCommunity.domain.Reservation;
+import com.musicCommunity.dto.ReservationRequestDto;
+import com.musicCommunity.dto.SeatHoldDto;
+import com.musicCommunity.exception.ReservationPendingException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RBucket;
+import org.redisson.api.RMap;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.protocol.ScoredEntry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 좌석 임시 홀드 서비스
+ * 좌석 선택 ~ 결제 완료 사이에 좌석을 짧게(기본 5분) 붙잡아 두고,
+ * 결제가 확인되면 홀드를 Reservation으로 전환합니다.
+ * 결제 중에는 락을 잡지 않으며, 만료된 홀드는 스위퍼가 주기적으로 한꺼번에 해제합니다.
+ *
+ * Redis 구조
+ * - seat:bitmap:{eventId}  : SeatClaimService의 좌석 비트맵 (홀드 중인 좌석도 1)
+ * - seat:hold:{eventId}    : seatId -> "userId:만료시각(ms)"
+ * - seat:hold:expiry       : "eventId:seatId" (score = 만료 시각) 스위퍼용 인덱스
+ * - payment:hold:{paymentId} : "eventId:seatId:userId" 결제 ID로 홀드를 찾기 위한 인덱스 (결제 완료 호출, 결제 웹훅)
+ * - payment:done:{paymentId} : 결제로 전환된 예약 ID (전환 중에는 "pending"). SETNX로 먼저 기록해 같은 결제를 한 번만 전환합니다.
+ *
+ * 결제가 끝난 뒤에는 좌석을 풀지 않습니다. 예약으로 전환하지 못하면 PaymentDeadLetterService에 기록하고,
+ * DB 오류로 실패한 건은 좌석을 잡아 둔 채로 주기적으로 다시 저장합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatHoldService {
+
+    private static final String EXPIRY_INDEX_KEY = "seat:hold:expiry";
+    public static final String PAYMENT_PENDING = "pending";
+    private static final int SWEEP_BATCH_SIZE = 500;
+
+    // KEYS[1] = 홀드 해시, KEYS[2] = 비트맵, KEYS[3] = 비트맵 메타
+    // ARGV[1] = seatId, ARGV[2] = userId ('' 이면 스위퍼: 만료된 홀드만 해제), ARGV[3] = 현재 시각(ms)
+    // 반환: 해제한 홀드의 만료 시각(ms), 해제하지 않았으면 0
+    private static final String RELEASE_SCRIPT =
+            "local v = redis.call('HGET', KEYS[1], ARGV[1]) " +
+            "if not v then return 0 end " +
+            "local sep = string.find(v, ':') " +
+            "local owner = string.sub(v, 1, sep - 1) " +
+            "local expiresAt = tonumber(string.sub(v, sep + 1)) " +
+            "if ARGV[2] ~= '' and owner ~= ARGV[2] then return 0 end " +
+            "if ARGV[2] == '' and expiresAt > tonumber(ARGV[3]) then return 0 end " +
+            "redis.call('HDEL', KEYS[1], ARGV[1]) " +
+            "local base = redis.call('HGET', KEYS[3], 'base') " +
+            "if base then redis.call('SETBIT', KEYS[2], tonumber(ARGV[1]) - tonumber(base), 0) end " +
+            "return expiresAt";
+
+    // 홀드 소유자가 만료 전에 요청한 경우에만 홀드를 제거합니다. (비트는 예약 확정을 위해 유지)
+    private static final String CONFIRM_SCRIPT =
+            "local v = redis.call('HGET', KEYS[1], ARGV[1]) " +
+            "if not v then return 0 end " +
+            "local sep = string.find(v, ':') " +
+            "if string.sub(v, 1, sep - 1) ~= ARGV[2] then return 0 end " +
+            "if tonumber(string.sub(v, sep + 1)) <= tonumber(ARGV[3]) then return -1 end " +
+            "redis.call('HDEL', KEYS[1], ARGV[1]) " +
+            "return 1";
+
+    // KEYS[1] = 만료 인덱스 / ARGV = [member1, 만료 시각1, member2, 만료 시각2, ...]
+    // 해제한 홀드의 만료 시각과 점수가 같은 항목만 지웁니다.
+    // (해제 직후 다른 사용자가 같은 좌석을 다시 홀드했다면 새 만료 시각이 기록되어 있으므로 남겨둡니다)
+    private static final String REMOVE_EXPIRY_SCRIPT =
+            "local removed = 0 " +
+            "for i = 1, #ARGV, 2 do " +
+            "  local score = redis.call('ZSCORE', KEYS[1], ARGV[i]) " +
+            "  if score and tonumber(score) == tonumber(ARGV[i + 1]) then " +
+            "    removed = removed + redis.call('ZREM', KEYS[1], ARGV[i]) " +
+            "  end " +
+            "end " +
+            "return removed";
+
+    private final RedissonClient redissonClient;
+    private final SeatClaimService seatClaimService;
+    private final ReservationServiceExecutor reservationExecutor;
+    private final SeatConcurrencyStrategyResolver strategyResolver;
+    private final PaymentDeadLetterService deadLetterService;
+
+    @Value("${reservation.hold.ttl-seconds:300}")
+    private long holdTtlSeconds;
+
+    // 결제 웹훅은 홀드 만료 직후에 도착할 수도 있으므로 결제 ID 인덱스는 조금 더 오래 둡니다.
+    @Value("${reservation.hold.payment-grace-seconds:600}")
+    private long paymentGraceSeconds;
+
+    @Value("${portone.webhook.done-ttl-hours:24}")
+    private long doneTtlHours;
+
+    // 전환 중 표시는 전환하던 노드가 죽어도 이 시간이 지나면 사라집니다.
+    @Value("${portone.webhook.pending-ttl-seconds:60}")
+    private long pendingTtlSeconds;
+
+    /**
+     * 결제 ID로 찾은 홀드 정보
+     */
+    public record PaymentHold(String paymentId, Long eventId, Long seatId, Long userId) {}
+
+    /**
+     * 좌석을 임시로 홀드합니다.
+     * 같은 사용자가 이미 홀드한 좌석이면 기존 홀드를 그대로 돌려줍니다.
+     */
+    public SeatHoldDto hold(Long eventId, Long seatId, Long userId) {
+        return hold(eventId, seatId, userId, null);
+    }
+
+    /**
+     * 좌석을 임시로 홀드하고, 결제 ID가 있으면 결제 웹훅이 홀드를 찾을 수 있도록 함께 기록합니다.
+     */
+    public SeatHoldDto hold(Long eventId, Long seatId, Long userId, String paymentId) {
+        if (eventId == null || seatId == null) {
+            throw new IllegalArgumentException("이벤트 ID와 좌석 ID는 필수입니다.");
+        }
+        strategyResolver.requireSeatBitmap(eventId);
+
+        SeatClaimService.ClaimResult result = seatClaimService.claim(eventId, seatId);
+
+        if (result == SeatClaimService.ClaimResult.NOT_FOUND) {
+            throw new IllegalArgumentException("존재하지 않는 좌석입니다.");
+        }
+        if (result == SeatClaimService.ClaimResult.ALREADY_TAKEN) {
+            SeatHoldDto existing = findOwnHold(eventId, seatId, userId);
+            if (existing != null) {
+                return existing;
+            }
+            throw new IllegalStateException("이미 예약되었거나 다른 사용자가 결제 중인 좌석입니다.");
+        }
+
+        long expiresAt = System.currentTimeMillis() + holdTtlSeconds * 1000L;
+
+        // 홀드 기록과 만료 인덱스를 한 번의 왕복으로 저장
+        RBatch batch = redissonClient.createBatch();
+        batch.getMap(holdKey(eventId), StringCodec.INSTANCE)
+                .fastPutAsync(String.valueOf(seatId), userId + ":" + expiresAt);
+        batch.getScoredSortedSet(EXPIRY_INDEX_KEY, StringCodec.INSTANCE)
+                .addAsync(expiresAt, eventId + ":" + seatId);
+        if (paymentId != null && !paymentId.isBlank()) {
+            batch.getBucket(paymentHoldKey(paymentId), StringCodec.INSTANCE)
+                    .setAsync(eventId + ":" + seatId + ":" + userId, holdTtlSeconds + paymentGraceSeconds, TimeUnit.SECONDS);
+        }
+        batch.execute();
+
+        log.info("좌석 홀드 - Event: {}, Seat: {}, User: {}", eventId, seatId, userId);
+        return toDto(eventId, seatId, expiresAt);
+    }
+
+    /**
+     * 사용자가 직접 홀드를 취소합니다.
+     */
+    public boolean release(Long eventId, Long seatId, Long userId) {
+        long releasedExpiresAt = evalHoldScript(RELEASE_SCRIPT, eventId, seatId, String.valueOf(userId));
+        if (releasedExpiresAt <= 0) {
+            return false;
+        }
+
+        redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, REMOVE_EXPIRY_SCRIPT,
+                RScript.ReturnType.INTEGER, List.of(EXPIRY_INDEX_KEY),
+                eventId + ":" + seatId, String.valueOf(releasedExpiresAt));
+        log.info("좌석 홀드 취소 - Event: {}, Seat: {}, User: {}", eventId, seatId, userId);
+        return true;
+    }
+
+    /**
+     * 결제 완료 후 결제에 연결된 홀드를 예약으로 전환합니다.
+     * 결제 ID 인덱스로 홀드를 찾아 요청한 좌석·사용자와 같은지 확인하고, 전환 중 표시를 SETNX로 먼저 남깁니다.
+     * (같은 결제로 다른 좌석을 확정하거나, 결제 완료 호출과 웹훅이 같은 결제를 두 번 전환하지 못하게 함)
+     *
+     * @return 생성된 Reservation, 결제에 연결된 홀드가 없거나 이미 다른 곳에서 전환했으면 null
+     * @throws IllegalStateException 홀드 정보가 요청과 다르거나, 결제 전에 홀드가 만료된 경우 (만료는 환불 대상으로 기록)
+     */
+    public Reservation confirmPayment(String paymentId, Long eventId, Long seatId, Long userId) {
+        PaymentHold hold = findHoldsByPayment(List.of(paymentId)).get(paymentId);
+        if (hold == null) {
+            return null;
+        }
+        if (!hold.eventId().equals(eventId) || !hold.seatId().equals(seatId) || !hold.userId().equals(userId)) {
+            throw new IllegalStateException("결제한 좌석 정보가 일치하지 않습니다.");
+        }
+
+        RBucket<String> done = redissonClient.getBucket(paymentDoneKey(paymentId), StringCodec.INSTANCE);
+        if (!done.setIfAbsent(PAYMENT_PENDING, Duration.ofSeconds(pendingTtlSeconds))) {
+            return null;
+        }
+
+        Reservation reservation = null;
+        boolean retrying = false;
+        try {
+            long confirmed = evalHoldScript(CONFIRM_SCRIPT, eventId, seatId, String.valueOf(userId));
+            if (confirmed == 0L) {
+                return null;
+            }
+            if (confirmed == -1L) {
+                deadLetterService.record(hold, PaymentDeadLetterService.Reason.HOLD_EXPIRED);
+                throw new IllegalStateException("좌석 홀드 시간이 만료되어 예매하지 못했습니다. 결제 금액은 환불됩니다.");
+            }
+
+            expiryIndex().remove(eventId + ":" + seatId);
+            try {
+                reservation = reservationExecutor.proceed(new ReservationRequestDto(userId, eventId, seatId));
+                return reservation;
+            } catch (IllegalStateException | IllegalArgumentException e) {
+                deadLetterService.record(hold, PaymentDeadLetterService.Reason.SEAT_UNAVAILABLE);
+                throw new IllegalStateException("좌석을 예매할 수 없어 결제 금액은 환불됩니다.");
+            } catch (RuntimeException e) {
+                // 결제가 끝났으므로 좌석은 풀지 않고 재시도 대상으로 남깁니다. (전환 중 표시도 유지)
+                deadLetterService.record(hold, PaymentDeadLetterService.Reason.CONFIRM_FAILED);
+                retrying = true;
+                throw new ReservationPendingException("결제가 완료되어 예매를 확정하는 중입니다. 잠시 후 예매 내역을 확인해주세요.");
+            }
+        } finally {
+            if (reservation != null) {
+                done.set(String.valueOf(reservation.getId()), Duration.ofHours(doneTtlHours));
+            } else if (!retrying) {
+                done.delete();
+            }
+        }
+    }
+
+    /**
+     * 결제 ID로 홀드를 찾습니다. (결제 웹훅용)
+     * @return 결제 ID별 홀드 정보. 기록이 없는 결제 ID는 빠집니다.
+     */
+    public Map<String, PaymentHold> findHoldsByPayment(Collection<String> paymentIds) {
+        Map<String, String> values = redissonClient.getBuckets(StringCodec.INSTANCE)
+                .get(paymentIds.stream().map(SeatHoldService::paymentHoldKey).toArray(String[]::new));
+
+        Map<String, PaymentHold> holds = new HashMap<>();
+        for (String paymentId : paymentIds) {
+            String value = values.get(paymentHoldKey(paymentId));
+            if (value != null) {
+                String[] parts = value.split(":");
+                holds.put(paymentId, new PaymentHold(paymentId, Long.valueOf(parts[0]), Long.valueOf(parts[1]), Long.valueOf(parts[2])));
+            }
+        }
+        return holds;
+    }
+
+    /**
+     * 여러 홀드를 한꺼번에 예약으로 전환합니다. (결제 웹훅 배치 처리)
+     * 결제별 전환 중 표시(SETNX)와 전환 스크립트는 각각 배치 한 번의 왕복으로 실행하고, 예약 저장은 그룹 커밋 하나로 처리합니다.
+     * 그룹 커밋이 실패하면 문제 있는 건을 가려내기 위해 건별로 저장합니다.
+     * 모두 결제가 끝난 홀드이므로, 전환하지 못한 건은 좌석을 풀지 않고 PaymentDeadLetterService에 기록합니다.
+     *
+     * @return 결제 ID별 생성된 Reservation. 이미 전환 중이거나 전환하지 못한 홀드는 빠집니다.
+     */
+    public Map<String, Reservation> confirmAll(List<PaymentHold> holds) {
+        if (holds.isEmpty()) {
+            return Map.of();
+        }
+
+        // 1. 결제 완료 호출이나 다른 워커가 이미 전환 중인 결제는 건너뜀
+        RBatch marks = redissonClient.createBatch();
+        for (PaymentHold hold : holds) {
+            marks.getBucket(paymentDoneKey(hold.paymentId()), StringCodec.INSTANCE)
+                    .setIfAbsentAsync(PAYMENT_PENDING, Duration.ofSeconds(pendingTtlSeconds));
+        }
+        List<?> marked = marks.execute().getResponses();
+        List<PaymentHold> claimed = new ArrayList<>();
+        for (int i = 0; i < holds.size(); i++) {
+            if (Boolean.TRUE.equals(marked.get(i))) {
+                claimed.add(holds.get(i));
+            }
+        }
+        if (claimed.isEmpty()) {
+            return Map.of();
+        }
+
+        // 2. 홀드를 지우고, 3. 예약을 저장
+        Map<String, Reservation> reservations = new HashMap<>();
+        Set<String> retrying = new HashSet<>();
+        try {
+            List<PaymentHold> confirmed = removeHolds(claimed);
+            if (!confirmed.isEmpty()) {
+                saveConfirmed(confirmed, reservations, retrying);
+            }
+            return reservations;
+        } finally {
+            // 저장에 실패해 재시도 중인 결제는 전환 중 표시를 남겨 결제 완료 호출이 202로 응답하게 합니다.
+            RBatch results = redissonClient.createBatch();
+            for (PaymentHold hold : claimed) {
+                Reservation reservation = reservations.get(hold.paymentId());
+                if (reservation != null) {
+                    results.getBucket(paymentDoneKey(hold.paymentId()), StringCodec.INSTANCE)
+                            .setAsync(String.valueOf(reservation.getId()), Duration.ofHours(doneTtlHours));
+                } else if (!retrying.contains(hold.paymentId())) {
+                    results.getBucket(paymentDoneKey(hold.paymentId()), StringCodec.INSTANCE).deleteAsync();
+                }
+            }
+            results.execute();
+        }
+    }
+
+    private List<PaymentHold> removeHolds(List<PaymentHold> holds) {
+        String now = String.valueOf(System.currentTimeMillis());
+        RBatch batch = redissonClient.createBatch();
+        for (PaymentHold hold : holds) {
+            batch.getScript(StringCodec.INSTANCE).evalAsync(RScript.Mode.READ_WRITE, CONFIRM_SCRIPT,
+                    RScript.ReturnType.INTEGER, holdKeys(hold.eventId()),
+                    String.valueOf(hold.seatId()), String.valueOf(hold.userId()), now);
+        }
+        List<?> results = batch.execute().getResponses();
+
+        List<PaymentHold> confirmed = new ArrayList<>();
+        for (int i = 0; i < holds.size(); i++) {
+            if (Long.valueOf(1L).equals(results.get(i))) {
+                confirmed.add(holds.get(i));
+            } else if (Long.valueOf(-1L).equals(results.get(i))) {
+                deadLetterService.record(holds.get(i), PaymentDeadLetterService.Reason.HOLD_EXPIRED);
+            }
+        }
+        if (!confirmed.isEmpty()) {
+            expiryIndex().removeAll(confirmed.stream().map(hold -> hold.eventId() + ":" + hold.seatId()).toList());
+        }
+        return confirmed;
+    }
+
+    private void saveConfirmed(List<PaymentHold> confirmed, Map<String, Reservation> reservations, Set<String> retrying) {
+        try {
+            List<Reservation> saved = reservationExecutor.proceedGroup(confirmed.stream()
+                    .map(hold -> new ReservationRequestDto(hold.userId(), hold.eventId(), hold.seatId()))
+                    .toList());
+            for (int i = 0; i < confirmed.size(); i++) {
+                reservations.put(confirmed.get(i).paymentId(), saved.get(i));
+            }
+            return;
+        } catch (RuntimeException e) {
+            log.warn("홀드 일괄 전환 실패, 건별 전환으로 전환 - {}건: {}", confirmed.size(), e.getMessage());
+        }
+
+        for (PaymentHold hold : confirmed) {
+            try {
+                reservations.put(hold.paymentId(),
+                        reservationExecutor.proceed(new ReservationRequestDto(hold.userId(), hold.eventId(), hold.seatId())));
+            } catch (IllegalStateException | IllegalArgumentException e) {
+                deadLetterService.record(hold, PaymentDeadLetterService.Reason.SEAT_UNAVAILABLE);
+            } catch (RuntimeException e) {
+                deadLetterService.record(hold, PaymentDeadLetterService.Reason.CONFIRM_FAILED);
+                retrying.add(hold.paymentId());
+                log.error("홀드 전환 중 오류 - Event: {}, Seat: {}", hold.eventId(), hold.seatId(), e);
+            }
+        }
+    }
+
+    /**
+     * DB 오류로 예약 저장에 실패한 결제를 다시 저장합니다.
+     * 홀드를 지울 때 좌석 비트는 그대로 두었으므로 다른 사용자가 그 좌석을 가져갈 수 없습니다.
+     * DB상 좌석을 예약할 수 없게 된 건은 환불 대상으로 사유를 바꿔 둡니다.
+     */
+    @Scheduled(fixedDelayString = "${reservation.hold.confirm-retry-interval-ms:30000}")
+    public void retryFailedConfirms() {
+        for (PaymentDeadLetterService.DeadLetter failed : deadLetterService.findAll(PaymentDeadLetterService.Reason.CONFIRM_FAILED)) {
+            PaymentHold hold = new PaymentHold(failed.paymentId(), failed.eventId(), failed.seatId(), failed.userId());
+            try {
+                Reservation reservation = reservationExecutor.proceed(
+                        new ReservationRequestDto(hold.userId(), hold.eventId(), hold.seatId()));
+                redissonClient.getBucket(paymentDoneKey(hold.paymentId()), StringCodec.INSTANCE)
+                        .set(String.valueOf(reservation.getId()), Duration.ofHours(doneTtlHours));
+                deadLetterService.remove(hold.paymentId());
+                log.info("결제 예약 재저장 성공 - paymentId: {}, Reservation: {}", hold.paymentId(), reservation.getId());
+            } catch (IllegalStateException | IllegalArgumentException e) {
+                deadLetterService.record(hold, PaymentDeadLetterService.Reason.SEAT_UNAVAILABLE);
+            } catch (RuntimeException e) {
+                log.warn("결제 예약 재저장 실패 - paymentId: {}: {}", hold.paymentId(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 만료된 홀드를 주기적으로 한꺼번에 해제합니다.
+     * 해제 스크립트와 만료 인덱스 정리를 배치로 묶어 한 번의 왕복으로 처리합니다.
+     * 인덱스는 읽어온 점수(만료 시각)가 그대로인 항목만 지우므로, 그 사이 새로 잡힌 홀드는 남습니다.
+     */
+    @Scheduled(fixedDelayString = "${reservation.hold.sweep-interval-ms:5000}")
+    public void sweepExpiredHolds() {
+        long now = System.currentTimeMillis();
+        Collection<ScoredEntry<String>> expired = expiryIndex().entryRange(0, true, now, true, 0, SWEEP_BATCH_SIZE);
+
+        if (expired.isEmpty()) {
+            return;
+        }
+
+        RBatch batch = redissonClient.createBatch();
+        List<Object> indexEntries = new ArrayList<>(expired.size() * 2);
+        for (ScoredEntry<String> entry : expired) {
+            String[] parts = entry.getValue().split(":");
+            Long eventId = Long.valueOf(parts[0]);
+            batch.getScript(StringCodec.INSTANCE).evalAsync(RScript.Mode.READ_WRITE, RELEASE_SCRIPT,
+                    RScript.ReturnType.INTEGER, holdKeys(eventId), parts[1], "", String.valueOf(now));
+            indexEntries.add(entry.getValue());
+            indexEntries.add(String.valueOf(entry.getScore().longValue()));
+        }
+        batch.getScript(StringCodec.INSTANCE).evalAsync(RScript.Mode.READ_WRITE, REMOVE_EXPIRY_SCRIPT,
+                RScript.ReturnType.INTEGER, List.of(EXPIRY_INDEX_KEY), indexEntries.toArray());
+        batch.execute();
+
+        log.info("만료된 좌석 홀드 {}건 해제", expired.size());
+    }
+
+    private SeatHoldDto findOwnHold(Long eventId, Long seatId, Long userId) {
+        RMap<String, String> holds = redissonClient.getMap(holdKey(eventId), StringCodec.INSTANCE);
+        String value = holds.get(String.valueOf(seatId));
+        if (value == null) {
+            return null;
+        }
+
+        String[] parts = value.split(":");
+        long expiresAt = Long.parseLong(parts[1]);
+        if (!parts[0].equals(String.valueOf(userId)) || expiresAt <= System.currentTimeMillis()) {
+            return null;
+        }
+        return toDto(eventId, seatId, expiresAt);
+    }
+
+    private long evalHoldScript(String script, Long eventId, Long seatId, String userId) {
+        RScript rScript = redissonClient.getScript(StringCodec.INSTANCE);
+        Long result = rScript.eval(RScript.Mode.READ_WRITE, script, RScript.ReturnType.INTEGER,
+                holdKeys(eventId), String.valueOf(seatId), userId, String.valueOf(System.currentTimeMillis()));
+        return result == null ? 0L : result;
+    }
+
+    private List<Object> holdKeys(Long eventId) {
+        return List.of(holdKey(eventId), SeatClaimService.bitmapKey(eventId), SeatClaimService.metaKey(eventId));
+    }
+
+    private RScoredSortedSet<String> expiryIndex() {
+        return redissonClient.getScoredSortedSet(EXPIRY_INDEX_KEY, StringCodec.INSTANCE);
+    }
+
+    private static String paymentHoldKey(String paymentId) {
+        return "payment:hold:{" + paymentId + "}";
+    }
+
+    public static String paymentDoneKey(String paymentId) {
+        return "payment:done:{" + paymentId + "}";
+    }
+
+    public static String holdKey(Long eventId) {
+        return "seat:hold:{" + eventId + "}";
+    }
+
+    private static SeatHoldDto toDto(Long eventId, Long seatId, long expiresAt) {
+        return SeatHoldDto.builder()
+                .eventId(eventId)
+                .seatId(seatId)
+                .expiresAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(expiresAt), ZoneId.systemDefault()))
+                .build();
+    }
+}
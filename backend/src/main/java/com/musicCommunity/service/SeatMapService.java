@@ -0,0 +1,279 @@
+package com.musicCommunity.service;
+
+import com.musicCommunity.domain.Seat;
+import com.musicCommunity.dto.SeatMapDto;
+import com.musicCommunity.dto.VenueLayoutDto;
+import com.musicCommunity.mapper.SeatMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 압축 좌석 맵 + 버전 관리
+ * 이벤트마다 좌석 버전(seat:version:{eventId})을 Redis에 두고, 좌석 상태가 커밋될 때마다 올립니다.
+ * 버전은 ETag로 쓰이며, 노드별로 마지막에 만든 좌석 맵을 버전과 함께 보관해 같은 버전이면 DB를 다시 읽지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatMapService {
+
+    private final SeatMapper seatMapper;
+    private final RedissonClient redissonClient;
+
+    // 노드 로컬 좌석 맵 (eventId → 마지막으로 만든 맵)
+    private final Map<Long, SeatMapDto> seatMaps = new ConcurrentHashMap<>();
+
+    // 노드 로컬 좌석 위치 인덱스 (eventId → 인덱스). 좌석 구성은 생성 후 바뀌지 않으므로 예약으로 버전이 올라도 재사용합니다.
+    private final Map<Long, SeatLookup> seatLookups = new ConcurrentHashMap<>();
+
+    /**
+     * (구역, 열, 번호) → position → 좌석 ID 변환용 인덱스
+     * runPositions[i] = i번째 ID 구간의 시작 position, runIds[i] = 그 구간의 시작 좌석 ID
+     */
+    private record SeatLookup(int seatCount, VenueLayoutIndex layout, long[] runPositions, long[] runIds) {
+
+        static SeatLookup of(SeatMapDto seatMap) {
+            List<VenueLayoutDto.Row> rows = seatMap.getRows().stream()
+                    .map(row -> new VenueLayoutDto.Row(row.getSection(), row.getRowLabel(), row.getSeatCount(), null))
+                    .toList();
+            VenueLayoutIndex layout = new VenueLayoutIndex(VenueLayoutDto.builder().rows(rows).priceTiers(List.of()).build());
+
+            List<long[]> idRuns = seatMap.getIdRuns();
+            long[] runPositions = new long[idRuns.size()];
+            long[] runIds = new long[idRuns.size()];
+            long position = 0;
+            for (int i = 0; i < idRuns.size(); i++) {
+                runPositions[i] = position;
+                runIds[i] = idRuns.get(i)[0];
+                position += idRuns.get(i)[1];
+            }
+            return new SeatLookup(seatMap.getSeatCount(), layout, runPositions, runIds);
+        }
+
+        Long seatIdOf(String section, String rowLabel, int seatNumber) {
+            int position = layout.positionOf(section, rowLabel, seatNumber);
+            if (position < 0) {
+                return null;
+            }
+            int run = Arrays.binarySearch(runPositions, position);
+            if (run < 0) {
+                run = -run - 2; // position 이하인 가장 큰 구간 시작
+            }
+            return runIds[run] + (position - runPositions[run]);
+        }
+    }
+
+    /**
+     * 현재 좌석 버전. 처음 조회될 때 현재 시각으로 시작해, Redis가 비워져도 이전 ETag와 겹치지 않게 합니다.
+     */
+    public long currentVersion(Long eventId) {
+        RAtomicLong version = versionOf(eventId);
+        long current = version.get();
+        if (current == 0L) {
+            version.compareAndSet(0L, System.currentTimeMillis());
+            current = version.get();
+        }
+        return current;
+    }
+
+    public static String etagOf(Long eventId, long version) {
+        return "\"" + eventId + "-" + version + "\"";
+    }
+
+    /**
+     * 압축 좌석 맵을 반환합니다.
+     * 버전을 먼저 읽고 DB를 읽으므로, 맵 내용은 항상 태그된 버전보다 같거나 최신입니다.
+     */
+    public SeatMapDto getSeatMap(Long eventId) {
+        return getSeatMap(eventId, currentVersion(eventId));
+    }
+
+    /**
+     * 이미 읽어 둔 버전(ETag)에 해당하는 좌석 맵을 반환합니다.
+     */
+    public SeatMapDto getSeatMap(Long eventId, long version) {
+        SeatMapDto cached = seatMaps.get(eventId);
+        if (cached != null && cached.getVersion() >= version) {
+            return cached;
+        }
+
+        SeatMapDto seatMap = encode(eventId, version, seatMapper.findSeatsByEventId(eventId));
+        // 동시에 더 최신 버전의 맵이 만들어졌다면 그것을 남깁니다.
+        return seatMaps.merge(eventId, seatMap,
+                (existing, created) -> existing.getVersion() >= created.getVersion() ? existing : created);
+    }
+
+    /**
+     * (구역, 열, 번호)로 좌석 ID를 찾습니다.
+     * 좌석 맵의 열 목록으로 만든 배치 인덱스(열 조회 O(1))와 ID 구간 이진 탐색으로 계산하므로 DB를 조회하지 않습니다.
+     * @return 좌석 ID, 배치에 없는 좌석이면 null
+     */
+    public Long findSeatId(Long eventId, String section, String rowLabel, int seatNumber) {
+        SeatLookup lookup = seatLookups.get(eventId);
+        if (lookup != null) {
+            Long seatId = lookup.seatIdOf(section, rowLabel, seatNumber);
+            if (seatId != null) {
+                return seatId;
+            }
+        }
+
+        // 인덱스가 없거나, 좌석 생성 중에 만든 인덱스라 좌석 수가 달라졌으면 최신 좌석 맵으로 다시 만듭니다.
+        SeatMapDto seatMap = getSeatMap(eventId);
+        if (seatMap.getRows() == null) {
+            return null;
+        }
+        if (lookup == null || lookup.seatCount() != seatMap.getSeatCount()) {
+            lookup = SeatLookup.of(seatMap);
+            seatLookups.put(eventId, lookup);
+            return lookup.seatIdOf(section, rowLabel, seatNumber);
+        }
+        return null;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSeatStateChanged(SeatStateChange change) {
+        versionOf(change.eventId()).incrementAndGetAsync();
+    }
+
+    /**
+     * 좌석이 새로 만들어지는 등 이벤트 좌석 구성이 바뀌었을 때 버전을 올립니다.
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 올려, 커밋 전 데이터로 새 버전의 맵이 만들어지지 않게 합니다.
+     */
+    public void bumpVersion(Long eventId) {
+        seatLookups.remove(eventId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    versionOf(eventId).incrementAndGet();
+                }
+            });
+            return;
+        }
+        versionOf(eventId).incrementAndGet();
+    }
+
+    private RAtomicLong versionOf(Long eventId) {
+        return redissonClient.getAtomicLong("seat:version:{" + eventId + "}");
+    }
+
+    private static SeatMapDto encode(Long eventId, long version, List<Seat> seats) {
+        List<Seat> ordered = new ArrayList<>(seats);
+        ordered.sort(Comparator.comparing(Seat::getId));
+        int count = ordered.size();
+
+        List<long[]> idRuns = new ArrayList<>();
+        List<String> codes = new ArrayList<>(count);
+        Map<BigDecimal, Integer> tiers = new LinkedHashMap<>();
+        byte[] tierIndex = new byte[count];
+        byte[] reserved = new byte[(count + 7) / 8];
+
+        for (int position = 0; position < count; position++) {
+            Seat seat = ordered.get(position);
+
+            long[] lastRun = idRuns.isEmpty() ? null : idRuns.get(idRuns.size() - 1);
+            if (lastRun != null && lastRun[0] + lastRun[1] == seat.getId()) {
+                lastRun[1]++;
+            } else {
+                idRuns.add(new long[]{seat.getId(), 1});
+            }
+
+            codes.add(seat.getSeatCode());
+
+            // compareTo 기준으로 같은 가격을 하나의 등급으로 묶습니다. (1000 과 1000.00)
+            BigDecimal price = seat.getPrice() == null ? BigDecimal.ZERO : seat.getPrice().stripTrailingZeros();
+            tierIndex[position] = (byte) (int) tiers.computeIfAbsent(price, p -> tiers.size());
+
+            if (seat.getIsReserved()) {
+                reserved[position >> 3] |= (byte) (0x80 >>> (position & 7));
+            }
+        }
+
+        if (tiers.size() > 256) {
+            throw new IllegalStateException("가격 등급이 너무 많아 압축 좌석 맵을 만들 수 없습니다: " + tiers.size());
+        }
+
+        List<SeatMapDto.Row> rows = layoutRows(ordered);
+        String codePrefix = rows == null ? derivableCodePrefix(codes) : null;
+
+        return SeatMapDto.builder()
+                .eventId(eventId)
+                .version(version)
+                .seatCount(count)
+                .idRuns(idRuns)
+                .rows(rows)
+                .codePrefix(codePrefix)
+                .codes(rows == null && codePrefix == null ? codes : null)
+                .priceTiers(new ArrayList<>(tiers.keySet()))
+                .tierIndex(tiers.size() > 1 ? tierIndex : null)
+                .reserved(reserved)
+                .build();
+    }
+
+    /**
+     * 배치로 만든 좌석이면 position 순서의 열 목록을 반환합니다.
+     * 모든 좌석이 (구역, 열, 번호)를 갖고, 열마다 번호가 1부터 연속일 때만 열 목록으로 표현할 수 있으며, 아니면 null.
+     */
+    private static List<SeatMapDto.Row> layoutRows(List<Seat> ordered) {
+        if (ordered.isEmpty()) {
+            return null;
+        }
+
+        List<SeatMapDto.Row> rows = new ArrayList<>();
+        String section = null;
+        String rowLabel = null;
+        int count = 0;
+        for (Seat seat : ordered) {
+            if (seat.getSection() == null || seat.getRowLabel() == null || seat.getSeatNumber() == null) {
+                return null;
+            }
+            boolean sameRow = seat.getSection().equals(section) && seat.getRowLabel().equals(rowLabel);
+            if (sameRow && seat.getSeatNumber() == count + 1) {
+                count++;
+            } else if (seat.getSeatNumber() == 1) {
+                if (section != null) {
+                    rows.add(new SeatMapDto.Row(section, rowLabel, count));
+                }
+                section = seat.getSection();
+                rowLabel = seat.getRowLabel();
+                count = 1;
+            } else {
+                return null;
+            }
+        }
+        rows.add(new SeatMapDto.Row(section, rowLabel, count));
+        return rows;
+    }
+
+    /**
+     * 좌석 코드가 모두 "접두어 + (position + 1)" 이면 접두어를, 아니면 null을 반환합니다.
+     */
+    private static String derivableCodePrefix(List<String> codes) {
+        if (codes.isEmpty() || codes.get(0) == null || !codes.get(0).endsWith("1")) {
+            return null;
+        }
+        String prefix = codes.get(0).substring(0, codes.get(0).length() - 1);
+        for (int position = 0; position < codes.size(); position++) {
+            if (!(prefix + (position + 1)).equals(codes.get(position))) {
+                return null;
+            }
+        }
+        return prefix;
+    }
+}
@@ -0,0 +1,9 @@
+package com.musicCommunity.service;
+
+import java.util.List;
+
+/**
+ * 좌석 상태 변경 이벤트
+ * 예약 트랜잭션이 좌석 상태를 바꾸면 발행되며, 커밋이 끝난 뒤 좌석 변경 스트림으로 전달됩니다.
+ */
+public record SeatStateChange(Long eventId, List<Long> seatIds, boolean reserved) {}
@@ -0,0 +1,173 @@
+package com.musicCommunity.service;
+
+import com.musicCommunity.config.JwtUtil;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RMap;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.protocol.ScoredEntry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JWT 폐기(로그아웃/회원 탈퇴) 서비스
+ * JWT는 만료 전까지 스스로 유효하므로, 폐기된 토큰 ID(jti)와 사용자별 "이 시각 이전 발급 토큰 무효"(not-before)를
+ * Redis에 기록하고 각 노드의 메모리에 복제해 두어 요청마다 Redis 왕복 없이 확인합니다.
+ *
+ * - 로컬: 블룸 필터(대부분의 유효 토큰을 해시 몇 번으로 통과) + 폐기된 jti 정확한 집합(블룸 필터 오탐 확인) + 사용자별 not-before
+ * - 노드 간: 폐기 시 토픽으로 알리고, resync-ms마다 Redis에서 다시 적재합니다. (만료된 폐기 기록도 이때 정리)
+ *
+ * Redis 구조
+ * - auth:revoked        : 폐기된 jti (score = 토큰 만료 시각)
+ * - auth:not-before     : userId -> 이 시각(ms) 이전에 발급된 토큰은 모두 무효
+ * - auth:revocations    : 폐기 알림 토픽 ("jti|<jti>|<만료 시각>" 또는 "user|<userId>|<not-before>")
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService {
+
+    private static final String REVOKED_KEY = "auth:revoked";
+    private static final String NOT_BEFORE_KEY = "auth:not-before";
+    private static final String TOPIC = "auth:revocations";
+
+    private final RedissonClient redissonClient;
+
+    @Value("${auth.revocation.expected-revocations:100000}")
+    private long expectedRevocations;
+
+    @Value("${auth.revocation.bloom-fpp:0.01}")
+    private double bloomFpp;
+
+    // 폐기 기록을 얼마나 오래 둘지 (토큰 만료 시각 이후). 사용자별 not-before는 토큰 최대 수명만큼 유지
+    @Value("${jwt.expiration.time}")
+    private long tokenLifetimeMs;
+
+    private volatile BloomFilter bloom;
+    private volatile Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    private volatile Map<Long, Long> notBefore = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        reload();
+        redissonClient.getTopic(TOPIC, StringCodec.INSTANCE).addListener(String.class, (channel, message) -> apply(message));
+    }
+
+    /**
+     * 토큰이 폐기되었는지 확인합니다. 메모리만 사용합니다.
+     */
+    public boolean isRevoked(JwtUtil.TokenInfo token) {
+        Long userNotBefore = notBefore.get(parseUserId(token.subject()));
+        if (userNotBefore != null && token.issuedAtMs() < userNotBefore) {
+            return true;
+        }
+        // 블룸 필터가 없다고 하면 확실히 폐기되지 않은 토큰 (대부분의 요청)
+        return bloom.mightContain(token.tokenId()) && revokedTokens.containsKey(token.tokenId());
+    }
+
+    /**
+     * 토큰 하나를 폐기합니다. (로그아웃)
+     */
+    public void revoke(JwtUtil.TokenInfo token) {
+        revokedSet().add(token.expiresAtMs(), token.tokenId());
+        String message = "jti|" + token.tokenId() + "|" + token.expiresAtMs();
+        apply(message);
+        redissonClient.getTopic(TOPIC, StringCodec.INSTANCE).publish(message);
+        log.info("토큰 폐기 - User: {}", token.subject());
+    }
+
+    /**
+     * 사용자에게 지금까지 발급된 토큰을 모두 폐기합니다. (회원 탈퇴, 전체 로그아웃)
+     */
+    public void revokeAll(Long userId) {
+        long now = System.currentTimeMillis();
+        notBeforeMap().fastPut(String.valueOf(userId), String.valueOf(now));
+        String message = "user|" + userId + "|" + now;
+        apply(message);
+        redissonClient.getTopic(TOPIC, StringCodec.INSTANCE).publish(message);
+        log.info("사용자 토큰 전체 폐기 - User: {}", userId);
+    }
+
+    /**
+     * Redis에서 폐기 기록을 다시 적재하고, 만료된 기록을 정리합니다.
+     * 블룸 필터는 값을 지울 수 없으므로 새로 만들어 교체합니다.
+     */
+    @Scheduled(fixedDelayString = "${auth.revocation.resync-ms:60000}", initialDelayString = "${auth.revocation.resync-ms:60000}")
+    public void reload() {
+        long now = System.currentTimeMillis();
+        RScoredSortedSet<String> revoked = revokedSet();
+        revoked.removeRangeByScore(0, true, now, true);
+
+        BloomFilter nextBloom = new BloomFilter(expectedRevocations, bloomFpp);
+        Map<String, Long> nextRevoked = new ConcurrentHashMap<>();
+        for (ScoredEntry<String> entry : revoked.entryRange(now, false, Double.POSITIVE_INFINITY, true)) {
+            nextBloom.put(entry.getValue());
+            nextRevoked.put(entry.getValue(), entry.getScore().longValue());
+        }
+
+        Map<Long, Long> nextNotBefore = new ConcurrentHashMap<>();
+        RMap<String, String> notBeforeMap = notBeforeMap();
+        notBeforeMap.readAllMap().forEach((userId, at) -> {
+            long notBeforeMs = Long.parseLong(at);
+            if (notBeforeMs + tokenLifetimeMs < now) {
+                notBeforeMap.fastRemove(userId); // 이 시각 이전에 발급된 토큰은 이미 모두 만료됨
+            } else {
+                nextNotBefore.put(Long.valueOf(userId), notBeforeMs);
+            }
+        });
+
+        // 적재하는 동안 토픽으로 들어온 폐기를 잃지 않도록 기존 로컬 기록 중 아직 유효한 것을 합칩니다.
+        // 합치기와 교체 사이에 들어온 폐기가 버려지는 기존 집합에만 반영되지 않도록, 이 구간은 apply와 같은 락으로 묶습니다.
+        synchronized (this) {
+            revokedTokens.forEach((tokenId, expiresAt) -> {
+                if (expiresAt > now && nextRevoked.putIfAbsent(tokenId, expiresAt) == null) {
+                    nextBloom.put(tokenId);
+                }
+            });
+            notBefore.forEach((userId, at) -> nextNotBefore.merge(userId, at, Math::max));
+
+            // 정확한 집합을 먼저 바꾼 뒤 블룸 필터를 바꿉니다. (블룸 필터가 있다고 하면 항상 집합에서 확인)
+            revokedTokens = nextRevoked;
+            notBefore = nextNotBefore;
+            bloom = nextBloom;
+        }
+    }
+
+    // reload의 합치기/교체 구간과 겹치지 않도록 동기화합니다. (읽기 경로인 isRevoked는 락 없이 동작)
+    private synchronized void apply(String message) {
+        String[] parts = message.split("\\|");
+        if (parts.length != 3) {
+            return;
+        }
+        if ("jti".equals(parts[0])) {
+            // 정확한 집합에 먼저 넣고 블룸 필터에 표시합니다.
+            revokedTokens.put(parts[1], Long.valueOf(parts[2]));
+            bloom.put(parts[1]);
+        } else if ("user".equals(parts[0])) {
+            notBefore.merge(Long.valueOf(parts[1]), Long.valueOf(parts[2]), Math::max);
+        }
+    }
+
+    private static Long parseUserId(String subject) {
+        try {
+            return Long.valueOf(subject);
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    private RScoredSortedSet<String> revokedSet() {
+        return redissonClient.getScoredSortedSet(REVOKED_KEY, StringCodec.INSTANCE);
+    }
+
+    private RMap<String, String> notBeforeMap() {
+        return redissonClient.getMap(NOT_BEFORE_KEY, StringCodec.INSTANCE);
+    }
+}
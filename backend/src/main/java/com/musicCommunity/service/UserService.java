@@ -5,9 +5,10 @@ import com.musicCommunity.mapper.ReservationMapper;
 import com.musicCommunity.mapper.UserMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.security.crypto.password.PasswordEncoder; // 추가
 
 import java.util.List;
 import java.util.Optional;
@@ -19,10 +20,19 @@ import java.util.Optional;
 public class UserService {
 
     private final UserMapper userMapper;
-    private final PasswordEncoder passwordEncoder;
     private final ReservationMapper reservationMapper;
+    private final PasswordHashingService passwordHashingService;
+    private final LoginThrottleService loginThrottleService;
+
+    /**
+     * 회원가입. bcrypt 계산 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 없이 처리합니다.
+     * (아이디 중복은 user_login_id UNIQUE 제약이 최종적으로 막습니다.)
+     */
+    public void registerUser(RegisterDto registerDto, String clientIp) {
+        loginThrottleService.acquire(null, clientIp);
+        registerUser(registerDto);
+    }
 
-    @Transactional
     public void registerUser(RegisterDto registerDto) {
 
         log.info("registerUser 시작: {}", registerDto);
@@ -33,7 +43,7 @@ public class UserService {
             throw new RuntimeException("이미 존재하는 사용자 이름입니다.");
         }
 
-        String encodedPassword = passwordEncoder.encode(registerDto.getPassword());
+        String encodedPassword = passwordHashingService.encode(registerDto.getPassword());
 
         UserDto newUserDto = UserDto.builder()
                 .userLoginId(registerDto.getUserLoginId())
@@ -48,7 +58,28 @@ public class UserService {
         log.info("DB 저장 완료");
     }
 
-    @Transactional(readOnly = true) // 데이터 조회만 하기때문에 readonly true
+    /**
+     * 로그인. 시도 제한을 먼저 확인한 뒤, bcrypt 비교는 전용 실행기에서 처리합니다.
+     * bcrypt 계산 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 없이 처리합니다.
+     */
+    public Long login(LoginDto loginDto, String clientIp) {
+        // 계정 시도 횟수는 acquire에서 먼저 올려 두고(실패로 가정), 성공하면 초기화합니다.
+        loginThrottleService.acquire(loginDto.getUserLoginId(), clientIp);
+
+        Long userId;
+        try {
+            userId = login(loginDto);
+        } catch (RuntimeException e) {
+            // 해시 실행기 포화 등으로 비밀번호를 확인하지 못한 시도는 실패로 세지 않습니다.
+            loginThrottleService.refund(loginDto.getUserLoginId());
+            throw e;
+        }
+        if (userId != null) {
+            loginThrottleService.onSuccess(loginDto.getUserLoginId());
+        }
+        return userId;
+    }
+
     public Long login(LoginDto loginDto) {
         // 1.DB에서 아이디로 사용자 정보 조회
 
@@ -72,8 +103,14 @@ public class UserService {
         log.info("userService의 login 함수 if user==null 통과");
 
 
-        if (passwordEncoder.matches(loginDto.getPassword(), user.getPassword())) {
+        if (passwordHashingService.matches(loginDto.getPassword(), user.getPassword())) {
             log.info("userService의 login 함수 passwordEncoder 통과");
+
+            // 설정된 bcrypt 비용이 올라갔으면 평문을 알고 있는 지금 새 비용으로 다시 저장합니다.
+            if (passwordHashingService.needsRehash(user.getPassword())) {
+                userMapper.updatePassword(user.getId(), passwordHashingService.encode(loginDto.getPassword()));
+                log.info("비밀번호 해시 비용 상향: userId = {}", user.getId());
+            }
             return user.getId();
         } else {
             return null; // 비밀번호 불일치 -> 로그인 실패
@@ -83,7 +120,9 @@ public class UserService {
 
     /**
      * ID로 사용자 정보를 조회하고, 클라이언트에 전송하기 전 비밀번호 필드를 제거합니다.
+     * 비밀번호가 빠진 프로필은 "users" 캐시(L1 로컬 + L2 Redis)에 두고, 프로필 변경/탈퇴 시 비웁니다.
      */
+    @Cacheable(value = "users", key = "#userId")
     @Transactional(readOnly = true)
     public UserDto getUserDtoById(Long userId) {
         // UserMapper에서 findById(Long id)를 호출하여 UserDto를 가져옵니다.
@@ -115,26 +154,33 @@ public class UserService {
         return reservationMapper.findByUserId(userId);
     }
 
+    @CacheEvict(value = "users", key = "#userId")
     @Transactional
     public void withdrawUser(Long userId) {
         userMapper.deleteById(userId);
     }
 
-    @Transactional
+    /**
+     * 프로필/비밀번호 변경. bcrypt 확인과 새 해시 계산 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 없이 처리하고,
+     * 마지막 UPDATE 한 번은 확인한 기존 해시가 그대로일 때만 반영합니다.
+     */
+    @CacheEvict(value = "users", key = "#updateDto.id")
     public void updateUser(UserUpdateDto updateDto) {
         UserDto user = userMapper.findById(updateDto.getId()).orElseThrow( () -> new IllegalArgumentException("사용자를 찾을수 없습니다."));
 
-        if (!passwordEncoder.matches(updateDto.getCurrentPassword(), user.getPassword())) {
+        if (!passwordHashingService.matches(updateDto.getCurrentPassword(), user.getPassword())) {
             throw new IllegalArgumentException("현재 비밀번호가 일치하지 않습니다.");
         }
 
         UserDto.UserDtoBuilder builder = user.toBuilder().nickname(updateDto.getNickname());
 
         if (updateDto.getNewPassword() != null && !updateDto.getNewPassword().isEmpty()) {
-            builder.password(passwordEncoder.encode(updateDto.getNewPassword()));
+            builder.password(passwordHashingService.encode(updateDto.getNewPassword()));
         }
 
-        userMapper.update(builder.build());
+        if (userMapper.update(builder.build(), user.getPassword()) == 0) {
+            throw new IllegalStateException("다른 요청이 먼저 정보를 변경했습니다. 다시 시도해주세요.");
+        }
 
     }
 }
@@ -0,0 +1,86 @@
+package com.musicCommunity.service;
+
+import com.musicCommunity.dto.VenueLayoutDto;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좌석 배치 인덱스
+ * 배치의 열마다 시작 position(누적 좌석 수)을 배열로 들고 있어,
+ * position ↔ (구역, 열, 번호) 변환을 문자열 정렬이나 DB 조회 없이 O(log 열 수)로 처리합니다.
+ *
+ * position: 배치 순서대로 0부터 매긴 좌석 순번 (좌석 생성 순서 = 좌석 ID 순서)
+ */
+public class VenueLayoutIndex {
+
+    public record SeatPosition(String section, String rowLabel, int seatNumber, BigDecimal price) {
+        public String seatCode() {
+            return seatCodeOf(section, rowLabel, seatNumber);
+        }
+    }
+
+    private final List<VenueLayoutDto.Row> rows;
+    private final int[] rowStart;
+    private final int totalSeats;
+    private final Map<String, Integer> rowIndexByKey = new HashMap<>();
+    private final Map<String, BigDecimal> tierPrices = new HashMap<>();
+
+    public VenueLayoutIndex(VenueLayoutDto layout) {
+        this.rows = layout.getRows();
+        this.rowStart = new int[rows.size()];
+
+        int position = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            rowStart[i] = position;
+            position += rows.get(i).getSeatCount();
+            rowIndexByKey.put(rowKey(rows.get(i).getSection(), rows.get(i).getRowLabel()), i);
+        }
+        this.totalSeats = position;
+
+        layout.getPriceTiers().forEach(tier -> tierPrices.put(tier.getName(), tier.getPrice()));
+    }
+
+    public int totalSeats() {
+        return totalSeats;
+    }
+
+    /**
+     * position(0부터)에 해당하는 좌석 위치를 반환합니다.
+     */
+    public SeatPosition positionAt(int position) {
+        if (position < 0 || position >= totalSeats) {
+            throw new IllegalArgumentException("배치 범위를 벗어난 좌석입니다: " + position);
+        }
+        int index = Arrays.binarySearch(rowStart, position);
+        if (index < 0) {
+            index = -index - 2; // position 이하인 가장 큰 시작 위치
+        }
+
+        VenueLayoutDto.Row row = rows.get(index);
+        return new SeatPosition(row.getSection(), row.getRowLabel(), position - rowStart[index] + 1,
+                tierPrices.get(row.getTierName()));
+    }
+
+    /**
+     * (구역, 열, 번호)에 해당하는 position을 반환합니다. 배치에 없는 좌석이면 -1.
+     */
+    public int positionOf(String section, String rowLabel, int seatNumber) {
+        Integer index = rowIndexByKey.get(rowKey(section, rowLabel));
+        if (index == null || seatNumber < 1 || seatNumber > rows.get(index).getSeatCount()) {
+            return -1;
+        }
+        return rowStart[index] + seatNumber - 1;
+    }
+
+    public static String seatCodeOf(String section, String rowLabel, int seatNumber) {
+        return section + "-" + rowLabel + "-" + seatNumber;
+    }
+
+    private static String rowKey(String section, String rowLabel) {
+        return section + "\u0000" + rowLabel;
+    }
+}
@@ -0,0 +1,91 @@
+package com.musicCommunity.service;
+
+import com.musicCommunity.dto.VenueLayoutDto;
+import com.musicCommunity.mapper.VenueLayoutMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 공연장 좌석 배치 관리
+ * 배치는 공연장마다 한 번 저장하고, 이벤트 생성 시 불러와 좌석을 만듭니다. (배치는 수정하지 않으므로 캐시)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VenueLayoutService {
+
+    private final VenueLayoutMapper venueLayoutMapper;
+
+    @Transactional
+    public VenueLayoutDto createLayout(VenueLayoutDto layout) {
+        validate(layout);
+
+        venueLayoutMapper.insertLayout(layout);
+        venueLayoutMapper.insertTiers(layout.getId(), layout.getPriceTiers());
+        venueLayoutMapper.insertRows(layout.getId(), layout.getRows());
+
+        log.info("좌석 배치 등록 - Layout: {}, 열 {}개, {}석", layout.getId(), layout.getRows().size(),
+                layout.getRows().stream().mapToInt(VenueLayoutDto.Row::getSeatCount).sum());
+        return layout;
+    }
+
+    /**
+     * 배치를 조회합니다.
+     * @throws IllegalArgumentException 배치가 없을 때
+     */
+    @Cacheable(value = "layouts", key = "#layoutId")
+    public VenueLayoutDto getLayout(Long layoutId) {
+        VenueLayoutDto layout = venueLayoutMapper.selectLayoutById(layoutId);
+        if (layout == null) {
+            throw new IllegalArgumentException("좌석 배치를 찾을 수 없습니다: " + layoutId);
+        }
+        return layout.toBuilder()
+                .priceTiers(venueLayoutMapper.selectTiersByLayoutId(layoutId))
+                .rows(venueLayoutMapper.selectRowsByLayoutId(layoutId))
+                .build();
+    }
+
+    private void validate(VenueLayoutDto layout) {
+        if (!StringUtils.hasText(layout.getName()) || !StringUtils.hasText(layout.getVenue())) {
+            throw new IllegalArgumentException("배치 이름과 공연장은 필수입니다.");
+        }
+        if (layout.getPriceTiers() == null || layout.getPriceTiers().isEmpty()
+                || layout.getRows() == null || layout.getRows().isEmpty()) {
+            throw new IllegalArgumentException("가격 등급과 열 정보는 필수입니다.");
+        }
+
+        Set<String> tierNames = new HashSet<>();
+        for (VenueLayoutDto.PriceTier tier : layout.getPriceTiers()) {
+            if (!StringUtils.hasText(tier.getName()) || tier.getPrice() == null || tier.getPrice().compareTo(BigDecimal.ZERO) < 0) {
+                throw new IllegalArgumentException("가격 등급 정보가 올바르지 않습니다.");
+            }
+            if (!tierNames.add(tier.getName())) {
+                throw new IllegalArgumentException("중복된 가격 등급입니다: " + tier.getName());
+            }
+        }
+
+        Set<String> rowKeys = new HashSet<>();
+        for (VenueLayoutDto.Row row : layout.getRows()) {
+            if (!StringUtils.hasText(row.getSection()) || !StringUtils.hasText(row.getRowLabel()) || row.getSeatCount() <= 0) {
+                throw new IllegalArgumentException("열 정보가 올바르지 않습니다.");
+            }
+            if (!tierNames.contains(row.getTierName())) {
+                throw new IllegalArgumentException("존재하지 않는 가격 등급입니다: " + row.getTierName());
+            }
+            if (!rowKeys.add(row.getSection() + "-" + row.getRowLabel())) {
+                throw new IllegalArgumentException("중복된 열입니다: " + row.getSection() + "-" + row.getRowLabel());
+            }
+            if (VenueLayoutIndex.seatCodeOf(row.getSection(), row.getRowLabel(), row.getSeatCount()).length() > 30) {
+                throw new IllegalArgumentException("구역/열 이름이 너무 깁니다: " + row.getSection() + "-" + row.getRowLabel());
+            }
+        }
+    }
+}
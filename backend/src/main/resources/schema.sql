@@ -7,6 +7,9 @@ DROP TABLE IF EXISTS event_reviews;
 DROP TABLE IF EXISTS reservation;
 DROP TABLE IF EXISTS seat;
 DROP TABLE IF EXISTS event;
+DROP TABLE IF EXISTS venue_layout_row;
+DROP TABLE IF EXISTS venue_layout_tier;
+DROP TABLE IF EXISTS venue_layout;
 DROP TABLE IF EXISTS users;
 
 -- 사용자(User) 테이블 생성 (인증을 위해 존재해야 함)
@@ -16,7 +19,39 @@ CREATE TABLE users (
     user_login_id VARCHAR(50) NOT NULL UNIQUE,
     password VARCHAR(255) NOT NULL,
     nickname VARCHAR(50) NOT NULL,
-    role VARCHAR(20) NOT NULL DEFAULT 'user' -- 관리자 권한 필드 추가
+    role VARCHAR(20) NOT NULL DEFAULT 'user', -- 관리자 권한 필드 추가
+    profile_version INT NOT NULL DEFAULT 0 -- 프로필(닉네임 등) 변경 시 증가. 토큰 클레임이 최신인지 확인하는 데 사용
+);
+
+-- 0. VENUE_LAYOUT 테이블 생성 (공연장 좌석 배치)
+-- 공연장마다 한 번 저장하고, 이벤트 생성 시 이 배치대로 좌석을 만듭니다.
+CREATE TABLE venue_layout (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(255) NOT NULL, -- 배치 이름 (예: 올림픽홀 기본 배치)
+    venue VARCHAR(255) NOT NULL, -- 공연장
+    PRIMARY KEY (id)
+);
+
+-- 가격 등급 (예: VIP 150000, R 120000)
+CREATE TABLE venue_layout_tier (
+    layout_id BIGINT NOT NULL,
+    name VARCHAR(50) NOT NULL,
+    price DECIMAL(10, 2) NOT NULL,
+    PRIMARY KEY (layout_id, name),
+    FOREIGN KEY (layout_id) REFERENCES venue_layout(id)
+);
+
+-- 구역 → 열 → 좌석 수 (sort_order 순서가 좌석 생성/좌석 맵 순서)
+CREATE TABLE venue_layout_row (
+    layout_id BIGINT NOT NULL,
+    sort_order INT NOT NULL,
+    section VARCHAR(50) NOT NULL, -- 구역 (예: VIP, R, FLOOR-1)
+    row_label VARCHAR(10) NOT NULL, -- 열 (예: A, B, 12)
+    seat_count INT NOT NULL, -- 열의 좌석 수 (좌석 번호는 1부터)
+    tier_name VARCHAR(50) NOT NULL, -- 가격 등급
+    PRIMARY KEY (layout_id, sort_order),
+    UNIQUE KEY uk_layout_row (layout_id, section, row_label),
+    FOREIGN KEY (layout_id) REFERENCES venue_layout(id)
 );
 
 -- 1. EVENT 테이블 생성 (공연 정보)
@@ -34,7 +69,9 @@ CREATE TABLE event (
     total_seats INT NOT NULL,
     status VARCHAR(50) NOT NULL DEFAULT 'ACTIVE',
     description TEXT,
-    PRIMARY KEY (id)
+    layout_id BIGINT, -- 좌석 배치 (NULL이면 단순 번호 좌석)
+    PRIMARY KEY (id),
+    FOREIGN KEY (layout_id) REFERENCES venue_layout(id)
 );
 
 -- 2. SEAT 테이블 생성 (좌석 정보)
@@ -42,12 +79,16 @@ CREATE TABLE event (
 CREATE TABLE seat (
     id BIGINT NOT NULL AUTO_INCREMENT,
     event_id BIGINT NOT NULL, -- EVENT 테이블의 ID를 참조 (외래 키)
-    seat_code VARCHAR(10) NOT NULL, -- 좌석 코드
---    section VARCHAR(50), -- 좌석 구역 정보 (예: R석, 스탠딩)
+    seat_code VARCHAR(30) NOT NULL, -- 좌석 코드 (예: VIP-A-12)
+    section VARCHAR(50), -- 좌석 구역 정보 (예: R석, 스탠딩)
+    row_label VARCHAR(10), -- 열
+    seat_number INT, -- 열 안에서의 좌석 번호 (1부터)
     price DECIMAL(10, 2) NOT NULL, -- 좌석 가격
     is_reserved BOOLEAN NOT NULL DEFAULT FALSE, -- 예약 상태 (TRUE: 예약됨, FALSE: 예약 가능)
     reservation_id BIGINT, -- 예약된 경우, RESERVATION ID를 참조 (NULL 허용)
     PRIMARY KEY (id),
+    -- (구역, 열, 번호)로 좌석을 바로 찾기 위한 인덱스 (배치 없는 좌석은 NULL이라 중복 허용)
+    UNIQUE KEY uk_seat_position (event_id, section, row_label, seat_number),
     -- 외래 키 정의: event_id가 event 테이블의 id를 참조합니다.
     FOREIGN KEY (event_id) REFERENCES event(id)
 );
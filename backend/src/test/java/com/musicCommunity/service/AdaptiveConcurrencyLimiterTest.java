@@ -0,0 +1,98 @@
+package com.musicCommunity.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long BASE_RTT = 10_000_000L; // 10ms
+
+    @Test
+    void initialLimitIsClampedToBounds() {
+        assertEquals(5, new AdaptiveConcurrencyLimiter(1, 5, 50, 0.2, 2.0, 100).getLimit());
+        assertEquals(50, new AdaptiveConcurrencyLimiter(100, 5, 50, 0.2, 2.0, 100).getLimit());
+    }
+
+    @Test
+    void rejectsBeyondLimitWithoutWaiting() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 0.2, 2.0, 100);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(2, limiter.getInFlight());
+
+        limiter.onIgnore();
+        assertEquals(1, limiter.getInFlight());
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    void growsWhileLatencyStaysFlat() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100, 0.2, 2.0, 100);
+
+        for (int i = 0; i < 50; i++) {
+            runSaturated(limiter, BASE_RTT);
+        }
+
+        assertTrue(limiter.getLimit() > 10, "limit " + limiter.getLimit());
+    }
+
+    @Test
+    void shrinksWhenLatencyRises() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(40, 1, 100, 0.2, 2.0, 100);
+        for (int i = 0; i < 20; i++) {
+            runSaturated(limiter, BASE_RTT);
+        }
+        int before = limiter.getLimit();
+
+        // 평소 응답 시간은 지수 이동 평균으로 천천히 따라오므로, 지연이 튄 직후 한 번에 한도가 줄어야 합니다.
+        runSaturated(limiter, BASE_RTT * 10);
+
+        assertTrue(limiter.getLimit() < before, before + " -> " + limiter.getLimit());
+    }
+
+    @Test
+    void doesNotGrowWhileMostlyIdle() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 1, 100, 0.2, 2.0, 100);
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.onSuccess(BASE_RTT);
+        }
+
+        assertEquals(20, limiter.getLimit());
+    }
+
+    @Test
+    void droppedRequestsShrinkLimitDownToMinimum() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 3, 100, 0.2, 2.0, 100);
+
+        assertTrue(limiter.tryAcquire());
+        limiter.onDropped();
+        assertEquals(9, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+
+        for (int i = 0; i < 50; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.onDropped();
+        }
+        assertEquals(3, limiter.getLimit());
+    }
+
+    /**
+     * 한도만큼 동시에 들어온 요청이 모두 rttNanos 만에 끝난 것으로 반영합니다.
+     */
+    private static void runSaturated(AdaptiveConcurrencyLimiter limiter, long rttNanos) {
+        int acquired = 0;
+        while (limiter.tryAcquire()) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limiter.onSuccess(rttNanos);
+        }
+    }
+}
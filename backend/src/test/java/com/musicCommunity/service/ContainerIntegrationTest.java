@@ -0,0 +1,126 @@
+package com.musicCommunity.service;
+
+import com.musicCommunity.domain.Event;
+import com.musicCommunity.domain.Seat;
+import com.musicCommunity.mapper.EventMapper;
+import com.musicCommunity.mapper.ReservationMapper;
+import com.musicCommunity.mapper.SeatMapper;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Redis/MySQL 컨테이너를 띄워 Lua 스크립트와 매퍼 XML을 실제 서버에 대고 확인하는 통합 테스트의 공통 준비
+ * 컨테이너는 처음 필요할 때 한 번만 띄우고 테스트 클래스끼리 같이 씁니다.
+ * 테스트마다 Redis를 비우고 schema.sql로 테이블을 다시 만듭니다.
+ *
+ * Docker가 없으면 하위 클래스의 @Testcontainers(disabledWithoutDocker = true)로 건너뜁니다.
+ */
+abstract class ContainerIntegrationTest {
+
+    private static GenericContainer<?> redis;
+    private static MySQLContainer<?> mysql;
+
+    protected static RedissonClient redissonClient;
+    protected static JdbcTemplate jdbcTemplate;
+    protected static SeatMapper seatMapper;
+    protected static EventMapper eventMapper;
+    protected static ReservationMapper reservationMapper;
+
+    private static DriverManagerDataSource dataSource;
+
+    @BeforeAll
+    static void startContainers() throws Exception {
+        if (redis != null) {
+            return;
+        }
+
+        redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+        mysql = new MySQLContainer<>(DockerImageName.parse("mysql:8.0"));
+        redis.start();
+        mysql.start();
+
+        org.redisson.config.Config config = new org.redisson.config.Config();
+        config.useSingleServer().setAddress("redis://" + redis.getHost() + ":" + redis.getMappedPort(6379));
+        redissonClient = Redisson.create(config);
+
+        dataSource = new DriverManagerDataSource(mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        Configuration configuration = new Configuration();
+        configuration.setMapUnderscoreToCamelCase(true);
+        SqlSessionFactoryBean factory = new SqlSessionFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setConfiguration(configuration);
+        factory.setMapperLocations(new PathMatchingResourcePatternResolver().getResources("classpath:mapper/*.xml"));
+        SqlSessionTemplate sqlSession = new SqlSessionTemplate(factory.getObject());
+
+        seatMapper = sqlSession.getMapper(SeatMapper.class);
+        eventMapper = sqlSession.getMapper(EventMapper.class);
+        reservationMapper = sqlSession.getMapper(ReservationMapper.class);
+    }
+
+    @BeforeEach
+    void resetState() {
+        redissonClient.getKeys().flushall();
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+    }
+
+    protected static Long createUser(String loginId) {
+        jdbcTemplate.update("INSERT INTO users (user_login_id, password, nickname) VALUES (?, 'x', ?)", loginId, loginId);
+        return jdbcTemplate.queryForObject("SELECT id FROM users WHERE user_login_id = ?", Long.class, loginId);
+    }
+
+    /**
+     * 이벤트와 좌석을 만들고 좌석 ID를 번호 순서대로 돌려줍니다.
+     */
+    protected static List<Long> createEvent(String status, int seatCount, BigDecimal price) {
+        Event event = Event.builder()
+                .title("테스트 공연")
+                .venue("테스트 홀")
+                .startDate(LocalDate.now().plusDays(30))
+                .endDate(LocalDate.now().plusDays(30))
+                .totalSeats(seatCount)
+                .status(status)
+                .build();
+        eventMapper.insertEvent(event);
+
+        List<Long> seatIds = new ArrayList<>();
+        for (int number = 1; number <= seatCount; number++) {
+            Seat seat = Seat.builder()
+                    .eventId(event.getId())
+                    .seatCode("A-" + number)
+                    .price(price)
+                    .isReserved(false)
+                    .build();
+            seatMapper.insertSeat(seat);
+            seatIds.add(seat.getId());
+        }
+        return seatIds;
+    }
+
+    protected static Long eventIdOf(Long seatId) {
+        return seatMapper.selectSeatById(seatId).getEventId();
+    }
+
+    protected static ReservationServiceExecutor newReservationExecutor() {
+        return new ReservationServiceExecutor(reservationMapper, seatMapper, event -> { });
+    }
+}
@@ -0,0 +1,89 @@
+package com.musicCommunity.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FreeRunTreeTest {
+
+    @Test
+    void maxRunOfEmptyRowIsZero() {
+        FreeRunTree tree = new FreeRunTree(new boolean[0]);
+
+        assertEquals(0, tree.maxRun());
+        assertEquals(-1, tree.findCentered(1));
+    }
+
+    @Test
+    void maxRunTracksUpdates() {
+        FreeRunTree tree = new FreeRunTree(row("1111111111"));
+        assertEquals(10, tree.maxRun());
+
+        tree.set(4, false);
+        assertEquals(5, tree.maxRun());
+
+        tree.set(7, false);
+        assertEquals(4, tree.maxRun());
+
+        tree.set(4, true);
+        assertEquals(7, tree.maxRun());
+    }
+
+    @Test
+    void findCenteredPrefersMiddleOfRow() {
+        // 10석 중 2석: 가운데 (4, 5)
+        assertEquals(4, new FreeRunTree(row("1111111111")).findCentered(2));
+        // 9석 중 3석: 가운데 (3, 4, 5)
+        assertEquals(3, new FreeRunTree(row("111111111")).findCentered(3));
+    }
+
+    @Test
+    void findCenteredPicksClosestRunThatFits() {
+        // 가운데는 막혀 있고, 왼쪽 구간(0~2)보다 오른쪽 구간(6~9)이 가운데에 더 가깝게 놓일 수 있음
+        assertEquals(6, new FreeRunTree(row("1110001111")).findCentered(3));
+        // 가운데 구간은 2석뿐이라 3석이 들어가지 않음
+        assertEquals(0, new FreeRunTree(row("1110110000")).findCentered(3));
+    }
+
+    @Test
+    void findCenteredReturnsMinusOneWhenNoRunFits() {
+        FreeRunTree tree = new FreeRunTree(row("1101101101"));
+
+        assertEquals(-1, tree.findCentered(3));
+        assertEquals(-1, tree.findCentered(0));
+    }
+
+    @Test
+    void maxRunMatchesLinearScanUnderRandomUpdates() {
+        Random random = new Random(42);
+        boolean[] free = new boolean[37];
+        FreeRunTree tree = new FreeRunTree(free);
+
+        for (int i = 0; i < 2000; i++) {
+            int index = random.nextInt(free.length);
+            free[index] = random.nextBoolean();
+            tree.set(index, free[index]);
+            assertEquals(longestRun(free), tree.maxRun(), "update " + i);
+        }
+    }
+
+    private static boolean[] row(String pattern) {
+        boolean[] free = new boolean[pattern.length()];
+        for (int i = 0; i < free.length; i++) {
+            free[i] = pattern.charAt(i) == '1';
+        }
+        return free;
+    }
+
+    private static int longestRun(boolean[] free) {
+        int longest = 0;
+        int current = 0;
+        for (boolean isFree : free) {
+            current = isFree ? current + 1 : 0;
+            longest = Math.max(longest, current);
+        }
+        return longest;
+    }
+}
@@ -0,0 +1,31 @@
+package com.musicCommunity.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IdempotencyReplayPolicyTest {
+
+    @Test
+    void storesSettledResponses() {
+        assertTrue(IdempotencyService.isReplayable(200));
+        assertTrue(IdempotencyService.isReplayable(201));
+        assertTrue(IdempotencyService.isReplayable(404));
+        assertTrue(IdempotencyService.isReplayable(409));
+    }
+
+    @Test
+    void doesNotStoreAcceptedBecauseTheOutcomeIsStillPending() {
+        assertFalse(IdempotencyService.isReplayable(202));
+    }
+
+    @Test
+    void doesNotStoreRetryableResponses() {
+        assertFalse(IdempotencyService.isReplayable(400));
+        assertFalse(IdempotencyService.isReplayable(429));
+        assertFalse(IdempotencyService.isReplayable(500));
+        assertFalse(IdempotencyService.isReplayable(503));
+        assertFalse(IdempotencyService.isReplayable(302));
+    }
+}
@@ -0,0 +1,131 @@
+package com.musicCommunity.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 멱등 키의 응답 저장/재사용, 처리 중 대기와 만료 연장을 실제 Redis에 대고 확인합니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class IdempotencyServiceIntegrationTest extends ContainerIntegrationTest {
+
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyService(redissonClient, new ObjectMapper());
+        ReflectionTestUtils.setField(idempotencyService, "enabled", true);
+        ReflectionTestUtils.setField(idempotencyService, "ttlMinutes", 10L);
+        ReflectionTestUtils.setField(idempotencyService, "inFlightTtlMs", 300L);
+        ReflectionTestUtils.setField(idempotencyService, "waitMs", 3_000L);
+        ReflectionTestUtils.setField(idempotencyService, "pollMs", 20L);
+        ReflectionTestUtils.setField(idempotencyService, "maxKeyLength", 100);
+        idempotencyService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        idempotencyService.shutdown();
+    }
+
+    @Test
+    void replaysStoredResponseWithoutRunningActionAgain() {
+        AtomicInteger calls = new AtomicInteger();
+
+        ResponseEntity<?> first = idempotencyService.execute("reservation", 1L, "key-1", Map.of("seatId", 1),
+                () -> ResponseEntity.ok("예약 " + calls.incrementAndGet()));
+        ResponseEntity<?> second = idempotencyService.execute("reservation", 1L, "key-1", Map.of("seatId", 1),
+                () -> ResponseEntity.ok("예약 " + calls.incrementAndGet()));
+
+        assertEquals(1, calls.get());
+        assertEquals(HttpStatus.OK, second.getStatusCode());
+        assertEquals(first.getBody(), second.getBody());
+        assertEquals("true", second.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER));
+    }
+
+    @Test
+    void rejectsSameKeyWithDifferentRequest() {
+        idempotencyService.execute("reservation", 1L, "key-1", Map.of("seatId", 1), () -> ResponseEntity.ok("예약"));
+
+        ResponseEntity<?> response = idempotencyService.execute("reservation", 1L, "key-1", Map.of("seatId", 2),
+                () -> ResponseEntity.ok("예약"));
+
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, response.getStatusCode());
+    }
+
+    @Test
+    void doesNotStoreAcceptedResponse() {
+        AtomicInteger calls = new AtomicInteger();
+
+        idempotencyService.execute("reservation", 1L, "key-1", Map.of("seatId", 1), () -> {
+            calls.incrementAndGet();
+            return ResponseEntity.accepted().body("처리 중");
+        });
+        ResponseEntity<?> retried = idempotencyService.execute("reservation", 1L, "key-1", Map.of("seatId", 1), () -> {
+            calls.incrementAndGet();
+            return ResponseEntity.ok("예약");
+        });
+
+        assertEquals(2, calls.get());
+        assertNull(retried.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER));
+    }
+
+    @Test
+    void concurrentDuplicateWaitsForResultAndReplaysIt() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<ResponseEntity<?>> pending = new CompletableFuture<>();
+        AtomicInteger calls = new AtomicInteger();
+
+        CompletableFuture<ResponseEntity<?>> first = idempotencyService.executeAsync("payment", 1L, "key-1", "pay-1", () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            return pending;
+        });
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+
+        CompletableFuture<ResponseEntity<?>> duplicate = CompletableFuture.supplyAsync(() ->
+                idempotencyService.execute("payment", 1L, "key-1", "pay-1", () -> {
+                    calls.incrementAndGet();
+                    return ResponseEntity.ok("중복 실행");
+                }));
+        Thread.sleep(100);
+        pending.complete(ResponseEntity.ok("결제 완료"));
+
+        assertEquals("결제 완료", first.get(1, TimeUnit.SECONDS).getBody());
+        ResponseEntity<?> replayed = duplicate.get(3, TimeUnit.SECONDS);
+        assertEquals("결제 완료", replayed.getBody());
+        assertEquals("true", replayed.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void renewsInFlightKeyWhileActionIsRunning() throws Exception {
+        CompletableFuture<ResponseEntity<?>> pending = new CompletableFuture<>();
+        idempotencyService.executeAsync("payment", 1L, "key-1", "pay-1", () -> pending);
+
+        // in-flight-ttl-ms(300ms)의 몇 배가 지나도 처리 중 표시가 남아 있어야 합니다.
+        Thread.sleep(1_000);
+        assertTrue(redissonClient.getBucket("idem:payment:1:key-1").isExists());
+
+        pending.complete(ResponseEntity.ok("결제 완료"));
+        ResponseEntity<?> replayed = idempotencyService.execute("payment", 1L, "key-1", "pay-1",
+                () -> ResponseEntity.ok("중복 실행"));
+        assertEquals("결제 완료", replayed.getBody());
+    }
+}
@@ -0,0 +1,154 @@
+package com.musicCommunity.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musicCommunity.config.SeatConcurrencyProperties;
+import com.musicCommunity.dto.PaymentResponseDto;
+import com.musicCommunity.exception.PaymentGatewayUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 결제 웹훅 큐의 중복 제거, 묶음 반영, 재시도와 처리 중 항목 회수를 실제 Redis와 MySQL에 대고 확인합니다.
+ * PortOne 조회만 목으로 대신합니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class PaymentWebhookQueueIntegrationTest extends ContainerIntegrationTest {
+
+    private static final String QUEUE_KEY = "payment:webhook:{queue}";
+    private static final String QUEUED_KEY = "payment:webhook:queued:{queue}";
+    private static final String PROCESSING_KEY = "payment:webhook:processing:{queue}";
+    private static final BigDecimal PRICE = new BigDecimal("10000");
+
+    private PortOneClient portOneClient;
+    private PaymentDeadLetterService deadLetterService;
+    private SeatHoldService holdService;
+    private PaymentWebhookService webhookService;
+
+    @BeforeEach
+    void setUp() {
+        deadLetterService = new PaymentDeadLetterService(redissonClient);
+        SeatClaimService claimService = new SeatClaimService(redissonClient, seatMapper, eventMapper, deadLetterService);
+        ReflectionTestUtils.setField(claimService, "bitmapTtlMinutes", 60L);
+
+        SeatConcurrencyStrategyResolver resolver = new SeatConcurrencyStrategyResolver(List.of(), new SeatConcurrencyProperties());
+        holdService = new SeatHoldService(redissonClient, claimService, newReservationExecutor(), resolver, deadLetterService);
+        ReflectionTestUtils.setField(holdService, "holdTtlSeconds", 300L);
+        ReflectionTestUtils.setField(holdService, "paymentGraceSeconds", 600L);
+        ReflectionTestUtils.setField(holdService, "doneTtlHours", 1L);
+        ReflectionTestUtils.setField(holdService, "pendingTtlSeconds", 60L);
+
+        portOneClient = mock(PortOneClient.class);
+        webhookService = new PaymentWebhookService(redissonClient, new ObjectMapper(), portOneClient,
+                holdService, seatMapper, deadLetterService);
+        ReflectionTestUtils.setField(webhookService, "webhookSecret", "");
+        ReflectionTestUtils.setField(webhookService, "toleranceSeconds", 300L);
+        ReflectionTestUtils.setField(webhookService, "batchSize", 100);
+        ReflectionTestUtils.setField(webhookService, "processingTimeoutMs", 60_000L);
+    }
+
+    @Test
+    void queuesDuplicateWebhooksOnce() {
+        assertTrue(webhookService.accept(null, null, null, paidBody("pay-1")));
+        assertTrue(webhookService.accept(null, null, null, paidBody("pay-1")));
+        assertFalse(webhookService.accept(null, null, null, "{\"type\":\"Transaction.Ready\",\"data\":{\"paymentId\":\"pay-1\"}}"));
+
+        assertEquals(1, redissonClient.getList(QUEUE_KEY, StringCodec.INSTANCE).size());
+    }
+
+    @Test
+    void drainConfirmsPaidHoldAndClearsQueue() {
+        Long userId = createUser("buyer");
+        List<Long> seats = createEvent("ACTIVE", 1, PRICE);
+        Long eventId = eventIdOf(seats.get(0));
+        holdService.hold(eventId, seats.get(0), userId, "pay-1");
+        when(portOneClient.getPayment("pay-1")).thenReturn(CompletableFuture.completedFuture(paid(PRICE)));
+        webhookService.accept(null, null, null, paidBody("pay-1"));
+
+        webhookService.drain();
+
+        assertTrue(seatMapper.selectSeatById(seats.get(0)).getIsReserved());
+        assertNotNull(webhookService.findConfirmedReservationId("pay-1"));
+        assertQueueEmpty();
+    }
+
+    @Test
+    void requeuesPaymentWhenGatewayIsUnavailable() {
+        when(portOneClient.getPayment("pay-1"))
+                .thenReturn(CompletableFuture.failedFuture(new PaymentGatewayUnavailableException("PortOne 호출 불가")));
+        webhookService.accept(null, null, null, paidBody("pay-1"));
+
+        webhookService.drain();
+
+        assertEquals(List.of("pay-1"), redissonClient.getList(QUEUE_KEY, StringCodec.INSTANCE).readAll());
+        assertTrue(redissonClient.getSet(QUEUED_KEY, StringCodec.INSTANCE).contains("pay-1"));
+        assertTrue(redissonClient.getScoredSortedSet(PROCESSING_KEY, StringCodec.INSTANCE).isEmpty());
+    }
+
+    @Test
+    void deadLettersAmountMismatch() {
+        Long userId = createUser("buyer");
+        List<Long> seats = createEvent("ACTIVE", 1, PRICE);
+        Long eventId = eventIdOf(seats.get(0));
+        holdService.hold(eventId, seats.get(0), userId, "pay-1");
+        when(portOneClient.getPayment("pay-1")).thenReturn(CompletableFuture.completedFuture(paid(new BigDecimal("100"))));
+        webhookService.accept(null, null, null, paidBody("pay-1"));
+
+        webhookService.drain();
+
+        assertFalse(seatMapper.selectSeatById(seats.get(0)).getIsReserved());
+        assertEquals(1, deadLetterService.findAll(PaymentDeadLetterService.Reason.AMOUNT_MISMATCH).size());
+        assertQueueEmpty();
+    }
+
+    @Test
+    void reclaimsStaleProcessingEntry() {
+        Long userId = createUser("buyer");
+        List<Long> seats = createEvent("ACTIVE", 1, PRICE);
+        Long eventId = eventIdOf(seats.get(0));
+        holdService.hold(eventId, seats.get(0), userId, "pay-1");
+        when(portOneClient.getPayment("pay-1")).thenReturn(CompletableFuture.completedFuture(paid(PRICE)));
+
+        // 꺼낸 뒤 처리하지 못하고 죽은 워커가 남긴 항목
+        redissonClient.getSet(QUEUED_KEY, StringCodec.INSTANCE).add("pay-1");
+        redissonClient.getScoredSortedSet(PROCESSING_KEY, StringCodec.INSTANCE)
+                .add(System.currentTimeMillis() - 120_000L, "pay-1");
+
+        webhookService.drain();
+
+        assertTrue(seatMapper.selectSeatById(seats.get(0)).getIsReserved());
+        assertQueueEmpty();
+    }
+
+    private void assertQueueEmpty() {
+        assertTrue(redissonClient.getList(QUEUE_KEY, StringCodec.INSTANCE).isEmpty());
+        assertTrue(redissonClient.getSet(QUEUED_KEY, StringCodec.INSTANCE).isEmpty());
+        assertTrue(redissonClient.getScoredSortedSet(PROCESSING_KEY, StringCodec.INSTANCE).isEmpty());
+    }
+
+    private static String paidBody(String paymentId) {
+        return "{\"type\":\"Transaction.Paid\",\"data\":{\"paymentId\":\"" + paymentId + "\"}}";
+    }
+
+    private static PaymentResponseDto paid(BigDecimal amount) {
+        PaymentResponseDto.Amount total = new PaymentResponseDto.Amount();
+        total.setTotal(amount.intValue());
+        PaymentResponseDto payment = new PaymentResponseDto();
+        payment.setStatus("PAID");
+        payment.setAmount(total);
+        return payment;
+    }
+}
@@ -0,0 +1,110 @@
+package com.musicCommunity.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 결제 웹훅 서명(Standard Webhooks) 검증
+ * 결제 완료가 아닌 이벤트는 서명 검증 후 큐에 넣지 않고 끝나므로, Redis 없이 검증 단계만 확인합니다.
+ */
+class PaymentWebhookSignatureTest {
+
+    private static final byte[] KEY = "test-webhook-secret-key-32-bytes".getBytes(StandardCharsets.UTF_8);
+    private static final String SECRET = "whsec_" + Base64.getEncoder().encodeToString(KEY);
+    private static final String WEBHOOK_ID = "msg_1";
+    private static final String BODY = "{\"type\":\"Transaction.Ready\",\"data\":{\"paymentId\":\"p-1\"}}";
+
+    private PaymentWebhookService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new PaymentWebhookService(null, new ObjectMapper(), null, null, null, null);
+        ReflectionTestUtils.setField(service, "webhookSecret", SECRET);
+        ReflectionTestUtils.setField(service, "toleranceSeconds", 300L);
+    }
+
+    @Test
+    void acceptsValidSignature() {
+        String timestamp = now();
+
+        assertFalse(service.accept(WEBHOOK_ID, timestamp, "v1," + sign(KEY, timestamp, BODY), BODY));
+    }
+
+    @Test
+    void acceptsAnyMatchingSignatureDuringKeyRotation() {
+        String timestamp = now();
+        byte[] oldKey = "previous-webhook-secret-key-0000".getBytes(StandardCharsets.UTF_8);
+        String header = "v1," + sign(oldKey, timestamp, BODY) + " v1," + sign(KEY, timestamp, BODY);
+
+        assertDoesNotThrow(() -> service.accept(WEBHOOK_ID, timestamp, header, BODY));
+    }
+
+    @Test
+    void rejectsTamperedBody() {
+        String timestamp = now();
+        String signature = "v1," + sign(KEY, timestamp, BODY);
+
+        assertThrows(SecurityException.class,
+                () -> service.accept(WEBHOOK_ID, timestamp, signature, BODY.replace("p-1", "p-2")));
+    }
+
+    @Test
+    void rejectsSignatureFromOtherKey() {
+        String timestamp = now();
+        byte[] otherKey = "another-webhook-secret-key-00000".getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(SecurityException.class,
+                () -> service.accept(WEBHOOK_ID, timestamp, "v1," + sign(otherKey, timestamp, BODY), BODY));
+    }
+
+    @Test
+    void rejectsTimestampOutsideTolerance() {
+        String timestamp = String.valueOf(System.currentTimeMillis() / 1000 - 301);
+
+        assertThrows(SecurityException.class,
+                () -> service.accept(WEBHOOK_ID, timestamp, "v1," + sign(KEY, timestamp, BODY), BODY));
+    }
+
+    @Test
+    void rejectsMissingOrMalformedHeaders() {
+        String timestamp = now();
+        String signature = "v1," + sign(KEY, timestamp, BODY);
+
+        assertThrows(SecurityException.class, () -> service.accept(null, timestamp, signature, BODY));
+        assertThrows(SecurityException.class, () -> service.accept(WEBHOOK_ID, "not-a-number", signature, BODY));
+        assertThrows(SecurityException.class, () -> service.accept(WEBHOOK_ID, timestamp, "v1,%%%", BODY));
+    }
+
+    @Test
+    void skipsVerificationWithoutSecret() {
+        ReflectionTestUtils.setField(service, "webhookSecret", "");
+
+        assertFalse(service.accept(null, null, null, BODY));
+    }
+
+    private static String now() {
+        return String.valueOf(System.currentTimeMillis() / 1000);
+    }
+
+    private static String sign(byte[] key, String timestamp, String body) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+            byte[] digest = mac.doFinal((WEBHOOK_ID + "." + timestamp + "." + body).getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.musicCommunity.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 좌석 비트맵 선점/해제/적재/대조 스크립트를 실제 Redis와 MySQL에 대고 확인합니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class SeatClaimServiceIntegrationTest extends ContainerIntegrationTest {
+
+    private static final BigDecimal PRICE = new BigDecimal("10000");
+
+    private SeatClaimService claimService;
+    private PaymentDeadLetterService deadLetterService;
+
+    @BeforeEach
+    void setUp() {
+        deadLetterService = new PaymentDeadLetterService(redissonClient);
+        claimService = new SeatClaimService(redissonClient, seatMapper, eventMapper, deadLetterService);
+        ReflectionTestUtils.setField(claimService, "bitmapTtlMinutes", 60L);
+        ReflectionTestUtils.setField(claimService, "reconcileGraceMs", 60_000L);
+    }
+
+    @Test
+    void claimsSeatOnlyOnce() {
+        List<Long> seats = createEvent("ACTIVE", 3, PRICE);
+        Long eventId = eventIdOf(seats.get(0));
+
+        assertEquals(SeatClaimService.ClaimResult.CLAIMED, claimService.claim(eventId, seats.get(0)));
+        assertEquals(SeatClaimService.ClaimResult.ALREADY_TAKEN, claimService.claim(eventId, seats.get(0)));
+    }
+
+    @Test
+    void claimAllTakesNothingWhenAnySeatIsTaken() {
+        List<Long> seats = createEvent("ACTIVE", 3, PRICE);
+        Long eventId = eventIdOf(seats.get(0));
+        claimService.claim(eventId, seats.get(1));
+
+        assertEquals(SeatClaimService.ClaimResult.ALREADY_TAKEN, claimService.claimAll(eventId, seats));
+
+        // 실패한 일괄 선점은 나머지 좌석을 잡지 않습니다.
+        assertEquals(SeatClaimService.ClaimResult.CLAIMED, claimService.claim(eventId, seats.get(0)));
+        assertEquals(SeatClaimService.ClaimResult.CLAIMED, claimService.claim(eventId, seats.get(2)));
+    }
+
+    @Test
+    void releaseReopensSeat() {
+        List<Long> seats = createEvent("ACTIVE", 2, PRICE);
+        Long eventId = eventIdOf(seats.get(0));
+        claimService.claimAll(eventId, seats);
+
+        claimService.releaseAll(eventId, seats);
+
+        assertEquals(SeatClaimService.ClaimResult.CLAIMED, claimService.claimAll(eventId, seats));
+    }
+
+    @Test
+    void loadsReservedSeatsAsTaken() {
+        List<Long> seats = createEvent("ACTIVE", 2, PRICE);
+        Long eventId = eventIdOf(seats.get(0));
+        jdbcTemplate.update("UPDATE seat SET is_reserved = TRUE WHERE id = ?", seats.get(0));
+
+        assertEquals(SeatClaimService.ClaimResult.ALREADY_TAKEN, claimService.claim(eventId, seats.get(0)));
+        assertEquals(SeatClaimService.ClaimResult.CLAIMED, claimService.claim(eventId, seats.get(1)));
+    }
+
+    @Test
+    void seatOutsideEventIsNotFound() {
+        List<Long> seats = createEvent("ACTIVE", 2, PRICE);
+        Long eventId = eventIdOf(seats.get(0));
+
+        assertEquals(SeatClaimService.ClaimResult.NOT_FOUND, claimService.claim(eventId, seats.get(1) + 100));
+    }
+
+    @Test
+    void doesNotLoadEventThatIsNotActive() {
+        List<Long> seats = createEvent("PREPARING", 2, PRICE);
+        Long eventId = eventIdOf(seats.get(0));
+
+        assertEquals(SeatClaimService.ClaimResult.NOT_FOUND, claimService.claim(eventId, seats.get(0)));
+    }
+
+    @Test
+    void reconcileClearsLeakedClaimAfterGracePeriod() {
+        List<Long> seats = createEvent("ACTIVE", 2, PRICE);
+        Long eventId = eventIdOf(seats.get(0));
+        // DB에 저장하지 못하고 남은 선점 (홀드도 없음)
+        claimService.claim(eventId, seats.get(0));
+
+        claimService.reconcile();
+        assertEquals(SeatClaimService.ClaimResult.ALREADY_TAKEN, claimService.claim(eventId, seats.get(0)),
+                "처음 본 어긋남은 유예 시간 동안 그대로 둡니다");
+
+        ReflectionTestUtils.setField(claimService, "reconcileGraceMs", 0L);
+        claimService.reconcile();
+        assertEquals(SeatClaimService.ClaimResult.CLAIMED, claimService.claim(eventId, seats.get(0)));
+    }
+
+    @Test
+    void reconcileKeepsReservedHeldAndRetryingSeats() {
+        List<Long> seats = createEvent("ACTIVE", 3, PRICE);
+        Long eventId = eventIdOf(seats.get(0));
+        ReflectionTestUtils.setField(claimService, "reconcileGraceMs", 0L);
+
+        // 0: DB에 예약됨, 1: 홀드 중, 2: 결제 후 저장 재시도 대기
+        claimService.claimAll(eventId, seats);
+        jdbcTemplate.update("UPDATE seat SET is_reserved = TRUE WHERE id = ?", seats.get(0));
+        redissonClient.getMap(SeatHoldService.holdKey(eventId), StringCodec.INSTANCE)
+                .fastPut(String.valueOf(seats.get(1)), "1:" + (System.currentTimeMillis() + 60_000L));
+        deadLetterService.record(new SeatHoldService.PaymentHold("pay-1", eventId, seats.get(2), 1L),
+                PaymentDeadLetterService.Reason.CONFIRM_FAILED);
+
+        claimService.reconcile();
+
+        for (Long seatId : seats) {
+            assertEquals(SeatClaimService.ClaimResult.ALREADY_TAKEN, claimService.claim(eventId, seatId));
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.musicCommunity.service;
+
+import com.musicCommunity.config.SeatConcurrencyProperties;
+import com.musicCommunity.domain.Reservation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 좌석 홀드/해제/결제 전환(단건, 일괄) 스크립트와 결제별 전환 표시를 실제 Redis와 MySQL에 대고 확인합니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class SeatHoldServiceIntegrationTest extends ContainerIntegrationTest {
+
+    private static final BigDecimal PRICE = new BigDecimal("10000");
+
+    private SeatClaimService claimService;
+    private SeatHoldService holdService;
+    private PaymentDeadLetterService deadLetterService;
+
+    @BeforeEach
+    void setUp() {
+        deadLetterService = new PaymentDeadLetterService(redissonClient);
+        claimService = new SeatClaimService(redissonClient, seatMapper, eventMapper, deadLetterService);
+        ReflectionTestUtils.setField(claimService, "bitmapTtlMinutes", 60L);
+
+        SeatConcurrencyStrategyResolver resolver = new SeatConcurrencyStrategyResolver(List.of(), new SeatConcurrencyProperties());
+        holdService = new SeatHoldService(redissonClient, claimService, newReservationExecutor(), resolver, deadLetterService);
+        ReflectionTestUtils.setField(holdService, "holdTtlSeconds", 300L);
+        ReflectionTestUtils.setField(holdService, "paymentGraceSeconds", 600L);
+        ReflectionTestUtils.setField(holdService, "doneTtlHours", 1L);
+        ReflectionTestUtils.setField(holdService, "pendingTtlSeconds", 60L);
+    }
+
+    @Test
+    void holdBlocksOtherUsersButReturnsOwnHold() {
+        List<Long> seats = createEvent("ACTIVE", 1, PRICE);
+        Long eventId = eventIdOf(seats.get(0));
+
+        assertNotNull(holdService.hold(eventId, seats.get(0), 1L));
+        assertNotNull(holdService.hold(eventId, seats.get(0), 1L), "같은 사용자의 재요청은 기존 홀드를 돌려줌");
+        assertThrows(IllegalStateException.class, () -> holdService.hold(eventId, seats.get(0), 2L));
+    }
+
+    @Test
+    void onlyOwnerCanReleaseHold() {
+        List<Long> seats = createEvent("ACTIVE", 1, PRICE);
+        Long eventId = eventIdOf(seats.get(0));
+        holdService.hold(eventId, seats.get(0), 1L);
+
+        assertFalse(holdService.release(eventId, seats.get(0), 2L));
+        assertTrue(holdService.release(eventId, seats.get(0), 1L));
+        assertNotNull(holdService.hold(eventId, seats.get(0), 2L));
+    }
+
+    @Test
+    void sweeperReleasesExpiredHolds() throws InterruptedException {
+        List<Long> seats = createEvent("ACTIVE", 1, PRICE);
+        Long eventId = eventIdOf(seats.get(0));
+        ReflectionTestUtils.setField(holdService, "holdTtlSeconds", 0L);
+        holdService.hold(eventId, seats.get(0), 1L);
+        Thread.sleep(5);
+
+        holdService.sweepExpiredHolds();
+
+        assertEquals(SeatClaimService.ClaimResult.CLAIMED, claimService.claim(eventId, seats.get(0)));
+        assertTrue(redissonClient.getScoredSortedSet("seat:hold:expiry", StringCodec.INSTANCE).isEmpty());
+    }
+
+    @Test
+    void confirmPaymentConvertsHoldOnce() {
+        Long userId = createUser("buyer");
+        List<Long> seats = createEvent("ACTIVE", 1, PRICE);
+        Long eventId = eventIdOf(seats.get(0));
+        holdService.hold(eventId, seats.get(0), userId, "pay-1");
+
+        Reservation reservation = holdService.confirmPayment("pay-1", eventId, seats.get(0), userId);
+
+        assertNotNull(reservation);
+        assertTrue(seatMapper.selectSeatById(seats.get(0)).getIsReserved());
+        assertEquals(String.valueOf(reservation.getId()),
+                redissonClient.getBucket(SeatHoldService.paymentDoneKey("pay-1"), StringCodec.INSTANCE).get());
+        assertNull(holdService.confirmPayment("pay-1", eventId, seats.get(0), userId), "같은 결제는 한 번만 전환");
+        assertEquals(SeatClaimService.ClaimResult.ALREADY_TAKEN, claimService.claim(eventId, seats.get(0)));
+    }
+
+    @Test
+    void confirmPaymentRejectsSeatNotBoundToPayment() {
+        Long userId = createUser("buyer");
+        List<Long> seats = createEvent("ACTIVE", 2, PRICE);
+        Long eventId = eventIdOf(seats.get(0));
+        holdService.hold(eventId, seats.get(0), userId, "pay-1");
+        holdService.hold(eventId, seats.get(1), userId);
+
+        assertThrows(IllegalStateException.class,
+                () -> holdService.confirmPayment("pay-1", eventId, seats.get(1), userId));
+        assertFalse(seatMapper.selectSeatById(seats.get(1)).getIsReserved());
+    }
+
+    @Test
+    void expiredHoldIsDeadLetteredWithoutReleasingOthers() throws InterruptedException {
+        Long userId = createUser("buyer");
+        List<Long> seats = createEvent("ACTIVE", 1, PRICE);
+        Long eventId = eventIdOf(seats.get(0));
+        ReflectionTestUtils.setField(holdService, "holdTtlSeconds", 0L);
+        holdService.hold(eventId, seats.get(0), userId, "pay-1");
+        Thread.sleep(5);
+
+        assertThrows(IllegalStateException.class,
+                () -> holdService.confirmPayment("pay-1", eventId, seats.get(0), userId));
+
+        List<PaymentDeadLetterService.DeadLetter> expired = deadLetterService.findAll(PaymentDeadLetterService.Reason.HOLD_EXPIRED);
+        assertEquals(1, expired.size());
+        assertEquals("pay-1", expired.get(0).paymentId());
+        assertNull(redissonClient.getBucket(SeatHoldService.paymentDoneKey("pay-1"), StringCodec.INSTANCE).get());
+    }
+
+    @Test
+    void confirmAllConvertsEachPaymentOnce() {
+        Long userId = createUser("buyer");
+        List<Long> seats = createEvent("ACTIVE", 2, PRICE);
+        Long eventId = eventIdOf(seats.get(0));
+        holdService.hold(eventId, seats.get(0), userId, "pay-1");
+        holdService.hold(eventId, seats.get(1), userId, "pay-2");
+        List<SeatHoldService.PaymentHold> holds = List.copyOf(holdService.findHoldsByPayment(List.of("pay-1", "pay-2")).values());
+
+        Map<String, Reservation> reservations = holdService.confirmAll(holds);
+
+        assertEquals(2, reservations.size());
+        assertTrue(seatMapper.selectSeatById(seats.get(0)).getIsReserved());
+        assertTrue(seatMapper.selectSeatById(seats.get(1)).getIsReserved());
+        assertTrue(holdService.confirmAll(holds).isEmpty(), "이미 전환한 결제는 건너뜀");
+    }
+
+    @Test
+    void confirmAllKeepsSeatWhenSeatWasSoldElsewhere() {
+        Long userId = createUser("buyer");
+        List<Long> seats = createEvent("ACTIVE", 1, PRICE);
+        Long eventId = eventIdOf(seats.get(0));
+        holdService.hold(eventId, seats.get(0), userId, "pay-1");
+        jdbcTemplate.update("UPDATE seat SET is_reserved = TRUE WHERE id = ?", seats.get(0));
+
+        Map<String, Reservation> reservations = holdService.confirmAll(
+                List.copyOf(holdService.findHoldsByPayment(List.of("pay-1")).values()));
+
+        assertTrue(reservations.isEmpty());
+        assertEquals(1, deadLetterService.findAll(PaymentDeadLetterService.Reason.SEAT_UNAVAILABLE).size());
+        assertEquals(SeatClaimService.ClaimResult.ALREADY_TAKEN, claimService.claim(eventId, seats.get(0)),
+                "결제가 끝난 홀드는 전환에 실패해도 좌석을 풀지 않음");
+    }
+}
@@ -0,0 +1,80 @@
+package com.musicCommunity.service;
+
+import com.musicCommunity.dto.VenueLayoutDto;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class VenueLayoutIndexTest {
+
+    // VIP-A 3석, VIP-B 2석, FLOOR-A 4석 (position 0~8)
+    private final VenueLayoutIndex index = new VenueLayoutIndex(VenueLayoutDto.builder()
+            .priceTiers(List.of(
+                    new VenueLayoutDto.PriceTier("VIP", new BigDecimal("150000")),
+                    new VenueLayoutDto.PriceTier("R", new BigDecimal("90000"))))
+            .rows(List.of(
+                    new VenueLayoutDto.Row("VIP", "A", 3, "VIP"),
+                    new VenueLayoutDto.Row("VIP", "B", 2, "VIP"),
+                    new VenueLayoutDto.Row("FLOOR", "A", 4, "R")))
+            .build());
+
+    @Test
+    void totalSeatsIsSumOfRows() {
+        assertEquals(9, index.totalSeats());
+    }
+
+    @Test
+    void positionAtResolvesRowBoundaries() {
+        assertEquals(new VenueLayoutIndex.SeatPosition("VIP", "A", 1, new BigDecimal("150000")), index.positionAt(0));
+        assertEquals(new VenueLayoutIndex.SeatPosition("VIP", "A", 3, new BigDecimal("150000")), index.positionAt(2));
+        assertEquals(new VenueLayoutIndex.SeatPosition("VIP", "B", 1, new BigDecimal("150000")), index.positionAt(3));
+        assertEquals(new VenueLayoutIndex.SeatPosition("FLOOR", "A", 4, new BigDecimal("90000")), index.positionAt(8));
+    }
+
+    @Test
+    void positionAtRejectsOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> index.positionAt(-1));
+        assertThrows(IllegalArgumentException.class, () -> index.positionAt(9));
+    }
+
+    @Test
+    void positionOfIsInverseOfPositionAt() {
+        for (int position = 0; position < index.totalSeats(); position++) {
+            VenueLayoutIndex.SeatPosition seat = index.positionAt(position);
+            assertEquals(position, index.positionOf(seat.section(), seat.rowLabel(), seat.seatNumber()));
+        }
+    }
+
+    @Test
+    void positionOfReturnsMinusOneForUnknownSeat() {
+        assertEquals(-1, index.positionOf("VIP", "C", 1));
+        assertEquals(-1, index.positionOf("VIP", "A", 0));
+        assertEquals(-1, index.positionOf("VIP", "A", 4));
+    }
+
+    @Test
+    void sameRowLabelInDifferentSectionsIsDistinct() {
+        assertEquals(0, index.positionOf("VIP", "A", 1));
+        assertEquals(5, index.positionOf("FLOOR", "A", 1));
+    }
+
+    @Test
+    void seatCodeJoinsSectionRowAndNumber() {
+        assertEquals("FLOOR-A-2", index.positionAt(6).seatCode());
+    }
+
+    @Test
+    void rowWithoutTierHasNoPrice() {
+        VenueLayoutIndex untiered = new VenueLayoutIndex(VenueLayoutDto.builder()
+                .priceTiers(List.of())
+                .rows(List.of(new VenueLayoutDto.Row("GA", "1", 2, null)))
+                .build());
+
+        assertNull(untiered.positionAt(1).price());
+    }
+}
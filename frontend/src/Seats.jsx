@@ -6,7 +6,6 @@ import * as PortOne from "@portone/browser-sdk/v2";
 const BASE_API_URL = 'http://localhost:8080/api';
 const PORTONE_CHANNEL_KEY = 'channel-key-b9a02b61-ac5f-4ac9-83b3-37a35ed9149b';
 const STORE_ID = 'store-74d59c31-6c1a-46ca-ae7c-6b5ffadeff12';
-const TICKET_PRICE = 1000;
 
 const api = axios.create({
     baseURL: BASE_API_URL,
@@ -14,6 +13,45 @@ const api = axios.create({
     headers: { 'Content-Type': 'application/json' },
 });
 
+// 압축 좌석 맵(SeatMapDto)을 화면용 좌석 목록으로 풉니다.
+// position: idRuns를 이어 붙인 순서, reserved: position별 비트셋(Base64, 최상위 비트가 position 0)
+// rows가 있으면(배치로 만든 좌석) 좌석 코드를 "구역-열-번호"로 만들고, 이미 배치 순서이므로 다시 정렬하지 않습니다.
+// price: priceTiers[tierIndex[position]] (tierIndex가 없으면 가격이 하나뿐이므로 priceTiers[0])
+const decodeSeatMap = (seatMap) => {
+    const reserved = Uint8Array.from(atob(seatMap.reserved || ''), c => c.charCodeAt(0));
+    const tierIndex = seatMap.tierIndex ? Uint8Array.from(atob(seatMap.tierIndex), c => c.charCodeAt(0)) : null;
+    const priceTiers = (seatMap.priceTiers || []).map(Number);
+    const layoutCodes = seatMap.rows
+        ? seatMap.rows.flatMap(row => Array.from({ length: row.seatCount }, (_, i) => `${row.section}-${row.rowLabel}-${i + 1}`))
+        : null;
+    const seats = [];
+    let position = 0;
+    (seatMap.idRuns || []).forEach(([startId, length]) => {
+        for (let k = 0; k < length; k++, position++) {
+            seats.push({
+                id: startId + k,
+                number: layoutCodes ? layoutCodes[position]
+                    : seatMap.codes ? seatMap.codes[position] : `${seatMap.codePrefix}${position + 1}`,
+                isReserved: (reserved[position >> 3] & (0x80 >>> (position & 7))) !== 0,
+                price: priceTiers[tierIndex ? tierIndex[position] : 0] ?? null,
+                eventId: seatMap.eventId,
+            });
+        }
+    });
+    if (!layoutCodes) {
+        seats.sort((a, b) => a.number.localeCompare(b.number));
+    }
+    return seats;
+};
+
+const formatPriceRange = (seats) => {
+    const prices = seats.map(seat => seat.price).filter(price => price != null);
+    if (prices.length === 0) return '';
+    const min = Math.min(...prices);
+    const max = Math.max(...prices);
+    return min === max ? `${min.toLocaleString()}원` : `${min.toLocaleString()}~${max.toLocaleString()}원`;
+};
+
 const Modal = ({ isOpen, title, message, onClose, isError = false }) => {
     if (!isOpen) return null;
     return (
@@ -95,25 +133,20 @@ function Seats() {
     }, []);
 
     // -----------------------
-    // fetchSeats: 좌석 불러오기 (폴링 포함)
+    // fetchSeats: 좌석 불러오기 (이후 변경은 SSE 스트림으로 반영)
     // -----------------------
     const SEATS_PATH = `/events/${eventId}/seats`;
+    const SEATMAP_PATH = `/events/${eventId}/seatmap`;
     const RESERVE_PATH = `/reservations`;
+    const HOLD_PATH = `/holds`;
     const PAYMENT_PATH = `/payment/complete`;
 
     const fetchSeats = useCallback(async () => {
         if (!eventId || eventId === 'undefined') return;
         try {
-            const response = await api.get(SEATS_PATH);
-            const data = response.data || [];
-            const formattedSeats = data.map(seat => ({
-                id: seat.id,
-                number: seat.seatCode,
-                isReserved: seat.isReserved,
-                eventId: seat.eventId,
-            }));
-            formattedSeats.sort((a, b) => a.number.localeCompare(b.number));
-            setSeats(formattedSeats);
+            // 좌석 맵이 바뀌지 않았으면 브라우저가 ETag 재검증(304)으로 캐시된 응답을 돌려줍니다.
+            const response = await api.get(SEATMAP_PATH);
+            setSeats(decodeSeatMap(response.data || {}));
         } catch (error) {
             console.error("좌석 데이터 로드 오류:", error);
             const status = error.response ? error.response.status : null;
@@ -123,14 +156,27 @@ function Seats() {
         } finally {
             setIsLoading(false);
         }
-    }, [SEATS_PATH, eventId]);
+    }, [SEATMAP_PATH, eventId]);
 
     useEffect(() => {
         fetchSeats();
-        const intervalId = setInterval(fetchSeats, 10000);
-        return () => clearInterval(intervalId);
     }, [fetchSeats]);
 
+    // 좌석 변경 스트림: 접속 시 snapshot, 이후에는 바뀐 좌석(delta)만 받아 반영합니다.
+    // 연결이 끊기면 EventSource가 자동으로 재접속하고 새 snapshot을 받습니다.
+    useEffect(() => {
+        const source = new EventSource(`${BASE_API_URL}${SEATS_PATH}/stream`, { withCredentials: true });
+        source.addEventListener('snapshot', (e) => {
+            setSeats(decodeSeatMap(JSON.parse(e.data)));
+            setIsLoading(false);
+        });
+        source.addEventListener('delta', (e) => {
+            const changes = new Map(JSON.parse(e.data).map(change => [change.seatId, change.reserved]));
+            setSeats(prev => prev.map(seat => changes.has(seat.id) ? { ...seat, isReserved: changes.get(seat.id) } : seat));
+        });
+        return () => source.close();
+    }, [SEATS_PATH]);
+
     // 좌석 클릭
     const handleSeatClick = useCallback((seatId, isReserved) => {
         if (isReserved) {
@@ -141,17 +187,31 @@ function Seats() {
     }, []);
 
     // --- 결제/예약 관련 함수들 (기존 로직 유지) ---
-    const finalizeReservation = async (paymentResult, TICKET_PRICE) => {
+    const finalizeReservation = async (paymentResult, amount) => {
         try {
             const payload = {
                 eventId: Number(eventId),
                 seatId: selectedSeatId,
                 paymentId: paymentResult.paymentId,
-                amount: TICKET_PRICE,
+                amount,
             };
-            const verifyResponse = await api.post(PAYMENT_PATH, payload);
+            // 결제 ID를 멱등 키로 사용: 타임아웃 후 재시도해도 서버는 처음 처리 결과를 돌려줍니다.
+            const verifyResponse = await api.post(PAYMENT_PATH, payload, {
+                headers: { 'Idempotency-Key': `payment-${paymentResult.paymentId}` },
+            });
+            // 202: 결제 웹훅이 예약을 확정하는 중이므로 다시 예약하지 않고 예매 내역 확인을 안내합니다.
+            if (verifyResponse.status === 202) {
+                setModal({ isOpen: true, title: '결제 완료', message: verifyResponse.data || '예매를 확정하는 중입니다. 잠시 후 예매 내역을 확인해 주세요.', isError: false });
+                setSelectedSeatId(null);
+                return;
+            }
             if (verifyResponse.status !== 200) throw new Error("결제 검증 실패(위변조 가능성)");
-            const response = await api.post(RESERVE_PATH, payload);
+            // 홀드해 둔 좌석은 결제 검증 단계에서 바로 예약으로 전환됩니다.
+            const response = verifyResponse.data?.reservationId
+                ? { status: 201, data: verifyResponse.data }
+                : await api.post(RESERVE_PATH, payload, {
+                    headers: { 'Idempotency-Key': `reservation-${paymentResult.paymentId}` },
+                });
             if (response.status === 201) {
                 const successMessage = response.data.message || `좌석 ${selectedSeatId} 예매가 성공적으로 완료되었습니다.\n[결제 ID: ${paymentResult.paymentId}]`;
                 setModal({ isOpen: true, title: '결제 및 예매 성공!', message: successMessage, isError: false });
@@ -180,29 +240,50 @@ function Seats() {
         setIsReserving(true);
         const selectedSeat = seats.find(s => s.id === selectedSeatId);
         const seatNumber = selectedSeat ? selectedSeat.number : '선택된 좌석';
+        // 결제 금액은 좌석 맵의 가격 등급에서 가져옵니다. (서버가 좌석 가격과 다시 대조)
+        const amount = selectedSeat ? selectedSeat.price : null;
+        if (!amount) {
+            setModal({ isOpen: true, title: '결제 불가', message: '좌석 가격 정보를 불러오지 못했습니다. 새로고침 후 다시 시도해 주세요.', isError: true });
+            setIsReserving(false);
+            return;
+        }
         const orderName = `이벤트 ${eventId} - 좌석 ${seatNumber} 예약`;
         const paymentId = `${Date.now()}-${Math.floor(Math.random() * 1000000)}`;
 
+        // 결제하는 동안 다른 사용자가 좌석을 가져가지 않도록 먼저 홀드합니다.
+        try {
+            // 결제 ID를 함께 보내 두면 브라우저가 결제 완료 호출을 못 하더라도 결제 웹훅으로 예약이 확정됩니다.
+            await api.post(HOLD_PATH, { eventId: Number(eventId), seatId: selectedSeatId, paymentId });
+        } catch (error) {
+            const status = error.response ? error.response.status : null;
+            const message = typeof error.response?.data === 'string' ? error.response.data : '좌석을 확보하지 못했습니다. 다른 좌석을 선택해 주세요.';
+            setModal({ isOpen: true, title: status === 409 ? '예매 불가' : '좌석 확보 실패', message, isError: true });
+            setIsReserving(false);
+            await fetchSeats();
+            return;
+        }
+
         try {
             const response = await PortOne.requestPayment({
                 channelKey: PORTONE_CHANNEL_KEY,
                 storeId: STORE_ID,
                 paymentId,
                 orderId: `order_${Date.now()}_${eventId}_${selectedSeatId}`,
-                totalAmount: TICKET_PRICE,
+                totalAmount: amount,
                 orderName,
-                product: { name: orderName, amount: TICKET_PRICE },
+                product: { name: orderName, amount },
                 customer: { fullName: '예매 고객', phoneNumber: "01052591381", email: 'buyer.test@example.com' },
                 payMethod: "CARD",
                 currency: "CURRENCY_KRW",
             });
             if (response.code) {
+                api.delete(`${HOLD_PATH}/${eventId}/${selectedSeatId}`).catch(() => {});
                 setModal({ isOpen: true, title: '결제를 취소하였습니다', message: '', isError: false });
                 setIsReserving(false);
                 return;
             }
             if (response.paymentId) {
-                await finalizeReservation(response, TICKET_PRICE);
+                await finalizeReservation(response, amount);
             } else {
                 let title = '결제 실패';
                 let message = `결제에 실패했습니다. (코드: ${response.code})\n` + (response.message || '다시 시도해 주세요.');
@@ -231,11 +312,13 @@ function Seats() {
         );
     }
 
+    const priceRange = formatPriceRange(seats);
+
     return (
         <div className="container mx-auto p-4 sm:p-6 text-center bg-gray-900 min-h-screen">
             <Modal isOpen={modal.isOpen} title={modal.title} message={modal.message} onClose={closeModal} isError={modal.isError} />
 
-            <h2 className="text-3xl font-bold text-white mb-6">이벤트 {eventId} 좌석 선택 ({TICKET_PRICE.toLocaleString()}원)</h2>
+            <h2 className="text-3xl font-bold text-white mb-6">이벤트 {eventId} 좌석 선택{priceRange && ` (${priceRange})`}</h2>
 
             <div className="flex justify-center items-center gap-4 mb-8 p-3 bg-gray-800 rounded-lg max-w-lg mx-auto shadow-md">
                 <p className="text-lg text-gray-400">선택된 좌석 ID:</p>
@@ -274,7 +357,7 @@ function Seats() {
                             </svg>
                             결제 요청 중...
                         </div>
-                    ) : selectedSeatId ? `${selectedSeatId}번 좌석 결제 후 예매 확정 (${TICKET_PRICE.toLocaleString()}원)` : '좌석을 선택하세요'}
+                    ) : selectedSeatId ? `${selectedSeatId}번 좌석 결제 후 예매 확정 (${(seats.find(s => s.id === selectedSeatId)?.price ?? 0).toLocaleString()}원)` : '좌석을 선택하세요'}
                 </button>
             </div>
             <p className="text-xs text-gray-500 mt-4">좌석 상태는 10초마다 자동으로 업데이트됩니다 (API 폴링).</p>